@@ -0,0 +1,990 @@
+package net.coderodde.util.list;
+
+import java.util.AbstractList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * This class implements a linked array list specialized for {@code boolean}
+ * values. Each node packs its values as bits into {@code long} words and
+ * caches the amount of {@code true} values it holds next to its size.
+ * Positional insertions and removals shift the bits of a single node word by
+ * word. Thanks to the cached counts, {@link #rank(int)} and
+ * {@link #select(int)} skip whole nodes, and only scan the words of the one
+ * node they end up in. The node chain obeys the same invariants as that of
+ * {@link LinkedArrayList}: no node other than the only one is empty, and no
+ * node other than the head or tail node holds less than half of the degree
+ * of values.
+ * <p>
+ * This list is not a {@link java.util.List}. {@link #asList()} returns a
+ * boxed view for the code expecting one.
+ *
+ * @author  Rodion "rodde" Efremov
+ * @version 1.6
+ */
+public class BooleanLinkedArrayList {
+    
+    /**
+     * The default degree, in bits.
+     */
+    static final int DEFAULT_DEGREE = 1024;
+    
+    /**
+     * This static class implements the nodes of
+     * {@code BooleanLinkedArrayList}. The value with local index {@code i} is
+     * the bit {@code i % 64} of the word {@code i / 64}. The bits at and after
+     * local index {@code size} are always zero.
+     */
+    static final class Node {
+        
+        /**
+         * The words holding the bits.
+         */
+        final long[] words;
+        
+        /**
+         * The amount of values in this node.
+         */
+        int size;
+        
+        /**
+         * The amount of {@code true} values in this node.
+         */
+        int ones;
+        
+        Node prev;
+        Node next;
+        
+        Node(int degree) {
+            this.words = new long[(degree + 63) >>> 6];
+        }
+        
+        boolean get(int index) {
+            return (words[index >>> 6] & (1L << index)) != 0;
+        }
+        
+        /**
+         * Inserts {@code value} at local index {@code index}, shifting the
+         * bits at and after it one position up. The node must not be full.
+         *
+         * @param index the local insertion index.
+         * @param value the value to insert.
+         */
+        void insert(int index, boolean value) {
+            final int word = index >>> 6;
+            
+            for (int i = size >>> 6; i > word; --i) {
+                words[i] = (words[i] << 1) | (words[i - 1] >>> 63);
+            }
+            
+            long lowMask = (1L << index) - 1;
+            long bits = words[word];
+            words[word] = (bits & lowMask) | ((bits & ~lowMask) << 1);
+            
+            if (value) {
+                words[word] |= 1L << index;
+                ++ones;
+            }
+            
+            ++size;
+        }
+        
+        /**
+         * Removes the value at local index {@code index}, shifting the bits
+         * after it one position down.
+         *
+         * @param  index the local index of the value to remove.
+         * @return the removed value.
+         */
+        boolean removeAt(int index) {
+            final int word = index >>> 6;
+            final int lastWord = (size - 1) >>> 6;
+            long bits = words[word];
+            boolean ret = (bits & (1L << index)) != 0;
+            long lowMask = (1L << index) - 1;
+            words[word] = (bits & lowMask) | ((bits >>> 1) & ~lowMask);
+            
+            for (int i = word; i < lastWord; ++i) {
+                words[i] |= words[i + 1] << 63;
+                words[i + 1] >>>= 1;
+            }
+            
+            if (ret) {
+                --ones;
+            }
+            
+            --size;
+            return ret;
+        }
+        
+        /**
+         * Returns the amount of {@code true} values with local indices less
+         * than {@code index}.
+         *
+         * @param  index the local index.
+         * @return the amount of {@code true} values before {@code index}.
+         */
+        int rank(int index) {
+            final int word = index >>> 6;
+            int ret = 0;
+            
+            for (int i = 0; i < word; ++i) {
+                ret += Long.bitCount(words[i]);
+            }
+            
+            if ((index & 63) != 0) {
+                ret += Long.bitCount(words[word] & ((1L << index) - 1));
+            }
+            
+            return ret;
+        }
+        
+        /**
+         * Returns the local index of the {@code k}th {@code true} value,
+         * counting from zero. This node must hold more than {@code k}
+         * {@code true} values.
+         *
+         * @param  k the rank of the value.
+         * @return the local index of the value.
+         */
+        int select(int k) {
+            int word = 0;
+            int count;
+            
+            while ((count = Long.bitCount(words[word])) <= k) {
+                k -= count;
+                ++word;
+            }
+            
+            long bits = words[word];
+            
+            for (int i = 0; i < k; ++i) {
+                // Clear the lowest set bit.
+                bits &= bits - 1;
+            }
+            
+            return (word << 6) + Long.numberOfTrailingZeros(bits);
+        }
+        
+        /**
+         * Appends {@code count} values of {@code source} starting from the
+         * local index {@code fromIndex} to this node.
+         *
+         * @param source    the node to copy the values from.
+         * @param fromIndex the local index of the first value to copy.
+         * @param count     the amount of values to copy.
+         */
+        void appendBits(Node source, int fromIndex, int count) {
+            while (count > 0) {
+                int length = Math.min(64, count);
+                long bits = readBits(source.words, fromIndex, length);
+                writeBits(words, size, bits, length);
+                ones += Long.bitCount(bits);
+                size += length;
+                fromIndex += length;
+                count -= length;
+            }
+        }
+        
+        /**
+         * Removes the first {@code count} values of this node.
+         *
+         * @param count the amount of values to remove.
+         */
+        void removeFirst(int count) {
+            ones -= rank(count);
+            int remaining = size - count;
+            
+            // Copy front to back. A chunk is read before the words it
+            // overwrites are read again.
+            for (int i = 0; i < remaining; i += 64) {
+                int length = Math.min(64, remaining - i);
+                writeBits(words, i, readBits(words, count + i, length), length);
+            }
+            
+            clearFrom(remaining);
+            size = remaining;
+        }
+        
+        /**
+         * Removes the values from local index {@code fromIndex} on.
+         *
+         * @param fromIndex the local index of the first value to remove.
+         */
+        void removeFrom(int fromIndex) {
+            ones = rank(fromIndex);
+            clearFrom(fromIndex);
+            size = fromIndex;
+        }
+        
+        private void clearFrom(int fromIndex) {
+            int word = fromIndex >>> 6;
+            
+            if ((fromIndex & 63) != 0) {
+                words[word++] &= (1L << fromIndex) - 1;
+            }
+            
+            for (; word < words.length; ++word) {
+                words[word] = 0L;
+            }
+        }
+    }
+    
+    /**
+     * The degree of the nodes of this list, in bits.
+     */
+    private final int degree;
+    
+    /**
+     * The amount of values in this list.
+     */
+    private int size;
+    
+    /**
+     * The amount of {@code true} values in this list.
+     */
+    private int ones;
+    
+    /**
+     * The head node of this list.
+     */
+    private Node head;
+    
+    /**
+     * The tail node of this list.
+     */
+    private Node tail;
+    
+    /**
+     * The modification counter.
+     */
+    private int modCount;
+    
+    /**
+     * The node of the most recent search, or {@code null} if the global
+     * offsets may have changed since.
+     */
+    private Node finger;
+    
+    /**
+     * The global index of the first value in {@code finger}.
+     */
+    private int fingerOffset;
+    
+    /**
+     * Used for searching a value.
+     */
+    private Node searchNode;
+    
+    /**
+     * Used for searching a value.
+     */
+    private int searchLocalIndex;
+    
+    /**
+     * Constructs a new, empty list with given degree.
+     *
+     * @param degree the amount of values a node can hold.
+     * @throws IllegalArgumentException if {@code degree} is too small.
+     */
+    public BooleanLinkedArrayList(int degree) {
+        if (degree < LinkedArrayList.MINIMUM_DEGREE) {
+            throw new IllegalArgumentException(
+            "The input degree (" + degree + ") is too small. Should be at " +
+            "least " + LinkedArrayList.MINIMUM_DEGREE + ".");
+        }
+        
+        this.degree = degree;
+        this.head = new Node(degree);
+        this.tail = head;
+    }
+    
+    /**
+     * Constructs a new, empty list with default degree.
+     */
+    public BooleanLinkedArrayList() {
+        this(DEFAULT_DEGREE);
+    }
+    
+    /**
+     * Appends {@code value} to the tail of this list.
+     *
+     * @param  value the value to append.
+     * @return {@code true}.
+     */
+    public boolean add(boolean value) {
+        if (tail.size == degree) {
+            linkNode(tail, new Node(degree));
+        }
+        
+        if (value) {
+            tail.words[tail.size >>> 6] |= 1L << tail.size;
+            ++tail.ones;
+            ++ones;
+        }
+        
+        ++tail.size;
+        ++size;
+        ++modCount;
+        return true;
+    }
+    
+    /**
+     * Inserts {@code value} between the values with indices
+     * {@code index - 1} and {@code index}.
+     *
+     * @param index the insertion index.
+     * @param value the value to insert.
+     * @throws IndexOutOfBoundsException if the index is invalid.
+     */
+    public void add(int index, boolean value) {
+        checkIndexForAddition(index);
+        
+        if (index == size) {
+            add(value);
+            return;
+        }
+        
+        searchElement(index);
+        Node node = searchNode;
+        int localIndex = searchLocalIndex;
+        
+        if (node.size == degree) {
+            // Split the node in halves.
+            Node newnode = new Node(degree);
+            int half = degree >>> 1;
+            newnode.appendBits(node, half, degree - half);
+            node.removeFrom(half);
+            linkNode(node, newnode);
+            
+            if (localIndex > half) {
+                node = newnode;
+                localIndex -= half;
+            }
+        }
+        
+        node.insert(localIndex, value);
+        
+        if (value) {
+            ++ones;
+        }
+        
+        ++size;
+        ++modCount;
+        finger = null;
+    }
+    
+    /**
+     * Returns a boxed {@link java.util.List} view of this list. The changes
+     * made through the view are reflected in this list and vice versa.
+     *
+     * @return a boxed view.
+     */
+    public List<Boolean> asList() {
+        return new BoxedList();
+    }
+    
+    /**
+     * Checks that this list maintains the invariants of the node chain, and
+     * that the cached counts of {@code true} values are correct.
+     *
+     * @throws IllegalStateException if this list is not healthy.
+     */
+    public void checkHealth() {
+        if (head.prev != null || tail.next != null) {
+            throw new IllegalStateException("Broken end nodes.");
+        }
+        
+        int s = 0;
+        int o = 0;
+        
+        for (Node node = head; node != null; node = node.next) {
+            if (node.next != null && node.next.prev != node) {
+                throw new IllegalStateException("Broken node links.");
+            }
+            
+            if (node.size == 0 && head != tail) {
+                throw new IllegalStateException("Empty node encountered.");
+            }
+            
+            if (node != head && node != tail && node.size < degree / 2) {
+                throw new IllegalStateException(
+                        "Underfull node encountered: " + node.size +
+                        " elements, degree " + degree + ".");
+            }
+            
+            int nodeOnes = 0;
+            
+            for (long word : node.words) {
+                nodeOnes += Long.bitCount(word);
+            }
+            
+            if (nodeOnes != node.ones || node.rank(node.size) != node.ones) {
+                throw new IllegalStateException(
+                        "Wrong count of true values in a node.");
+            }
+            
+            s += node.size;
+            o += node.ones;
+        }
+        
+        if (size != s) {
+            throw new IllegalStateException("Wrong accumulated size: " +
+                    s + "; list reports containing " + size + " elements.");
+        }
+        
+        if (ones != o) {
+            throw new IllegalStateException("Wrong count of true values: " +
+                    o + "; list reports containing " + ones + ".");
+        }
+    }
+    
+    /**
+     * Makes this list empty.
+     */
+    public void clear() {
+        head = new Node(degree);
+        tail = head;
+        size = 0;
+        ones = 0;
+        ++modCount;
+        finger = null;
+    }
+    
+    /**
+     * Returns the amount of {@code true} values in this list.
+     *
+     * @return the amount of {@code true} values.
+     */
+    public int countOnes() {
+        return ones;
+    }
+    
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+        
+        if (!(o instanceof BooleanLinkedArrayList)) {
+            return false;
+        }
+        
+        BooleanLinkedArrayList other = (BooleanLinkedArrayList) o;
+        
+        if (size != other.size || ones != other.ones) {
+            return false;
+        }
+        
+        Node otherNode = other.head;
+        int otherIndex = 0;
+        
+        for (Node node = head; node != null; node = node.next) {
+            for (int i = 0; i < node.size; ++i) {
+                if (otherIndex == otherNode.size) {
+                    otherNode = otherNode.next;
+                    otherIndex = 0;
+                }
+                
+                if (node.get(i) != otherNode.get(otherIndex++)) {
+                    return false;
+                }
+            }
+        }
+        
+        return true;
+    }
+    
+    /**
+     * Returns the value at index {@code index}.
+     *
+     * @param  index the index of the value.
+     * @return the value.
+     * @throws IndexOutOfBoundsException if the index is invalid.
+     */
+    public boolean get(int index) {
+        checkIndexForAccess(index);
+        searchElement(index);
+        return searchNode.get(searchLocalIndex);
+    }
+    
+    /**
+     * Returns the degree of the nodes of this list, in bits.
+     *
+     * @return the degree.
+     */
+    public int getDegree() {
+        return degree;
+    }
+    
+    /**
+     * Returns the same hash code as a {@link java.util.List} holding the
+     * boxed values of this list.
+     *
+     * @return the hash code.
+     */
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        
+        for (Node node = head; node != null; node = node.next) {
+            for (int i = 0; i < node.size; ++i) {
+                hash = 31 * hash + Boolean.hashCode(node.get(i));
+            }
+        }
+        
+        return hash;
+    }
+    
+    /**
+     * Returns {@code true} if this list is empty.
+     *
+     * @return {@code true} if this list is empty.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+    
+    /**
+     * Returns the amount of {@code true} values with indices less than
+     * {@code index}. The nodes are skipped using their cached counts,
+     * starting from the nearer end of this list.
+     *
+     * @param  index the index, from zero to the size of this list.
+     * @return the amount of {@code true} values before {@code index}.
+     * @throws IndexOutOfBoundsException if the index is invalid.
+     */
+    public int rank(int index) {
+        checkIndexForAddition(index);
+        
+        if (index <= size - index) {
+            int ret = 0;
+            Node node = head;
+            
+            while (index > node.size) {
+                index -= node.size;
+                ret += node.ones;
+                node = node.next;
+            }
+            
+            return ret + node.rank(index);
+        }
+        
+        // Count the true values at and after 'index' from the tail.
+        int ret = ones;
+        int offset = size;
+        Node node = tail;
+        
+        while (offset - node.size > index) {
+            offset -= node.size;
+            ret -= node.ones;
+            node = node.prev;
+        }
+        
+        offset -= node.size;
+        return ret - node.ones + node.rank(index - offset);
+    }
+    
+    /**
+     * Removes the value at index {@code index}.
+     *
+     * @param  index the index of the value to remove.
+     * @return the removed value.
+     * @throws IndexOutOfBoundsException if the index is invalid.
+     */
+    public boolean removeAt(int index) {
+        checkIndexForAccess(index);
+        searchElement(index);
+        Node node = searchNode;
+        boolean ret = node.removeAt(searchLocalIndex);
+        
+        if (ret) {
+            --ones;
+        }
+        
+        --size;
+        ++modCount;
+        finger = null;
+        rebalance(node);
+        return ret;
+    }
+    
+    /**
+     * Returns the index of the {@code k}th {@code true} value of this list,
+     * counting from zero. The nodes are skipped using their cached counts,
+     * starting from the nearer end of this list.
+     *
+     * @param  k the rank of the {@code true} value to find.
+     * @return the index of the value.
+     * @throws IndexOutOfBoundsException if {@code k} is negative or not less
+     *         than {@link #countOnes()}.
+     */
+    public int select(int k) {
+        if (k < 0 || k >= ones) {
+            throw new IndexOutOfBoundsException(
+                    "The rank is out of range: " + k + ". " +
+                    "The list contains " + ones + " true values.");
+        }
+        
+        if (k < ones - k) {
+            int offset = 0;
+            Node node = head;
+            
+            while (k >= node.ones) {
+                k -= node.ones;
+                offset += node.size;
+                node = node.next;
+            }
+            
+            return offset + node.select(k);
+        }
+        
+        // Count the true values from the tail.
+        int after = ones - k;
+        int offset = size;
+        Node node = tail;
+        
+        while (after > node.ones) {
+            after -= node.ones;
+            offset -= node.size;
+            node = node.prev;
+        }
+        
+        return offset - node.size + node.select(node.ones - after);
+    }
+    
+    /**
+     * Replaces the value at index {@code index}.
+     *
+     * @param  index the index of the value to replace.
+     * @param  value the new value.
+     * @return the old value.
+     * @throws IndexOutOfBoundsException if the index is invalid.
+     */
+    public boolean set(int index, boolean value) {
+        checkIndexForAccess(index);
+        searchElement(index);
+        Node node = searchNode;
+        boolean ret = node.get(searchLocalIndex);
+        
+        if (ret != value) {
+            node.words[searchLocalIndex >>> 6] ^= 1L << searchLocalIndex;
+            int delta = value ? 1 : -1;
+            node.ones += delta;
+            ones += delta;
+        }
+        
+        return ret;
+    }
+    
+    /**
+     * Returns the amount of values in this list.
+     *
+     * @return the size of this list.
+     */
+    public int size() {
+        return size;
+    }
+    
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        String separator = "";
+        
+        for (Node node = head; node != null; node = node.next) {
+            for (int i = 0; i < node.size; ++i) {
+                sb.append(separator).append(node.get(i));
+                separator = ", ";
+            }
+        }
+        
+        return sb.append("]").toString();
+    }
+    
+    /**
+     * Returns the {@code count} bits of {@code words} starting from the bit
+     * {@code fromIndex} in the low bits of the return value.
+     *
+     * @param  words     the words to read.
+     * @param  fromIndex the index of the first bit to read.
+     * @param  count     the amount of bits to read, from 1 to 64.
+     * @return the bits read.
+     */
+    private static long readBits(long[] words, int fromIndex, int count) {
+        final int word = fromIndex >>> 6;
+        final int shift = fromIndex & 63;
+        long bits = words[word] >>> shift;
+        
+        if (shift != 0 && shift + count > 64) {
+            bits |= words[word + 1] << (64 - shift);
+        }
+        
+        return count == 64 ? bits : bits & ((1L << count) - 1);
+    }
+    
+    /**
+     * Overwrites the {@code count} bits of {@code words} starting from the
+     * bit {@code fromIndex} with the low bits of {@code bits}.
+     *
+     * @param words     the words to write.
+     * @param fromIndex the index of the first bit to write.
+     * @param bits      the bits to write.
+     * @param count     the amount of bits to write, from 1 to 64.
+     */
+    private static void writeBits(long[] words,
+                                  int fromIndex,
+                                  long bits,
+                                  int count) {
+        final int word = fromIndex >>> 6;
+        final int shift = fromIndex & 63;
+        final long mask = count == 64 ? -1L : (1L << count) - 1;
+        bits &= mask;
+        words[word] = (words[word] & ~(mask << shift)) | (bits << shift);
+        
+        if (shift != 0 && shift + count > 64) {
+            long highMask = mask >>> (64 - shift);
+            words[word + 1] = (words[word + 1] & ~highMask) |
+                              (bits >>> (64 - shift));
+        }
+    }
+    
+    private void checkIndexForAccess(int index) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException(
+                    "The index is negative: " + index);
+        }
+        
+        if (index >= size) {
+            throw new IndexOutOfBoundsException(
+                    "The index is too large: " + index + ". " +
+                    "The size of this list is " + size + ".");
+        }
+    }
+    
+    private void checkIndexForAddition(int index) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException(
+                    "The index is negative: " + index);
+        }
+        
+        if (index > size) {
+            throw new IndexOutOfBoundsException(
+                    "The index is too large: " + index + ". " +
+                    "The size of this list is " + size + ".");
+        }
+    }
+    
+    /**
+     * Loads the node and local index of the value at global index
+     * {@code index}, starting from the nearest of the head node, the tail
+     * node and the finger.
+     *
+     * @param index the global index of the value.
+     */
+    private void searchElement(int index) {
+        Node node;
+        int offset;
+        int tailOffset = size - tail.size;
+        
+        if (index >= tailOffset) {
+            node = tail;
+            offset = tailOffset;
+        } else if (finger != null && Math.abs(index - fingerOffset)
+                                     < Math.min(index, tailOffset - index)) {
+            node = finger;
+            offset = fingerOffset;
+        } else if (index < tailOffset - index) {
+            node = head;
+            offset = 0;
+        } else {
+            node = tail;
+            offset = tailOffset;
+        }
+        
+        while (index >= offset + node.size) {
+            offset += node.size;
+            node = node.next;
+        }
+        
+        while (index < offset) {
+            node = node.prev;
+            offset -= node.size;
+        }
+        
+        searchNode = node;
+        searchLocalIndex = index - offset;
+        finger = node;
+        fingerOffset = offset;
+    }
+    
+    /**
+     * Restores the node invariants for {@code node} after a removal. An empty
+     * node is unlinked. An underfull node is merged with a neighbor if they
+     * fit in one node, and otherwise borrows values from its successor.
+     *
+     * @param node the node to rebalance.
+     */
+    private void rebalance(Node node) {
+        Node prev = node.prev;
+        Node next = node.next;
+        
+        if (node.size == 0) {
+            if (prev != null || next != null) {
+                unlinkNode(node);
+            }
+            
+            return;
+        }
+        
+        if (prev == null || next == null || node.size >= degree / 2) {
+            return;
+        }
+        
+        boolean prevFits = prev.size + node.size <= degree;
+        boolean nextFits = next.size + node.size <= degree;
+        
+        if (prevFits && (!nextFits || prev.size <= next.size)) {
+            prev.appendBits(node, 0, node.size);
+            unlinkNode(node);
+        } else if (nextFits) {
+            node.appendBits(next, 0, next.size);
+            unlinkNode(next);
+        } else {
+            // Both neighbors are more than half full. Even out with 'next'.
+            int count = (next.size - node.size) / 2;
+            node.appendBits(next, 0, count);
+            next.removeFirst(count);
+        }
+    }
+    
+    private void linkNode(Node predecessor, Node node) {
+        node.prev = predecessor;
+        node.next = predecessor.next;
+        predecessor.next = node;
+        
+        if (node.next != null) {
+            node.next.prev = node;
+        } else {
+            tail = node;
+        }
+    }
+    
+    private void unlinkNode(Node node) {
+        if (node.prev == null) {
+            head = node.next;
+        } else {
+            node.prev.next = node.next;
+        }
+        
+        if (node.next == null) {
+            tail = node.prev;
+        } else {
+            node.next.prev = node.prev;
+        }
+    }
+    
+    /**
+     * Implements the boxed {@code List} view of this list.
+     */
+    private final class BoxedList extends AbstractList<Boolean> {
+        
+        @Override
+        public boolean add(Boolean element) {
+            return BooleanLinkedArrayList.this.add(element);
+        }
+        
+        @Override
+        public void add(int index, Boolean element) {
+            BooleanLinkedArrayList.this.add(index, element);
+        }
+        
+        @Override
+        public void clear() {
+            BooleanLinkedArrayList.this.clear();
+        }
+        
+        @Override
+        public Boolean get(int index) {
+            return BooleanLinkedArrayList.this.get(index);
+        }
+        
+        @Override
+        public Iterator<Boolean> iterator() {
+            return new BoxedIterator();
+        }
+        
+        @Override
+        public Boolean remove(int index) {
+            return removeAt(index);
+        }
+        
+        @Override
+        public Boolean set(int index, Boolean element) {
+            return BooleanLinkedArrayList.this.set(index, element);
+        }
+        
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+    
+    /**
+     * Implements a <b>fail-fast</b> iterator over the boxed values of this
+     * list. The positional accesses are fast thanks to the finger.
+     */
+    private final class BoxedIterator implements Iterator<Boolean> {
+        
+        /**
+         * The index of the next value.
+         */
+        private int index;
+        
+        /**
+         * Whether there is a value to remove.
+         */
+        private boolean canRemove;
+        
+        /**
+         * The expected mod count.
+         */
+        private int expectedModCount = modCount;
+        
+        @Override
+        public boolean hasNext() {
+            return index < size;
+        }
+        
+        @Override
+        public Boolean next() {
+            checkForConcurrentModification();
+            
+            if (index == size) {
+                throw new NoSuchElementException("Iteration exceeded.");
+            }
+            
+            canRemove = true;
+            return get(index++);
+        }
+        
+        @Override
+        public void remove() {
+            if (!canRemove) {
+                throw new IllegalStateException("There is no value to remove.");
+            }
+            
+            checkForConcurrentModification();
+            removeAt(--index);
+            canRemove = false;
+            expectedModCount = modCount;
+        }
+        
+        private void checkForConcurrentModification() {
+            if (expectedModCount != modCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+}
@@ -0,0 +1,1091 @@
+package net.coderodde.util.list;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * This class implements a linked array list specialized for {@code long}
+ * values that compresses its nodes. A node stores its first value as is and
+ * each following value as the difference to its predecessor, encoded as a
+ * zig-zag varint. Sorted sequences of close values, such as posting lists of
+ * IDs, thus take a byte or two per value. Unsorted values are supported, but
+ * compress worse.
+ * <p>
+ * The nodes are decoded lazily one at a time: {@link #get(int)} decodes the
+ * node holding the requested value into a cache that serves the following
+ * accesses to the same node, and the iterator decodes the values as it
+ * reaches them. Appending only encodes the new value, and so runs in
+ * amortized constant time. Positional insertions, removals and updates
+ * decode and re-encode one node. The node chain obeys the same invariants as
+ * that of {@link LinkedArrayList}: no node other than the only one is empty,
+ * and no node other than the head or tail node holds less than half of the
+ * degree of values.
+ * <p>
+ * This list is not a {@link java.util.List}. {@link #asList()} returns a
+ * boxed view for the code expecting one.
+ *
+ * @author  Rodion "rodde" Efremov
+ * @version 1.6
+ */
+public class DeltaLongLinkedArrayList {
+    
+    /**
+     * The default degree.
+     */
+    static final int DEFAULT_DEGREE = 128;
+    
+    /**
+     * The initial capacity of the byte array of a node.
+     */
+    private static final int INITIAL_NODE_CAPACITY = 16;
+    
+    /**
+     * The maximum length of a varint.
+     */
+    private static final int MAXIMUM_VARINT_LENGTH = 10;
+    
+    /**
+     * This static class implements the nodes of
+     * {@code DeltaLongLinkedArrayList}. The first {@code length} bytes of
+     * {@code data} hold the {@code size - 1} encoded deltas that follow
+     * {@code first}.
+     */
+    static final class Node {
+        
+        /**
+         * The encoded deltas.
+         */
+        byte[] data = new byte[INITIAL_NODE_CAPACITY];
+        
+        /**
+         * The amount of used bytes in {@code data}.
+         */
+        int length;
+        
+        /**
+         * The amount of values in this node.
+         */
+        int size;
+        
+        /**
+         * The first value of this node.
+         */
+        long first;
+        
+        /**
+         * The last value of this node. Appending encodes the difference to
+         * it.
+         */
+        long last;
+        
+        Node prev;
+        Node next;
+        
+        /**
+         * Appends {@code value} to this node.
+         *
+         * @param value the value to append.
+         */
+        void append(long value) {
+            if (size == 0) {
+                first = value;
+            } else {
+                writeDelta(value - last);
+            }
+            
+            last = value;
+            ++size;
+        }
+        
+        /**
+         * Appends all the values of {@code other} to this node. The deltas of
+         * {@code other} are copied as is, since only its first value needs a
+         * new encoding.
+         *
+         * @param other the node whose values to append.
+         */
+        void appendNode(Node other) {
+            append(other.first);
+            ensureCapacity(other.length);
+            System.arraycopy(other.data, 0, data, length, other.length);
+            length += other.length;
+            size += other.size - 1;
+            last = other.last;
+        }
+        
+        /**
+         * Makes this node hold the {@code count} values of {@code values}
+         * starting from {@code fromIndex}.
+         *
+         * @param values    the values to encode.
+         * @param fromIndex the index of the first value to encode.
+         * @param count     the amount of values to encode.
+         */
+        void load(long[] values, int fromIndex, int count) {
+            length = 0;
+            size = 0;
+            
+            for (int i = 0; i < count; ++i) {
+                append(values[fromIndex + i]);
+            }
+        }
+        
+        /**
+         * Decodes the values of this node into the beginning of
+         * {@code values}.
+         *
+         * @param  values the array to decode into.
+         * @return the amount of bytes decoded.
+         */
+        int decodeTo(long[] values) {
+            if (size == 0) {
+                return 0;
+            }
+            
+            final byte[] data = this.data;
+            long value = first;
+            int position = 0;
+            values[0] = value;
+            
+            for (int i = 1; i < size; ++i) {
+                long raw = 0L;
+                int shift = 0;
+                byte b;
+                
+                do {
+                    b = data[position++];
+                    raw |= (long)(b & 0x7f) << shift;
+                    shift += 7;
+                } while (b < 0);
+                
+                value += decodeZigZag(raw);
+                values[i] = value;
+            }
+            
+            return position;
+        }
+        
+        /**
+         * Shrinks the byte array of this node to the used bytes.
+         */
+        void trim() {
+            if (data.length > length) {
+                data = Arrays.copyOf(data, length);
+            }
+        }
+        
+        private void writeDelta(long delta) {
+            ensureCapacity(MAXIMUM_VARINT_LENGTH);
+            long raw = (delta << 1) ^ (delta >> 63);
+            
+            while ((raw & ~0x7fL) != 0L) {
+                data[length++] = (byte)((raw & 0x7f) | 0x80);
+                raw >>>= 7;
+            }
+            
+            data[length++] = (byte) raw;
+        }
+        
+        private void ensureCapacity(int extra) {
+            if (data.length - length < extra) {
+                data = Arrays.copyOf(data, Math.max(2 * data.length,
+                                                    length + extra));
+            }
+        }
+    }
+    
+    /**
+     * The degree of the nodes of this list.
+     */
+    private final int degree;
+    
+    /**
+     * The amount of values in this list.
+     */
+    private int size;
+    
+    /**
+     * The head node of this list.
+     */
+    private Node head;
+    
+    /**
+     * The tail node of this list.
+     */
+    private Node tail;
+    
+    /**
+     * The modification counter.
+     */
+    private int modCount;
+    
+    /**
+     * Counts the nodes re-encoded by {@link #set(int, long)}. The iterators
+     * compare it to notice that the bytes of their node may have changed.
+     */
+    private int encodeCount;
+    
+    /**
+     * The node of the most recent search, or {@code null} if the global
+     * offsets may have changed since.
+     */
+    private Node finger;
+    
+    /**
+     * The global index of the first value in {@code finger}.
+     */
+    private int fingerOffset;
+    
+    /**
+     * Used for searching a value.
+     */
+    private Node searchNode;
+    
+    /**
+     * Used for searching a value.
+     */
+    private int searchLocalIndex;
+    
+    /**
+     * The decoded values of {@code decodedNode}. Has room for one extra value
+     * so that an insertion into a full node may be done before splitting it.
+     */
+    private final long[] decoded;
+    
+    /**
+     * The node whose values are in {@code decoded}, or {@code null}.
+     */
+    private Node decodedNode;
+    
+    /**
+     * Constructs a new, empty list with given degree.
+     *
+     * @param degree the amount of values a node can hold.
+     * @throws IllegalArgumentException if {@code degree} is too small.
+     */
+    public DeltaLongLinkedArrayList(int degree) {
+        if (degree < LinkedArrayList.MINIMUM_DEGREE) {
+            throw new IllegalArgumentException(
+            "The input degree (" + degree + ") is too small. Should be at " +
+            "least " + LinkedArrayList.MINIMUM_DEGREE + ".");
+        }
+        
+        this.degree = degree;
+        this.decoded = new long[degree + 1];
+        this.head = new Node();
+        this.tail = head;
+    }
+    
+    /**
+     * Constructs a new, empty list with default degree.
+     */
+    public DeltaLongLinkedArrayList() {
+        this(DEFAULT_DEGREE);
+    }
+    
+    /**
+     * Appends {@code value} to the tail of this list in amortized constant
+     * time.
+     *
+     * @param  value the value to append.
+     * @return {@code true}.
+     */
+    public boolean add(long value) {
+        appendValue(value);
+        ++size;
+        ++modCount;
+        return true;
+    }
+    
+    /**
+     * Inserts {@code value} between the values with indices
+     * {@code index - 1} and {@code index}.
+     *
+     * @param index the insertion index.
+     * @param value the value to insert.
+     * @throws IndexOutOfBoundsException if the index is invalid.
+     */
+    public void add(int index, long value) {
+        checkIndexForAddition(index);
+        
+        if (index == size) {
+            add(value);
+            return;
+        }
+        
+        searchElement(index);
+        Node node = searchNode;
+        int localIndex = searchLocalIndex;
+        long[] values = decode(node);
+        System.arraycopy(values, localIndex,
+                         values, localIndex + 1,
+                         node.size - localIndex);
+        values[localIndex] = value;
+        int count = node.size + 1;
+        
+        if (count > degree) {
+            // Split the node in halves. The cache stays valid for 'node'.
+            int half = count >>> 1;
+            Node newnode = new Node();
+            newnode.load(values, half, count - half);
+            node.load(values, 0, half);
+            linkNode(node, newnode);
+        } else {
+            node.load(values, 0, count);
+        }
+        
+        ++size;
+        ++modCount;
+        finger = null;
+    }
+    
+    /**
+     * Appends all the {@code values} to the tail of this list.
+     *
+     * @param  values the values to append.
+     * @return {@code true} if this list changed.
+     */
+    public boolean addAll(long... values) {
+        for (long value : values) {
+            appendValue(value);
+        }
+        
+        size += values.length;
+        ++modCount;
+        return values.length > 0;
+    }
+    
+    /**
+     * Returns a boxed {@link java.util.List} view of this list. The changes
+     * made through the view are reflected in this list and vice versa.
+     *
+     * @return a boxed view.
+     */
+    public List<Long> asList() {
+        return new BoxedList();
+    }
+    
+    /**
+     * Checks that this list maintains the invariants of the node chain, and
+     * that the encoding of each node is consistent.
+     *
+     * @throws IllegalStateException if this list is not healthy.
+     */
+    public void checkHealth() {
+        if (head.prev != null || tail.next != null) {
+            throw new IllegalStateException("Broken end nodes.");
+        }
+        
+        long[] values = new long[degree];
+        int s = 0;
+        
+        for (Node node = head; node != null; node = node.next) {
+            if (node.next != null && node.next.prev != node) {
+                throw new IllegalStateException("Broken node links.");
+            }
+            
+            if (node.size == 0 && head != tail) {
+                throw new IllegalStateException("Empty node encountered.");
+            }
+            
+            if (node.size > degree) {
+                throw new IllegalStateException("Overfull node encountered.");
+            }
+            
+            if (node != head && node != tail && node.size < degree / 2) {
+                throw new IllegalStateException(
+                        "Underfull node encountered: " + node.size +
+                        " elements, degree " + degree + ".");
+            }
+            
+            if (node.decodeTo(values) != node.length) {
+                throw new IllegalStateException("Wrong encoded length.");
+            }
+            
+            if (node.size > 0 && values[node.size - 1] != node.last) {
+                throw new IllegalStateException("Wrong last value.");
+            }
+            
+            s += node.size;
+        }
+        
+        if (size != s) {
+            throw new IllegalStateException("Wrong accumulated size: " +
+                    s + "; list reports containing " + size + " elements.");
+        }
+        
+        if (decodedNode != null) {
+            decodedNode.decodeTo(values);
+            
+            for (int i = 0; i < decodedNode.size; ++i) {
+                if (values[i] != decoded[i]) {
+                    throw new IllegalStateException("Stale decoded node.");
+                }
+            }
+        }
+    }
+    
+    /**
+     * Makes this list empty.
+     */
+    public void clear() {
+        head = new Node();
+        tail = head;
+        size = 0;
+        ++modCount;
+        finger = null;
+        decodedNode = null;
+    }
+    
+    /**
+     * Returns {@code true} if this list contains {@code value}.
+     *
+     * @param  value the value to search.
+     * @return {@code true} if {@code value} is in this list.
+     */
+    public boolean contains(long value) {
+        return indexOf(value) >= 0;
+    }
+    
+    /**
+     * Returns the amount of bytes the encoded deltas of this list occupy.
+     *
+     * @return the amount of encoded bytes.
+     */
+    public long encodedLength() {
+        long ret = 0L;
+        
+        for (Node node = head; node != null; node = node.next) {
+            ret += node.length;
+        }
+        
+        return ret;
+    }
+    
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+        
+        if (!(o instanceof DeltaLongLinkedArrayList)) {
+            return false;
+        }
+        
+        DeltaLongLinkedArrayList other = (DeltaLongLinkedArrayList) o;
+        
+        if (size != other.size) {
+            return false;
+        }
+        
+        PrimitiveIterator.OfLong iterator = iterator();
+        PrimitiveIterator.OfLong otherIterator = other.iterator();
+        
+        while (iterator.hasNext()) {
+            if (iterator.nextLong() != otherIterator.nextLong()) {
+                return false;
+            }
+        }
+        
+        return true;
+    }
+    
+    /**
+     * Passes all the values of this list to {@code action} in order.
+     *
+     * @param action the action to perform.
+     * @throws ConcurrentModificationException if {@code action} modifies this
+     *         list.
+     */
+    public void forEach(LongConsumer action) {
+        Objects.requireNonNull(action, "The action is null.");
+        iterator().forEachRemaining(action);
+    }
+    
+    /**
+     * Returns the value at index {@code index}. The node holding the value is
+     * decoded unless it was the node of the previous access.
+     *
+     * @param  index the index of the value.
+     * @return the value.
+     * @throws IndexOutOfBoundsException if the index is invalid.
+     */
+    public long get(int index) {
+        checkIndexForAccess(index);
+        searchElement(index);
+        return decode(searchNode)[searchLocalIndex];
+    }
+    
+    /**
+     * Returns the degree of the nodes of this list.
+     *
+     * @return the degree.
+     */
+    public int getDegree() {
+        return degree;
+    }
+    
+    /**
+     * Returns the same hash code as a {@link java.util.List} holding the
+     * boxed values of this list.
+     *
+     * @return the hash code.
+     */
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        PrimitiveIterator.OfLong iterator = iterator();
+        
+        while (iterator.hasNext()) {
+            hash = 31 * hash + Long.hashCode(iterator.nextLong());
+        }
+        
+        return hash;
+    }
+    
+    /**
+     * Returns the index of the first occurrence of {@code value}, or
+     * {@code -1} if there is none.
+     *
+     * @param  value the value to search.
+     * @return the index of {@code value} or {@code -1}.
+     */
+    public int indexOf(long value) {
+        PrimitiveIterator.OfLong iterator = iterator();
+        
+        for (int index = 0; iterator.hasNext(); ++index) {
+            if (iterator.nextLong() == value) {
+                return index;
+            }
+        }
+        
+        return -1;
+    }
+    
+    /**
+     * Returns {@code true} if this list is empty.
+     *
+     * @return {@code true} if this list is empty.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+    
+    /**
+     * Returns a <b>fail-fast</b> iterator over the values of this list. The
+     * iterator decodes the values as it reaches them.
+     *
+     * @return an iterator.
+     */
+    public PrimitiveIterator.OfLong iterator() {
+        return new DeltaIterator();
+    }
+    
+    /**
+     * Removes the value at index {@code index}.
+     *
+     * @param  index the index of the value to remove.
+     * @return the removed value.
+     * @throws IndexOutOfBoundsException if the index is invalid.
+     */
+    public long removeAt(int index) {
+        checkIndexForAccess(index);
+        searchElement(index);
+        Node node = searchNode;
+        int localIndex = searchLocalIndex;
+        long[] values = decode(node);
+        long ret = values[localIndex];
+        System.arraycopy(values, localIndex + 1,
+                         values, localIndex,
+                         node.size - localIndex - 1);
+        node.load(values, 0, node.size - 1);
+        --size;
+        ++modCount;
+        finger = null;
+        rebalance(node);
+        return ret;
+    }
+    
+    /**
+     * Replaces the value at index {@code index}.
+     *
+     * @param  index the index of the value to replace.
+     * @param  value the new value.
+     * @return the old value.
+     * @throws IndexOutOfBoundsException if the index is invalid.
+     */
+    public long set(int index, long value) {
+        checkIndexForAccess(index);
+        searchElement(index);
+        Node node = searchNode;
+        long[] values = decode(node);
+        long ret = values[searchLocalIndex];
+        
+        if (ret != value) {
+            values[searchLocalIndex] = value;
+            node.load(values, 0, node.size);
+            ++encodeCount;
+        }
+        
+        return ret;
+    }
+    
+    /**
+     * Returns the amount of values in this list.
+     *
+     * @return the size of this list.
+     */
+    public int size() {
+        return size;
+    }
+    
+    /**
+     * Returns a sequential stream over the values of this list.
+     *
+     * @return a stream.
+     */
+    public LongStream stream() {
+        return StreamSupport.longStream(
+                Spliterators.spliterator(iterator(),
+                                         size,
+                                         Spliterator.ORDERED |
+                                         Spliterator.NONNULL),
+                false);
+    }
+    
+    /**
+     * Returns an array holding the values of this list in order.
+     *
+     * @return an array of values.
+     */
+    public long[] toArray() {
+        long[] ret = new long[size];
+        long[] values = new long[degree];
+        int index = 0;
+        
+        for (Node node = head; node != null; node = node.next) {
+            node.decodeTo(values);
+            System.arraycopy(values, 0, ret, index, node.size);
+            index += node.size;
+        }
+        
+        return ret;
+    }
+    
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        String separator = "";
+        PrimitiveIterator.OfLong iterator = iterator();
+        
+        while (iterator.hasNext()) {
+            sb.append(separator).append(iterator.nextLong());
+            separator = ", ";
+        }
+        
+        return sb.append("]").toString();
+    }
+    
+    private static long decodeZigZag(long raw) {
+        return (raw >>> 1) ^ -(raw & 1L);
+    }
+    
+    private void appendValue(long value) {
+        if (tail.size == degree) {
+            // A full tail node is only changed by the rarer positional
+            // operations, so drop its spare capacity.
+            tail.trim();
+            linkNode(tail, new Node());
+        }
+        
+        tail.append(value);
+        
+        if (decodedNode == tail) {
+            decoded[tail.size - 1] = value;
+        }
+    }
+    
+    private void checkIndexForAccess(int index) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException(
+                    "The index is negative: " + index);
+        }
+        
+        if (index >= size) {
+            throw new IndexOutOfBoundsException(
+                    "The index is too large: " + index + ". " +
+                    "The size of this list is " + size + ".");
+        }
+    }
+    
+    private void checkIndexForAddition(int index) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException(
+                    "The index is negative: " + index);
+        }
+        
+        if (index > size) {
+            throw new IndexOutOfBoundsException(
+                    "The index is too large: " + index + ". " +
+                    "The size of this list is " + size + ".");
+        }
+    }
+    
+    /**
+     * Returns the decoded values of {@code node}, decoding them unless they
+     * are cached already.
+     *
+     * @param  node the node to decode.
+     * @return the array holding the values of {@code node}.
+     */
+    private long[] decode(Node node) {
+        if (decodedNode != node) {
+            node.decodeTo(decoded);
+            decodedNode = node;
+        }
+        
+        return decoded;
+    }
+    
+    /**
+     * Loads the node and local index of the value at global index
+     * {@code index}, starting from the nearest of the head node, the tail
+     * node and the finger.
+     *
+     * @param index the global index of the value.
+     */
+    private void searchElement(int index) {
+        Node node;
+        int offset;
+        int tailOffset = size - tail.size;
+        
+        if (index >= tailOffset) {
+            node = tail;
+            offset = tailOffset;
+        } else if (finger != null && Math.abs(index - fingerOffset)
+                                     < Math.min(index, tailOffset - index)) {
+            node = finger;
+            offset = fingerOffset;
+        } else if (index < tailOffset - index) {
+            node = head;
+            offset = 0;
+        } else {
+            node = tail;
+            offset = tailOffset;
+        }
+        
+        while (index >= offset + node.size) {
+            offset += node.size;
+            node = node.next;
+        }
+        
+        while (index < offset) {
+            node = node.prev;
+            offset -= node.size;
+        }
+        
+        searchNode = node;
+        searchLocalIndex = index - offset;
+        finger = node;
+        fingerOffset = offset;
+    }
+    
+    /**
+     * Restores the node invariants for {@code node} after a removal. An empty
+     * node is unlinked. An underfull node is merged with a neighbor if they
+     * fit in one node, and otherwise borrows values from its successor.
+     *
+     * @param node the node to rebalance.
+     */
+    private void rebalance(Node node) {
+        Node prev = node.prev;
+        Node next = node.next;
+        
+        if (node.size == 0) {
+            if (prev != null || next != null) {
+                unlinkNode(node);
+                decodedNode = null;
+            }
+            
+            return;
+        }
+        
+        if (prev == null || next == null || node.size >= degree / 2) {
+            return;
+        }
+        
+        boolean prevFits = prev.size + node.size <= degree;
+        boolean nextFits = next.size + node.size <= degree;
+        decodedNode = null;
+        
+        if (prevFits && (!nextFits || prev.size <= next.size)) {
+            prev.appendNode(node);
+            unlinkNode(node);
+        } else if (nextFits) {
+            node.appendNode(next);
+            unlinkNode(next);
+        } else {
+            // Both neighbors are more than half full. Even out with 'next'.
+            int count = (next.size - node.size) / 2;
+            long[] values = decode(next);
+            
+            for (int i = 0; i < count; ++i) {
+                node.append(values[i]);
+            }
+            
+            next.load(values, count, next.size - count);
+            decodedNode = null;
+        }
+    }
+    
+    private void linkNode(Node predecessor, Node node) {
+        node.prev = predecessor;
+        node.next = predecessor.next;
+        predecessor.next = node;
+        
+        if (node.next != null) {
+            node.next.prev = node;
+        } else {
+            tail = node;
+        }
+    }
+    
+    private void unlinkNode(Node node) {
+        if (node.prev == null) {
+            head = node.next;
+        } else {
+            node.prev.next = node.next;
+        }
+        
+        if (node.next == null) {
+            tail = node.prev;
+        } else {
+            node.next.prev = node.prev;
+        }
+    }
+    
+    /**
+     * Implements the iterator over the values of this list. The deltas are
+     * decoded straight from the byte arrays of the nodes.
+     */
+    private final class DeltaIterator implements PrimitiveIterator.OfLong {
+        
+        /**
+         * The node holding the next value.
+         */
+        private Node node = head;
+        
+        /**
+         * The local index of the next value in {@code node}.
+         */
+        private int localIndex;
+        
+        /**
+         * The position of the delta of the next value in {@code node}.
+         */
+        private int position;
+        
+        /**
+         * The most recently decoded value.
+         */
+        private long value;
+        
+        /**
+         * The amount of values iterated.
+         */
+        private int iterated;
+        
+        /**
+         * Whether there is a value to remove.
+         */
+        private boolean canRemove;
+        
+        /**
+         * The expected mod count.
+         */
+        private int expectedModCount = modCount;
+        
+        /**
+         * The expected encode count.
+         */
+        private int expectedEncodeCount = encodeCount;
+        
+        @Override
+        public boolean hasNext() {
+            return iterated < size;
+        }
+        
+        @Override
+        public long nextLong() {
+            checkForConcurrentModification();
+            
+            if (iterated == size) {
+                throw new NoSuchElementException("Iteration exceeded.");
+            }
+            
+            if (expectedEncodeCount != encodeCount) {
+                seek();
+            }
+            
+            canRemove = true;
+            ++iterated;
+            return advance();
+        }
+        
+        @Override
+        public void forEachRemaining(LongConsumer action) {
+            Objects.requireNonNull(action, "The action is null.");
+            
+            while (iterated < size) {
+                checkForConcurrentModification();
+                
+                if (expectedEncodeCount != encodeCount) {
+                    seek();
+                }
+                
+                action.accept(advance());
+                canRemove = true;
+                ++iterated;
+            }
+            
+            checkForConcurrentModification();
+        }
+        
+        @Override
+        public void remove() {
+            if (!canRemove) {
+                throw new IllegalStateException("There is no value to remove.");
+            }
+            
+            checkForConcurrentModification();
+            removeAt(--iterated);
+            canRemove = false;
+            expectedModCount = modCount;
+            seek();
+        }
+        
+        private long advance() {
+            if (localIndex == node.size) {
+                node = node.next;
+                localIndex = 0;
+            }
+            
+            if (localIndex++ == 0) {
+                position = 0;
+                return value = node.first;
+            }
+            
+            final byte[] data = node.data;
+            long raw = 0L;
+            int shift = 0;
+            byte b;
+            
+            do {
+                b = data[position++];
+                raw |= (long)(b & 0x7f) << shift;
+                shift += 7;
+            } while (b < 0);
+            
+            return value += decodeZigZag(raw);
+        }
+        
+        /**
+         * Repositions this iterator after a removal changed the nodes, or an
+         * update re-encoded a node. The values preceding the position in its
+         * node are decoded again, so that the next delta is read at the right
+         * byte and added to the right value.
+         */
+        private void seek() {
+            expectedEncodeCount = encodeCount;
+            
+            if (iterated == size) {
+                node = tail;
+                localIndex = tail.size;
+                return;
+            }
+            
+            searchElement(iterated);
+            node = searchNode;
+            int target = searchLocalIndex;
+            localIndex = 0;
+            
+            while (localIndex < target) {
+                advance();
+            }
+        }
+        
+        private void checkForConcurrentModification() {
+            if (expectedModCount != modCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+    
+    /**
+     * Implements the boxed {@code List} view of this list.
+     */
+    private final class BoxedList extends AbstractList<Long> {
+        
+        @Override
+        public boolean add(Long element) {
+            return DeltaLongLinkedArrayList.this.add(element);
+        }
+        
+        @Override
+        public void add(int index, Long element) {
+            DeltaLongLinkedArrayList.this.add(index, element);
+        }
+        
+        @Override
+        public void clear() {
+            DeltaLongLinkedArrayList.this.clear();
+        }
+        
+        @Override
+        public boolean contains(Object o) {
+            return indexOf(o) >= 0;
+        }
+        
+        @Override
+        public Long get(int index) {
+            return DeltaLongLinkedArrayList.this.get(index);
+        }
+        
+        @Override
+        public int indexOf(Object o) {
+            return o instanceof Long ?
+                   DeltaLongLinkedArrayList.this.indexOf((Long) o) :
+                   -1;
+        }
+        
+        @Override
+        public PrimitiveIterator.OfLong iterator() {
+            return DeltaLongLinkedArrayList.this.iterator();
+        }
+        
+        @Override
+        public Long remove(int index) {
+            return removeAt(index);
+        }
+        
+        @Override
+        public Long set(int index, Long element) {
+            return DeltaLongLinkedArrayList.this.set(index, element);
+        }
+        
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,1065 @@
+package net.coderodde.util.list;
+
+import java.util.AbstractList;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * This class implements a linked array list specialized for {@code int} 
+ * values. The values are stored unboxed in {@code int[]} nodes, which saves
+ * the reference and the boxed object per element, and lets the scans run over
+ * primitive arrays. The node chain obeys the same invariants as that of
+ * {@link LinkedArrayList}: no node other than the only one is empty, and no
+ * node other than the head or tail node holds less than half of the degree 
+ * of elements.
+ * <p>
+ * This list is not a {@link java.util.List}. {@link #asList()} returns a 
+ * boxed view for the code expecting one.
+ * 
+ * @author  Rodion "rodde" Efremov
+ * @version 1.6
+ */
+public class IntLinkedArrayList {
+    
+    /**
+     * This static class implements the nodes of {@code IntLinkedArrayList}.
+     * The values of a node occupy the first {@code size} components of its 
+     * array.
+     */
+    static final class Node {
+        
+        /**
+         * The actual storage array.
+         */
+        final int[] array;
+        
+        /**
+         * The amount of values in this node.
+         */
+        int size;
+        
+        Node prev;
+        Node next;
+        
+        Node(int degree) {
+            this.array = new int[degree];
+        }
+    }
+    
+    /**
+     * The degree of the nodes of this list.
+     */
+    private final int degree;
+    
+    /**
+     * The amount of values in this list.
+     */
+    private int size;
+    
+    /**
+     * The head node of this list.
+     */
+    private Node head;
+    
+    /**
+     * The tail node of this list.
+     */
+    private Node tail;
+    
+    /**
+     * The modification counter.
+     */
+    private int modCount;
+    
+    /**
+     * The node of the most recent search, or {@code null} if the global 
+     * offsets may have changed since.
+     */
+    private Node finger;
+    
+    /**
+     * The global index of the first value in {@code finger}.
+     */
+    private int fingerOffset;
+    
+    /**
+     * Used for searching a value.
+     */
+    private Node searchNode;
+    
+    /**
+     * Used for searching a value.
+     */
+    private int searchLocalIndex;
+    
+    /**
+     * Constructs a new, empty list with given degree.
+     * 
+     * @param degree the degree of the nodes.
+     * @throws IllegalArgumentException if {@code degree} is too small.
+     */
+    public IntLinkedArrayList(int degree) {
+        if (degree < LinkedArrayList.MINIMUM_DEGREE) {
+            throw new IllegalArgumentException(
+            "The input degree (" + degree + ") is too small. Should be at " +
+            "least " + LinkedArrayList.MINIMUM_DEGREE + ".");
+        }
+        
+        this.degree = degree;
+        this.head = new Node(degree);
+        this.tail = head;
+    }
+    
+    /**
+     * Constructs a new, empty list with default degree.
+     */
+    public IntLinkedArrayList() {
+        this(LinkedArrayList.DEFAULT_DEGREE);
+    }
+    
+    /**
+     * Appends {@code value} to the tail of this list.
+     * 
+     * @param  value the value to append.
+     * @return {@code true}.
+     */
+    public boolean add(int value) {
+        if (tail.size == degree) {
+            linkNode(tail, new Node(degree));
+        }
+        
+        tail.array[tail.size++] = value;
+        ++size;
+        ++modCount;
+        return true;
+    }
+    
+    /**
+     * Inserts {@code value} between the values with indices 
+     * {@code index - 1} and {@code index}.
+     * 
+     * @param index the insertion index.
+     * @param value the value to insert.
+     * @throws IndexOutOfBoundsException if the index is invalid.
+     */
+    public void add(int index, int value) {
+        checkIndexForAddition(index);
+        
+        if (index == size) {
+            add(value);
+            return;
+        }
+        
+        searchElement(index);
+        Node node = searchNode;
+        int localIndex = searchLocalIndex;
+        
+        if (node.size == degree) {
+            // Split the node in halves.
+            Node newnode = new Node(degree);
+            int half = degree >>> 1;
+            newnode.size = degree - half;
+            System.arraycopy(node.array, half, newnode.array, 0, newnode.size);
+            node.size = half;
+            linkNode(node, newnode);
+            
+            if (localIndex > half) {
+                node = newnode;
+                localIndex -= half;
+            }
+        }
+        
+        System.arraycopy(node.array, localIndex, 
+                         node.array, localIndex + 1, 
+                         node.size - localIndex);
+        node.array[localIndex] = value;
+        ++node.size;
+        ++size;
+        ++modCount;
+        finger = null;
+    }
+    
+    /**
+     * Appends all the {@code values} to the tail of this list.
+     * 
+     * @param  values the values to append.
+     * @return {@code true} if this list changed.
+     */
+    public boolean addAll(int... values) {
+        int index = 0;
+        
+        while (index < values.length) {
+            if (tail.size == degree) {
+                linkNode(tail, new Node(degree));
+            }
+            
+            int count = Math.min(values.length - index, degree - tail.size);
+            System.arraycopy(values, index, tail.array, tail.size, count);
+            tail.size += count;
+            index += count;
+        }
+        
+        size += values.length;
+        ++modCount;
+        return values.length > 0;
+    }
+    
+    /**
+     * Returns a boxed {@link java.util.List} view of this list. The changes
+     * made through the view are reflected in this list and vice versa.
+     * 
+     * @return a boxed view.
+     */
+    public List<Integer> asList() {
+        return new BoxedList();
+    }
+    
+    /**
+     * Checks that this list maintains the invariants of the node chain.
+     * 
+     * @throws IllegalStateException if this list is not healthy.
+     */
+    public void checkHealth() {
+        if (head.prev != null || tail.next != null) {
+            throw new IllegalStateException("Broken end nodes.");
+        }
+        
+        int s = 0;
+        
+        for (Node node = head; node != null; node = node.next) {
+            if (node.next != null && node.next.prev != node) {
+                throw new IllegalStateException("Broken node links.");
+            }
+            
+            if (node.size == 0 && head != tail) {
+                throw new IllegalStateException("Empty node encountered.");
+            }
+            
+            if (node != head && node != tail && node.size < degree / 2) {
+                throw new IllegalStateException(
+                        "Underfull node encountered: " + node.size + 
+                        " elements, degree " + degree + ".");
+            }
+            
+            s += node.size;
+        }
+        
+        if (size != s) {
+            throw new IllegalStateException("Wrong accumulated size: " + 
+                    s + "; list reports containing " + size + " elements.");
+        }
+    }
+    
+    /**
+     * Makes this list empty.
+     */
+    public void clear() {
+        head = new Node(degree);
+        tail = head;
+        size = 0;
+        ++modCount;
+        finger = null;
+    }
+    
+    /**
+     * Returns {@code true} if this list contains {@code value}.
+     * 
+     * @param  value the value to search.
+     * @return {@code true} if {@code value} is in this list.
+     */
+    public boolean contains(int value) {
+        return indexOf(value) >= 0;
+    }
+    
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+        
+        if (!(o instanceof IntLinkedArrayList)) {
+            return false;
+        }
+        
+        IntLinkedArrayList other = (IntLinkedArrayList) o;
+        
+        if (size != other.size) {
+            return false;
+        }
+        
+        PrimitiveIterator.OfInt iterator = other.iterator();
+        
+        for (Node node = head; node != null; node = node.next) {
+            for (int i = 0; i < node.size; ++i) {
+                if (!same(node.array[i], iterator.nextInt())) {
+                    return false;
+                }
+            }
+        }
+        
+        return true;
+    }
+    
+    /**
+     * Passes all the values of this list to {@code action} in order.
+     * 
+     * @param action the action to perform.
+     * @throws ConcurrentModificationException if {@code action} modifies this
+     *         list.
+     */
+    public void forEach(IntConsumer action) {
+        Objects.requireNonNull(action, "The action is null.");
+        final int expectedModCount = modCount;
+        
+        for (Node node = head; node != null; node = node.next) {
+            final int[] array = node.array;
+            
+            for (int i = 0; i < node.size; ++i) {
+                action.accept(array[i]);
+            }
+            
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+    
+    /**
+     * Returns the value at index {@code index}.
+     * 
+     * @param  index the index of the value.
+     * @return the value.
+     * @throws IndexOutOfBoundsException if the index is invalid.
+     */
+    public int get(int index) {
+        checkIndexForAccess(index);
+        searchElement(index);
+        return searchNode.array[searchLocalIndex];
+    }
+    
+    /**
+     * Returns the degree of the nodes of this list.
+     * 
+     * @return the degree.
+     */
+    public int getDegree() {
+        return degree;
+    }
+    
+    /**
+     * Returns the same hash code as a {@link java.util.List} holding the
+     * boxed values of this list.
+     * 
+     * @return the hash code.
+     */
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        
+        for (Node node = head; node != null; node = node.next) {
+            for (int i = 0; i < node.size; ++i) {
+                hash = 31 * hash + Integer.hashCode(node.array[i]);
+            }
+        }
+        
+        return hash;
+    }
+    
+    /**
+     * Returns the index of the first occurrence of {@code value}, or 
+     * {@code -1} if there is none.
+     * 
+     * @param  value the value to search.
+     * @return the index of {@code value} or {@code -1}.
+     */
+    public int indexOf(int value) {
+        int offset = 0;
+        
+        for (Node node = head; node != null; node = node.next) {
+            final int[] array = node.array;
+            
+            for (int i = 0; i < node.size; ++i) {
+                if (same(array[i], value)) {
+                    return offset + i;
+                }
+            }
+            
+            offset += node.size;
+        }
+        
+        return -1;
+    }
+    
+    /**
+     * Returns {@code true} if this list is empty.
+     * 
+     * @return {@code true} if this list is empty.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+    
+    /**
+     * Returns a <b>fail-fast</b> iterator over the values of this list.
+     * 
+     * @return an iterator.
+     */
+    public PrimitiveIterator.OfInt iterator() {
+        return new IntIterator();
+    }
+    
+    /**
+     * Returns the index of the last occurrence of {@code value}, or 
+     * {@code -1} if there is none.
+     * 
+     * @param  value the value to search.
+     * @return the index of {@code value} or {@code -1}.
+     */
+    public int lastIndexOf(int value) {
+        int offset = size;
+        
+        for (Node node = tail; node != null; node = node.prev) {
+            final int[] array = node.array;
+            offset -= node.size;
+            
+            for (int i = node.size - 1; i >= 0; --i) {
+                if (same(array[i], value)) {
+                    return offset + i;
+                }
+            }
+        }
+        
+        return -1;
+    }
+    
+    /**
+     * Removes the value at index {@code index}.
+     * 
+     * @param  index the index of the value to remove.
+     * @return the removed value.
+     * @throws IndexOutOfBoundsException if the index is invalid.
+     */
+    public int removeAt(int index) {
+        checkIndexForAccess(index);
+        searchElement(index);
+        return removeLocal(searchNode, searchLocalIndex);
+    }
+    
+    /**
+     * Removes the first occurrence of {@code value}.
+     * 
+     * @param  value the value to remove.
+     * @return {@code true} if this list contained {@code value}.
+     */
+    public boolean removeValue(int value) {
+        for (Node node = head; node != null; node = node.next) {
+            final int[] array = node.array;
+            
+            for (int i = 0; i < node.size; ++i) {
+                if (same(array[i], value)) {
+                    removeLocal(node, i);
+                    return true;
+                }
+            }
+        }
+        
+        return false;
+    }
+    
+    /**
+     * Replaces the value at index {@code index}.
+     * 
+     * @param  index the index of the value to replace.
+     * @param  value the new value.
+     * @return the old value.
+     * @throws IndexOutOfBoundsException if the index is invalid.
+     */
+    public int set(int index, int value) {
+        checkIndexForAccess(index);
+        searchElement(index);
+        int ret = searchNode.array[searchLocalIndex];
+        searchNode.array[searchLocalIndex] = value;
+        return ret;
+    }
+    
+    /**
+     * Returns the amount of values in this list.
+     * 
+     * @return the size of this list.
+     */
+    public int size() {
+        return size;
+    }
+    
+    /**
+     * Returns a <b>fail-fast</b> spliterator over the values of this list. 
+     * The spliterator splits at node boundaries unless the range to split 
+     * lies within a single node, and reports 
+     * {@link java.util.Spliterator#ORDERED}, 
+     * {@link java.util.Spliterator#SIZED}, 
+     * {@link java.util.Spliterator#SUBSIZED} and 
+     * {@link java.util.Spliterator#NONNULL}.
+     * 
+     * @return a spliterator.
+     */
+    public Spliterator.OfInt spliterator() {
+        return new IntSpliterator(head, 0, size);
+    }
+    
+    /**
+     * Returns a sequential stream over the values of this list.
+     * 
+     * @return a stream.
+     */
+    public IntStream stream() {
+        return StreamSupport.intStream(spliterator(), false);
+    }
+    
+    /**
+     * Returns an array holding the values of this list in order.
+     * 
+     * @return an array of values.
+     */
+    public int[] toArray() {
+        int[] ret = new int[size];
+        int index = 0;
+        
+        for (Node node = head; node != null; node = node.next) {
+            System.arraycopy(node.array, 0, ret, index, node.size);
+            index += node.size;
+        }
+        
+        return ret;
+    }
+    
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        String separator = "";
+        
+        for (Node node = head; node != null; node = node.next) {
+            for (int i = 0; i < node.size; ++i) {
+                sb.append(separator).append(node.array[i]);
+                separator = ", ";
+            }
+        }
+        
+        return sb.append("]").toString();
+    }
+    
+    /**
+     * Compares two values the same way the boxed values compare by 
+     * {@code equals}.
+     * 
+     * @param  a the first value.
+     * @param  b the second value.
+     * @return {@code true} if the values are equal.
+     */
+    private static boolean same(int a, int b) {
+        return a == b;
+    }
+    
+    private void checkIndexForAccess(int index) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException(
+                    "The index is negative: " + index);
+        }
+        
+        if (index >= size) {
+            throw new IndexOutOfBoundsException(
+                    "The index is too large: " + index + ". " +
+                    "The size of this list is " + size + ".");
+        }
+    }
+    
+    private void checkIndexForAddition(int index) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException(
+                    "The index is negative: " + index);
+        }
+        
+        if (index > size) {
+            throw new IndexOutOfBoundsException(
+                    "The index is too large: " + index + ". " +
+                    "The size of this list is " + size + ".");
+        }
+    }
+    
+    /**
+     * Loads the node and local index of the value at global index 
+     * {@code index}, starting from the nearest of the head node, the tail 
+     * node and the finger.
+     * 
+     * @param index the global index of the value.
+     */
+    private void searchElement(int index) {
+        Node node;
+        int offset;
+        int tailOffset = size - tail.size;
+        
+        if (index >= tailOffset) {
+            node = tail;
+            offset = tailOffset;
+        } else if (finger != null && Math.abs(index - fingerOffset) 
+                                     < Math.min(index, tailOffset - index)) {
+            node = finger;
+            offset = fingerOffset;
+        } else if (index < tailOffset - index) {
+            node = head;
+            offset = 0;
+        } else {
+            node = tail;
+            offset = tailOffset;
+        }
+        
+        while (index >= offset + node.size) {
+            offset += node.size;
+            node = node.next;
+        }
+        
+        while (index < offset) {
+            node = node.prev;
+            offset -= node.size;
+        }
+        
+        searchNode = node;
+        searchLocalIndex = index - offset;
+        finger = node;
+        fingerOffset = offset;
+    }
+    
+    /**
+     * Removes the value at local index {@code localIndex} of {@code node}.
+     * Afterwards, {@code (searchNode, searchLocalIndex)} points to the 
+     * position of the value that followed the removed one.
+     * 
+     * @param  node       the node holding the value.
+     * @param  localIndex the local index of the value.
+     * @return the removed value.
+     */
+    private int removeLocal(Node node, int localIndex) {
+        int ret = node.array[localIndex];
+        System.arraycopy(node.array, localIndex + 1, 
+                         node.array, localIndex, 
+                         node.size - localIndex - 1);
+        --node.size;
+        --size;
+        ++modCount;
+        finger = null;
+        searchNode = node;
+        searchLocalIndex = localIndex;
+        rebalance(node);
+        return ret;
+    }
+    
+    /**
+     * Restores the node invariants for {@code node} after a removal. An empty
+     * node is unlinked. An underfull node is merged with a neighbor if they 
+     * fit in one node, and otherwise borrows values from its successor. The 
+     * position {@code (searchNode, searchLocalIndex)} in {@code node} is 
+     * translated so that it keeps pointing to the same logical position.
+     * 
+     * @param node the node to rebalance.
+     */
+    private void rebalance(Node node) {
+        Node prev = node.prev;
+        Node next = node.next;
+        
+        if (node.size == 0) {
+            if (prev == null && next == null) {
+                return;
+            }
+            
+            if (next != null) {
+                searchNode = next;
+                searchLocalIndex = 0;
+            } else {
+                searchNode = prev;
+                searchLocalIndex = prev.size;
+            }
+            
+            unlinkNode(node);
+            return;
+        }
+        
+        if (prev == null || next == null || node.size >= degree / 2) {
+            return;
+        }
+        
+        boolean prevFits = prev.size + node.size <= degree;
+        boolean nextFits = next.size + node.size <= degree;
+        
+        if (prevFits && (!nextFits || prev.size <= next.size)) {
+            System.arraycopy(node.array, 0, prev.array, prev.size, node.size);
+            searchNode = prev;
+            searchLocalIndex += prev.size;
+            prev.size += node.size;
+            unlinkNode(node);
+        } else if (nextFits) {
+            System.arraycopy(next.array, 0, node.array, node.size, next.size);
+            node.size += next.size;
+            unlinkNode(next);
+        } else {
+            // Both neighbors are more than half full. Even out with 'next'.
+            int count = (next.size - node.size) / 2;
+            System.arraycopy(next.array, 0, node.array, node.size, count);
+            System.arraycopy(next.array, count, 
+                             next.array, 0, 
+                             next.size - count);
+            node.size += count;
+            next.size -= count;
+        }
+    }
+    
+    private void linkNode(Node predecessor, Node node) {
+        node.prev = predecessor;
+        node.next = predecessor.next;
+        predecessor.next = node;
+        
+        if (node.next != null) {
+            node.next.prev = node;
+        } else {
+            tail = node;
+        }
+    }
+    
+    private void unlinkNode(Node node) {
+        if (node.prev == null) {
+            head = node.next;
+        } else {
+            node.prev.next = node.next;
+        }
+        
+        if (node.next == null) {
+            tail = node.prev;
+        } else {
+            node.next.prev = node.prev;
+        }
+    }
+    
+    /**
+     * Implements the iterator over the values of this list.
+     */
+    private final class IntIterator implements PrimitiveIterator.OfInt {
+        
+        /**
+         * The node holding the next value.
+         */
+        private Node node = head;
+        
+        /**
+         * The local index of the next value in {@code node}.
+         */
+        private int localIndex;
+        
+        /**
+         * The amount of values iterated.
+         */
+        private int iterated;
+        
+        /**
+         * The node of the most recently returned value, or {@code null} if 
+         * there is no value to remove.
+         */
+        private Node lastNode;
+        
+        /**
+         * The local index of the most recently returned value.
+         */
+        private int lastLocalIndex;
+        
+        /**
+         * The expected mod count.
+         */
+        private int expectedModCount = modCount;
+        
+        @Override
+        public boolean hasNext() {
+            return iterated < size;
+        }
+        
+        @Override
+        public int nextInt() {
+            checkForConcurrentModification();
+            
+            if (iterated == size) {
+                throw new NoSuchElementException("Iteration exceeded.");
+            }
+            
+            if (localIndex == node.size) {
+                node = node.next;
+                localIndex = 0;
+            }
+            
+            lastNode = node;
+            lastLocalIndex = localIndex;
+            ++iterated;
+            return node.array[localIndex++];
+        }
+        
+        @Override
+        public void forEachRemaining(IntConsumer action) {
+            Objects.requireNonNull(action, "The action is null.");
+            
+            while (iterated < size) {
+                checkForConcurrentModification();
+                
+                if (localIndex == node.size) {
+                    node = node.next;
+                    localIndex = 0;
+                }
+                
+                final int[] array = node.array;
+                final int nodeSize = node.size;
+                
+                for (int i = localIndex; i < nodeSize; ++i) {
+                    action.accept(array[i]);
+                }
+                
+                lastNode = node;
+                lastLocalIndex = nodeSize - 1;
+                iterated += nodeSize - localIndex;
+                localIndex = nodeSize;
+            }
+            
+            checkForConcurrentModification();
+        }
+        
+        @Override
+        public void remove() {
+            if (lastNode == null) {
+                throw new IllegalStateException("There is no value to remove.");
+            }
+            
+            checkForConcurrentModification();
+            removeLocal(lastNode, lastLocalIndex);
+            node = searchNode;
+            localIndex = searchLocalIndex;
+            lastNode = null;
+            --iterated;
+            expectedModCount = modCount;
+        }
+        
+        private void checkForConcurrentModification() {
+            if (expectedModCount != modCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+    
+    /**
+     * Implements the node-aligned spliterator over the values of this list.
+     */
+    private final class IntSpliterator implements Spliterator.OfInt {
+        
+        /**
+         * The node holding the next value.
+         */
+        private Node node;
+        
+        /**
+         * The local index of the next value in {@code node}.
+         */
+        private int localIndex;
+        
+        /**
+         * The amount of values left to traverse.
+         */
+        private int remaining;
+        
+        /**
+         * The expected mod count.
+         */
+        private final int expectedModCount = modCount;
+        
+        IntSpliterator(Node node, int localIndex, int remaining) {
+            this.node = node;
+            this.localIndex = localIndex;
+            this.remaining = remaining;
+        }
+        
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            Objects.requireNonNull(action, "The action is null.");
+            
+            if (remaining == 0) {
+                return false;
+            }
+            
+            checkForConcurrentModification();
+            
+            if (localIndex == node.size) {
+                node = node.next;
+                localIndex = 0;
+            }
+            
+            --remaining;
+            action.accept(node.array[localIndex++]);
+            return true;
+        }
+        
+        @Override
+        public void forEachRemaining(IntConsumer action) {
+            Objects.requireNonNull(action, "The action is null.");
+            
+            while (remaining > 0) {
+                checkForConcurrentModification();
+                
+                if (localIndex == node.size) {
+                    node = node.next;
+                    localIndex = 0;
+                }
+                
+                final int[] array = node.array;
+                final int to = localIndex + Math.min(remaining, 
+                                                     node.size - localIndex);
+                
+                for (int i = localIndex; i < to; ++i) {
+                    action.accept(array[i]);
+                }
+                
+                remaining -= to - localIndex;
+                localIndex = to;
+            }
+            
+            checkForConcurrentModification();
+        }
+        
+        @Override
+        public Spliterator.OfInt trySplit() {
+            if (remaining < 2) {
+                return null;
+            }
+            
+            checkForConcurrentModification();
+            
+            if (localIndex == node.size) {
+                node = node.next;
+                localIndex = 0;
+            }
+            
+            final int half = remaining >>> 1;
+            // The amount of values through the end of the node 'last'.
+            int count = node.size - localIndex;
+            Node last = node;
+            
+            if (count >= remaining) {
+                // The range lies within a single node. Split the node.
+                IntSpliterator prefix = 
+                        new IntSpliterator(node, localIndex, half);
+                localIndex += half;
+                remaining -= half;
+                return prefix;
+            }
+            
+            while (count < half) {
+                last = last.next;
+                count += last.size;
+            }
+            
+            if (count >= remaining) {
+                // Do not hand out the whole range.
+                count -= last.size;
+                last = last.prev;
+            }
+            
+            IntSpliterator prefix = 
+                    new IntSpliterator(node, localIndex, count);
+            node = last.next;
+            localIndex = 0;
+            remaining -= count;
+            return prefix;
+        }
+        
+        @Override
+        public long estimateSize() {
+            return remaining;
+        }
+        
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | 
+                   Spliterator.SIZED | 
+                   Spliterator.SUBSIZED | 
+                   Spliterator.NONNULL;
+        }
+        
+        private void checkForConcurrentModification() {
+            if (expectedModCount != modCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+    
+    /**
+     * Implements the boxed {@code List} view of this list.
+     */
+    private final class BoxedList extends AbstractList<Integer> {
+        
+        @Override
+        public boolean add(Integer element) {
+            return IntLinkedArrayList.this.add(element);
+        }
+        
+        @Override
+        public void add(int index, Integer element) {
+            IntLinkedArrayList.this.add(index, element);
+        }
+        
+        @Override
+        public void clear() {
+            IntLinkedArrayList.this.clear();
+        }
+        
+        @Override
+        public boolean contains(Object o) {
+            return indexOf(o) >= 0;
+        }
+        
+        @Override
+        public Integer get(int index) {
+            return IntLinkedArrayList.this.get(index);
+        }
+        
+        @Override
+        public int indexOf(Object o) {
+            return o instanceof Integer ? 
+                   IntLinkedArrayList.this.indexOf((Integer) o) : 
+                   -1;
+        }
+        
+        @Override
+        public PrimitiveIterator.OfInt iterator() {
+            return IntLinkedArrayList.this.iterator();
+        }
+        
+        @Override
+        public int lastIndexOf(Object o) {
+            return o instanceof Integer ? 
+                   IntLinkedArrayList.this.lastIndexOf((Integer) o) : 
+                   -1;
+        }
+        
+        @Override
+        public Integer remove(int index) {
+            return removeAt(index);
+        }
+        
+        @Override
+        public Integer set(int index, Integer element) {
+            return IntLinkedArrayList.this.set(index, element);
+        }
+        
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -1,18 +1,22 @@
 package net.coderodde.util.list;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.ConcurrentModificationException;
 import java.util.Deque;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Set;
+import java.util.Spliterator;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 /**
  * This class implements a list data structure consisting of a list of arrays. 
@@ -32,7 +36,78 @@ implements ExtendedList<E>, Cloneable, Deque<E> {
      */
     public enum NodeType {
         TRIVIAL,
-        ADVANCED
+        ADVANCED,
+        
+        /**
+         * Lays the list out as a tiered vector: the nodes are power-of-two 
+         * ring buffers and every node except the tail node is full. This
+         * allows locating any element in constant time via a directory of the
+         * nodes, and inserting or removing in the middle in 
+         * {@code O(degree + size() / degree)} time by shifting one element 
+         * across each subsequent ring. The split policy is ignored and the
+         * adaptive mode is not supported.
+         */
+        TIERED,
+        
+        /**
+         * Uses gap buffer nodes. Each node keeps its free array components as
+         * a single gap that follows the edits, so that runs of insertions and
+         * removals at one position, such as through a list iterator, do not
+         * shift the elements of the node.
+         */
+        GAP,
+        
+        /**
+         * Turns the node chain into an unrolled skip list. Each node carries
+         * a randomized tower of forward pointers annotated with element-count
+         * spans, which makes the positional access methods run in expected
+         * logarithmic time with respect to the amount of nodes. A list of this
+         * type is always indexed.
+         */
+        SKIP
+    }
+    
+    /**
+     * This enumeration is used for choosing how an element is inserted into a
+     * full node.
+     */
+    public enum SplitPolicy {
+        
+        /**
+         * Moves all the elements starting from the insertion index to a new 
+         * node.
+         */
+        SPILL,
+        
+        /**
+         * Moves the upper half of the full node to a new node.
+         */
+        HALF_SPLIT,
+        
+        /**
+         * Shifts elements to a non-full neighbor node, if there is one, 
+         * evening out the two nodes. Falls back to {@link #HALF_SPLIT}.
+         */
+        REDISTRIBUTE
+    }
+    
+    /**
+     * Receives the elements of a list one chunk at a time. A chunk is a range
+     * of a backing array of the list and is valid only until the list is 
+     * modified. The consumer must not modify the array.
+     */
+    @FunctionalInterface
+    public interface ChunkConsumer {
+        
+        /**
+         * Processes the chunk {@code array[offset], ..., 
+         * array[offset + length - 1]}.
+         * 
+         * @param array  the backing array holding the chunk.
+         * @param offset the index of the first element of the chunk.
+         * @param length the amount of elements in the chunk.
+         */
+        void accept(Object[] array, int offset, int length);
     }
     
     /**
@@ -45,11 +120,49 @@ implements ExtendedList<E>, Cloneable, Deque<E> {
      */
     static final int DEFAULT_DEGREE = 16;
     
+    /**
+     * The default amount of fingers, or cached search positions.
+     */
+    static final int DEFAULT_FINGER_COUNT = 4;
+    
+    /**
+     * The largest amount of probes that {@link #containsAll(Collection)} 
+     * looks up by linear scans instead of hashing.
+     */
+    static final int LINEAR_PROBE_THRESHOLD = 4;
+    
+    /**
+     * If the nearest starting point of a search is farther than this amount of
+     * degrees from the target index, the positional index is used instead, 
+     * given that this list is indexed.
+     */
+    private static final int FINGER_REACH = 8;
+    
     /**
      * The node type of this list.
      */
     private NodeType nodeType;
     
+    /**
+     * The least node degree in adaptive mode.
+     */
+    private int minimumDegree;
+    
+    /**
+     * The largest node degree in adaptive mode.
+     */
+    private int maximumDegree;
+    
+    /**
+     * Whether this list chooses the degree of new nodes from its size.
+     */
+    private boolean adaptive;
+    
+    /**
+     * The policy for inserting into full nodes.
+     */
+    private SplitPolicy splitPolicy = SplitPolicy.HALF_SPLIT;
+    
     /**
      * This field caches the amount of elements stored in this list.
      */
@@ -76,15 +189,134 @@ implements ExtendedList<E>, Cloneable, Deque<E> {
     private transient int searchLocalIndex;
     
     /**
-     * Used for holding the elements while inserting a collection at random 
-     * index.
+     * The modification counter.
      */
-    private transient List<E> workList;
+    private transient int modCount;
     
     /**
-     * The modification counter.
+     * The positional index over the node chain, or {@code null} if this list
+     * is not indexed.
      */
-    private transient int modCount;
+    private transient LinkedArrayListIndex<E> index;
+    
+    /**
+     * The nodes of the fingers. A finger caches a node and the global index of
+     * its first element, so that a search for a nearby index may start from
+     * it instead of the head or tail node.
+     */
+    private transient LinkedArrayListNode<E>[] fingerNodes;
+    
+    /**
+     * The global indices of the first elements of the finger nodes.
+     */
+    private transient int[] fingerOffsets;
+    
+    /**
+     * The amount of valid fingers.
+     */
+    private transient int fingers;
+    
+    /**
+     * The finger slot to overwrite next when all the slots are occupied.
+     */
+    private transient int nextFingerSlot;
+    
+    /**
+     * The directory of the nodes in tiered mode, or {@code null} if this list
+     * is not tiered. The node holding the element with global index {@code i}
+     * is {@code tiers[i >>> tierShift]}.
+     */
+    private transient LinkedArrayListNode<E>[] tiers;
+    
+    /**
+     * The amount of valid entries in {@code tiers}.
+     */
+    private transient int tierCount;
+    
+    /**
+     * Whether the node chain was restructured so that {@code tiers} must be
+     * rebuilt before use.
+     */
+    private transient boolean tiersStale;
+    
+    /**
+     * The binary logarithm of the node degree in tiered mode.
+     */
+    private transient int tierShift;
+    
+    /**
+     * The pool of unlinked, empty nodes to reuse instead of allocating new 
+     * ones. Its length is the capacity of the pool.
+     */
+    private transient LinkedArrayListNode<E>[] nodePool = newNodeArray(0);
+    
+    /**
+     * The amount of nodes in {@code nodePool}.
+     */
+    private transient int pooledNodes;
+    
+    /**
+     * The amount of node requests served from the pool.
+     */
+    private transient long nodePoolHits;
+    
+    /**
+     * The amount of node requests that allocated a new node.
+     */
+    private transient long nodePoolMisses;
+    
+    /**
+     * Constructs a new, empty list with given degree and node type. If 
+     * {@code indexed} is {@code true}, the list maintains a positional index
+     * over its nodes, which makes the positional access methods run in 
+     * logarithmic time with respect to the amount of nodes at the cost of one
+     * index entry per node. The lists of type {@link NodeType#SKIP} are 
+     * indexed regardless of {@code indexed}.
+     * 
+     * @param degree   the degree of the new list.
+     * @param nodeType the type of the nodes.
+     * @param indexed  whether to maintain the positional index.
+     */
+    public LinkedArrayList(int degree, NodeType nodeType, boolean indexed) {
+        this(degree, nodeType);
+        
+        if (indexed && this.index == null) {
+            this.index = new LinkedArrayListTreapIndex<>(head);
+        }
+    }
+    
+    /**
+     * Constructs a new, empty list in <b>adaptive</b> mode. The degree of each
+     * new node is chosen from the current size of the list as roughly 
+     * {@code sqrt(size())}, rounded down to a power of two and clamped to the
+     * range {@code [minimumDegree, maximumDegree]}. The nodes touched by 
+     * insertions and removals are gradually re-chunked towards the current
+     * degree as the list grows or shrinks.
+     * 
+     * @param minimumDegree the least degree of a node.
+     * @param maximumDegree the largest degree of a node.
+     * @param nodeType      the type of the nodes.
+     */
+    public LinkedArrayList(int minimumDegree, 
+                           int maximumDegree, 
+                           NodeType nodeType) {
+        this(minimumDegree, nodeType);
+        
+        if (nodeType == NodeType.TIERED && minimumDegree < maximumDegree) {
+            throw new IllegalArgumentException(
+                    "The tiered node type does not support adaptive degree.");
+        }
+        
+        if (maximumDegree < minimumDegree) {
+            throw new IllegalArgumentException(
+                    "The maximum degree (" + maximumDegree + ") is less than " +
+                    "the minimum degree (" + minimumDegree + ").");
+        }
+        
+        this.minimumDegree = minimumDegree;
+        this.maximumDegree = maximumDegree;
+        this.adaptive = minimumDegree < maximumDegree;
+    }
     
     /**
      * Constructs a new, empty list with given degree and node type.
@@ -105,13 +337,31 @@ implements ExtendedList<E>, Cloneable, Deque<E> {
                 this.head = new LinkedArrayListNode2<>(degree);
                 break;
                 
+            case GAP:
+                this.head = new LinkedArrayListNode3<>(degree);
+                break;
+                
+            case SKIP:
+                this.head = new LinkedArrayListNode4<>(degree);
+                this.index = new LinkedArrayListSkipIndex<>(head);
+                break;
+                
+            case TIERED:
+                this.head = new LinkedArrayListNode2<>(degree);
+                this.tiers = newNodeArray(8);
+                this.tiers[0] = head;
+                this.tierCount = 1;
+                this.tierShift = 
+                        Integer.numberOfTrailingZeros(head.getDegree());
+                break;
+                
             default:
                 throw new IllegalArgumentException(
                 "Unsupported node type enumeration: " + nodeType);
         }
         
         this.tail = head;
-        this.workList = new ArrayList<>(getDegree());
+        setFingerCount(DEFAULT_FINGER_COUNT);
     }
     
     /**
@@ -138,6 +388,72 @@ implements ExtendedList<E>, Cloneable, Deque<E> {
     public LinkedArrayList() {
         this(DEFAULT_DEGREE);
     }
+    
+    /**
+     * Constructs a new list with default degree and default node type, 
+     * containing the elements of {@code c} in the order they are returned by
+     * the iterator of {@code c}. The nodes are packed full, unless {@code c} 
+     * is a {@code LinkedArrayList} this list can share nodes with, in which 
+     * case its nodes are copied as they are.
+     * 
+     * @param c the collection whose elements to load.
+     */
+    public LinkedArrayList(Collection<? extends E> c) {
+        this(DEFAULT_DEGREE);
+        
+        if (!appendNodeCopies(c)) {
+            Object[] array = c.toArray();
+            load(array, 0, array.length);
+        }
+    }
+    
+    /**
+     * Constructs a new list with default degree and default node type, 
+     * containing the elements of {@code array} with indices from 
+     * {@code fromIndex} (inclusive) to {@code toIndex} (exclusive). The nodes
+     * are packed full.
+     * 
+     * @param array     the array holding the elements to load.
+     * @param fromIndex the index of the first element to load.
+     * @param toIndex   the index one past the last element to load.
+     * @throws IndexOutOfBoundsException if the range exceeds {@code array}.
+     * @throws IllegalArgumentException  if {@code fromIndex > toIndex}.
+     */
+    public LinkedArrayList(Object[] array, int fromIndex, int toIndex) {
+        this(DEFAULT_DEGREE);
+        sublistRangeCheck(fromIndex, toIndex, array.length);
+        load(array, fromIndex, toIndex);
+    }
+    
+    /**
+     * Returns a new list with default degree and default node type, containing
+     * the elements of {@code array}.
+     * 
+     * @param  <E>   the element type.
+     * @param  array the array holding the elements.
+     * @return a new list.
+     */
+    public static <E> LinkedArrayList<E> fromArray(E[] array) {
+        return fromArray(array, DEFAULT_DEGREE, NodeType.ADVANCED);
+    }
+    
+    /**
+     * Returns a new list with given degree and node type, containing the 
+     * elements of {@code array}.
+     * 
+     * @param  <E>      the element type.
+     * @param  array    the array holding the elements.
+     * @param  degree   the degree of the new list.
+     * @param  nodeType the type of the nodes.
+     * @return a new list.
+     */
+    public static <E> LinkedArrayList<E> fromArray(E[] array, 
+                                                   int degree,
+                                                   NodeType nodeType) {
+        LinkedArrayList<E> list = new LinkedArrayList<>(degree, nodeType);
+        list.load(array, 0, array.length);
+        return list;
+    }
 
     /**
      * Appends {@code e} to the tail of this list.
@@ -148,13 +464,12 @@ implements ExtendedList<E>, Cloneable, Deque<E> {
     @Override
     public boolean add(E e) {
         if (tail.isFull()) {
-            LinkedArrayListNode<E> newnode = tail.spawn();
+            LinkedArrayListNode<E> newnode = spawnNode();
             newnode.append(e);
-            tail.setNextNode(newnode);
-            newnode.setPreviousNode(tail);
-            tail = newnode;
+            linkNode(tail, newnode);
         } else {
             tail.append(e);
+            nodeResized(tail);
         }
         
         ++size;
@@ -179,14 +494,10 @@ implements ExtendedList<E>, Cloneable, Deque<E> {
         }
         
         searchElement(index);
-        LinkedArrayListNode<E> newnode = searchNode.insert(searchLocalIndex, 
-                                                           element);
-        if (newnode != null) {
-            linkNode(searchNode, newnode);
-        }
-            
+        insertElement(searchNode, searchLocalIndex, element);
         ++size;
         ++modCount;
+        recordFinger(-1, searchNode, index - searchLocalIndex);
     }
 
     /**
@@ -204,6 +515,10 @@ implements ExtendedList<E>, Cloneable, Deque<E> {
             return false;
         }
         
+        if (appendNodeCopies(c)) {
+            return true;
+        }
+        
         Iterator<? extends E> iter = c.iterator();
         LinkedArrayListNode<E> node = tail;
         
@@ -211,16 +526,16 @@ implements ExtendedList<E>, Cloneable, Deque<E> {
             E element = iter.next();
             
             if (node.isFull()) {
-                LinkedArrayListNode<E> newnode = node.spawn();
-                node.setNextNode(newnode);
-                newnode.setPreviousNode(node);
+                nodeResized(node);
+                LinkedArrayListNode<E> newnode = spawnNode();
+                linkNode(node, newnode);
                 node = newnode;
             }
             
             node.append(element);
         }
         
-        tail = node;
+        nodeResized(node);
         size += c.size();
         modCount += c.size();
         return true;
@@ -244,34 +559,129 @@ implements ExtendedList<E>, Cloneable, Deque<E> {
             return addAll(c);
         }
         
-        if (c.isEmpty()) {
+        final Object[] array = c.toArray();
+        
+        if (array.length == 0) {
             return false;
         }
         
         searchElement(index);
-        LinkedArrayListNode<E> newTail = searchNode.addAll(searchLocalIndex, 
-                                                           c, 
-                                                           workList);
-        if (newTail != null) {
-            tail = newTail;
+        LinkedArrayListNode<E> node = searchNode;
+        int localIndex = searchLocalIndex;
+        
+        if (node.size() + array.length <= node.getDegree()) {
+            // All the elements fit in the target node.
+            node.insertAll(localIndex, array, 0, array.length);
+            nodeResized(node);
+        } else {
+            spliceChain(node, localIndex, array);
         }
         
-        size += c.size();
-        modCount += c.size();
-        workList.clear();
+        size += array.length;
+        modCount += array.length;
         return true;
     }
     
+    /**
+     * Inserts the elements of {@code array} in front of the element at the 
+     * local index {@code localIndex} of {@code node}. The node is split at 
+     * most once: its elements starting from {@code localIndex} are moved in
+     * bulk to a new node. Then the free room of the node preceding the 
+     * insertion point is filled, and the rest of the elements are loaded into
+     * a detached chain of full nodes, which is spliced in by relinking its end
+     * nodes. The whole operation runs in {@code O(k + degree)} time, where 
+     * {@code k} is the length of {@code array}.
+     * 
+     * @param node       the node holding the element at the insertion index.
+     * @param localIndex the local index of the element in {@code node}.
+     * @param array      the elements to insert.
+     */
+    private void spliceChain(LinkedArrayListNode<E> node, 
+                             int localIndex, 
+                             Object[] array) {
+        LinkedArrayListNode<E> predecessor;
+        LinkedArrayListNode<E> successor;
+        
+        if (localIndex == 0) {
+            predecessor = node.getPreviousNode();
+            successor = node;
+        } else {
+            successor = spawnNode(node.getDegree());
+            node.moveLastTo(successor, node.size() - localIndex);
+            linkNode(node, successor);
+            nodeResized(node);
+            predecessor = node;
+        }
+        
+        int offset = 0;
+        
+        if (predecessor != null) {
+            offset = Math.min(array.length, 
+                              predecessor.getDegree() - predecessor.size());
+            predecessor.appendAll(array, 0, offset);
+            nodeResized(predecessor);
+        }
+        
+        // Build the detached chain.
+        LinkedArrayListNode<E> chainHead = null;
+        LinkedArrayListNode<E> chainTail = null;
+        
+        while (offset < array.length) {
+            LinkedArrayListNode<E> newnode = spawnNode();
+            int count = Math.min(array.length - offset, newnode.getDegree());
+            newnode.load(array, offset, count);
+            offset += count;
+            
+            if (chainHead == null) {
+                chainHead = newnode;
+            } else {
+                chainTail.setNextNode(newnode);
+                newnode.setPreviousNode(chainTail);
+            }
+            
+            chainTail = newnode;
+        }
+        
+        if (chainHead != null) {
+            // Splice the chain between 'predecessor' and 'successor'.
+            chainHead.setPreviousNode(predecessor);
+            chainTail.setNextNode(successor);
+            successor.setPreviousNode(chainTail);
+            
+            if (predecessor != null) {
+                predecessor.setNextNode(chainHead);
+            } else {
+                head = chainHead;
+            }
+            
+            if (this.index != null) {
+                for (LinkedArrayListNode<E> n = chainHead; 
+                        n != successor; 
+                        n = n.getNextNode()) {
+                    this.index.insertAfter(n.getPreviousNode(), n);
+                }
+            }
+        }
+        
+        fingers = 0;
+        tiersStale = true;
+        // Only the last chain node and the successor may be underfull.
+        rebalance(successor.getPreviousNode(), 2);
+    }
+    
     @Override
     public void addFirst(E e) {
-        if (head.isFull()) {
-            LinkedArrayListNode<E> newnode = head.spawn();
-            newnode.setNextNode(head);
-            head.setPreviousNode(newnode);
-            head = newnode;
+        if (tiers != null) {
+            insertElement(head, 0, e);
+        } else {
+            if (head.isFull()) {
+                linkHeadNode(spawnNode());
+            }
+            
+            head.insert(0, e);
+            nodeResized(head);
         }
         
-        head.insert(0, e);
         ++size;
         ++modCount;
     }
@@ -279,16 +689,28 @@ implements ExtendedList<E>, Cloneable, Deque<E> {
     @Override
     public void addLast(E e) {
         if (tail.isFull()) {
-            LinkedArrayListNode<E> newnode = head.spawn();
-            newnode.setPreviousNode(tail);
-            tail.setNextNode(newnode);
-            tail = newnode;
+            linkNode(tail, spawnNode());
         }
         
         tail.append(e);
+        nodeResized(tail);
         ++size;
         ++modCount;
     }
+    
+    /**
+     * Moves all the elements of {@code other} to the end of this list, leaving
+     * {@code other} empty. If the two lists can share nodes, the node chain of
+     * {@code other} is relinked after the tail node of this list, so that no
+     * element is copied except when rebalancing the two nodes meeting at the
+     * seam. Otherwise, the elements are copied.
+     * 
+     * @param other the list whose elements to move.
+     * @throws IllegalArgumentException if {@code other} is this list.
+     */
+    public void append(LinkedArrayList<E> other) {
+        other.transferTo(this, 0, other.size);
+    }
 
     /**
      * Checks that this list maintains the invariants of 
@@ -297,11 +719,20 @@ implements ExtendedList<E>, Cloneable, Deque<E> {
      * there is no node that wastes space, or namely, every node has values
      * {@code null} at every storage array component that does not logically 
      * hold a value. The third invariant is that the sums of node sizes equals 
-     * the value of {@code size} field of this list.
+     * the value of {@code size} field of this list. The fourth invariant is 
+     * that every node other than the head and tail nodes is at least half 
+     * full, or in tiered mode, that every node other than the tail node is 
+     * full. Finally, if this list is indexed, the positional index must mirror
+     * the node chain.
      * 
      * @throws IllegalStateException if this list is not healthy.
      */
     public void checkHealth() {
+        if (index != null && !index.isHealthy(head)) {
+            throw new IllegalStateException(
+                    "The positional index does not match the node chain.");
+        }
+        
         if (head == tail) {
             // Only one node in this list. It is allowed to be empty.
             if (!head.isHealthyHead()) {
@@ -321,6 +752,18 @@ implements ExtendedList<E>, Cloneable, Deque<E> {
                 throw new IllegalStateException("Unhealthy node encountered.");
             }
             
+            if (tiers != null && node != tail && !node.isFull()) {
+                throw new IllegalStateException(
+                        "Non-full node encountered in a tiered list.");
+            }
+            
+            if (node != head && node != tail 
+                    && node.size() < minimumNodeSize(node)) {
+                throw new IllegalStateException(
+                        "Underfull node encountered: " + node.size() + 
+                        " elements, degree " + node.getDegree() + ".");
+            }
+            
             s += node.size();
         }
         
@@ -330,46 +773,53 @@ implements ExtendedList<E>, Cloneable, Deque<E> {
         }
     }
     
+    /**
+     * Returns a pull-style iterator over the chunks of this list. See 
+     * {@link #forEachChunk(ChunkConsumer)}.
+     * 
+     * @return a chunk iterator.
+     */
+    public ChunkIterator chunkIterator() {
+        return new ChunkIterator();
+    }
+    
     /**
      * Makes this list empty dropping all the elements.
      */
     @Override
     public void clear() {
-        head = head.spawn();
-        tail = head;
         size = 0;
+        head = spawnNode();
+        tail = head;
         ++modCount;
+        fingers = 0;
+        Arrays.fill(fingerNodes, null);
+        
+        if (index != null) {
+            index.rebuild(head);
+        }
+        
+        if (tiers != null) {
+            tiersStale = true;
+        }
     }
     
     /**
-     * Returns another {@code LinkedArrayList} with the same degree and node
-     * type, containing the same sequence of elements as this list.
+     * Returns another {@code LinkedArrayList} with the same configuration as
+     * this list, containing the same sequence of elements. The node chain is
+     * copied node by node, so that the copy has the same node shapes as this
+     * list.
      * 
      * @return another list with the same contents.
      */
     @Override
     public Object clone() {
-        final int degree = head.getDegree();
-        List<E> ret = new LinkedArrayList<>(degree, nodeType);
-        List<E> tmp = new ArrayList<>(degree);
-
-        for (LinkedArrayListNode<E> node = head;
-                node != null;
-                node = node.getNextNode()) {
-            final int nodeSize = node.size();
-
-            for (int i = 0; i < nodeSize; ++i) {
-                tmp.add(node.get(i));
-
-                if (tmp.size() == degree) {
-                    ret.addAll(tmp);
-                    tmp.clear();
-                }
-            }
+        LinkedArrayList<E> ret = emptyCopy();
+        
+        if (size > 0) {
+            ret.appendCopyOf(this);
         }
-
-        // Add the leftovers.
-        ret.addAll(tmp);
+        
         return ret;
     }
     
@@ -403,32 +853,107 @@ implements ExtendedList<E>, Cloneable, Deque<E> {
      */
     @Override
     public boolean containsAll(Collection<?> c) {
-        for (Object o : c) {
-            if (!contains(o)) {
-                return false;
+        if (c.size() <= LINEAR_PROBE_THRESHOLD) {
+            for (Object o : c) {
+                if (!contains(o)) {
+                    return false;
+                }
             }
+            
+            return true;
         }
         
-        return true;
-    }
-
-    /**
-     * {@inheritDoc }
-     */
-    @Override
-    public Iterator<E> descendingIterator() {
-        return new DescendingIterator(listIterator(size()));
-    }
-    
-    @Override
-    public E element() {
-        if (size == 0) {
-            throw new NoSuchElementException(
-            "Reading from empty LinkedArrayList.");
-        }
-        
-        return head.get(0);
-    }
+        if (c.size() > size) {
+            // Hash the smaller side: this list.
+            Set<E> set = new HashSet<>(this);
+            
+            for (Object o : c) {
+                if (!set.contains(o)) {
+                    return false;
+                }
+            }
+            
+            return true;
+        }
+        
+        // Hash the probes and cross them off in a single sweep.
+        Set<Object> probes = new HashSet<>(c);
+        
+        for (LinkedArrayListNode<E> node = head; 
+                node != null; 
+                node = node.getNextNode()) {
+            final int nodeSize = node.size();
+            
+            for (int i = 0; i < nodeSize; ++i) {
+                if (probes.remove(node.get(i)) && probes.isEmpty()) {
+                    return true;
+                }
+            }
+        }
+        
+        return false;
+    }
+    
+    /**
+     * Checks each element of {@code c} for inclusion in this list. Unlike 
+     * {@link #containsAll(Collection)}, reports the result for each probe 
+     * separately. Runs in a single sweep over this list.
+     * 
+     * @param  c the collection of probes.
+     * @return an array whose {@code i}th component tells whether the 
+     *         {@code i}th element of {@code c}, in iteration order, is in this
+     *         list.
+     */
+    public boolean[] containsEach(Collection<?> c) {
+        int[] indices = indexOfAll(c);
+        boolean[] result = new boolean[indices.length];
+        
+        for (int i = 0; i < indices.length; ++i) {
+            result[i] = indices[i] >= 0;
+        }
+        
+        return result;
+    }
+    
+    /**
+     * Returns a new cursor placed at the beginning of this list. See 
+     * {@link Cursor}.
+     * 
+     * @return a cursor.
+     */
+    public Cursor cursor() {
+        return new Cursor(0);
+    }
+    
+    /**
+     * Returns a new cursor placed at {@code index}. See {@link Cursor}.
+     * 
+     * @param  index the initial position of the cursor.
+     * @return a cursor.
+     * @throws IndexOutOfBoundsException if {@code index} is negative or larger
+     *         than the size of this list.
+     */
+    public Cursor cursor(int index) {
+        return new Cursor(index);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public Iterator<E> descendingIterator() {
+        return new DescendingIterator(listIterator(size()));
+    }
+    
+    @Override
+    public E element() {
+        if (size == 0) {
+            throw new NoSuchElementException(
+            "Reading from empty LinkedArrayList.");
+        }
+        
+        return head.get(0);
+    }
     
     /**
      * Returns {@code true} if {@code o} is a {@link java.util.List}, it has the
@@ -465,6 +990,64 @@ implements ExtendedList<E>, Cloneable, Deque<E> {
         return !thisIter.hasNext();
     }
     
+    /**
+     * Performs {@code action} on each element of this list in order. The
+     * elements are traversed node by node, and the concurrent modification is
+     * checked once per node.
+     * 
+     * @param action the action to perform on each element.
+     * @throws ConcurrentModificationException if {@code action} modifies this
+     *                                         list.
+     */
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action, "The action is null.");
+        final int expectedModCount = modCount;
+        
+        for (LinkedArrayListNode<E> node = head; 
+                node != null; 
+                node = node.getNextNode()) {
+            node.forEach(0, node.size(), action);
+            
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+    
+    /**
+     * Passes the elements of this list in order to {@code action} as chunks of
+     * the backing arrays of the nodes, without copying. A node contributes at
+     * most two chunks, as its elements may wrap around the end of its array or
+     * surround the unused part of it. The concurrent modification is checked
+     * once per node.
+     * 
+     * @param action the consumer of the chunks.
+     * @throws ConcurrentModificationException if {@code action} modifies this
+     *                                         list.
+     */
+    public void forEachChunk(ChunkConsumer action) {
+        Objects.requireNonNull(action, "The action is null.");
+        final int expectedModCount = modCount;
+        final int[] chunks = new int[4];
+        
+        for (LinkedArrayListNode<E> node = head; 
+                node != null; 
+                node = node.getNextNode()) {
+            final int chunkCount = node.getChunks(chunks);
+            
+            for (int i = 0; i < chunkCount; ++i) {
+                action.accept(node.elementArray, 
+                              chunks[2 * i], 
+                              chunks[2 * i + 1]);
+            }
+            
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+    
     /**
      * Returns the element at index {@code index}.
      * 
@@ -480,14 +1063,32 @@ implements ExtendedList<E>, Cloneable, Deque<E> {
     }
     
     /**
-     * Returns the degree of this list.
+     * Returns the degree of this list. In adaptive mode, this is the degree 
+     * the new nodes are currently created with, while the existing nodes may
+     * have different capacities.
      * 
      * @return the degree.
      */
     public int getDegree() {
+        if (adaptive) {
+            int degree = Integer.highestOneBit(
+                    Math.max(1, (int) Math.sqrt(size)));
+            return Math.max(minimumDegree, Math.min(maximumDegree, degree));
+        }
+        
         return head.getDegree();
     }
     
+    /**
+     * Returns {@code true} if this list chooses the degree of its new nodes 
+     * from its size.
+     * 
+     * @return {@code true} if this list is in adaptive mode.
+     */
+    public boolean isAdaptive() {
+        return adaptive;
+    }
+    
     @Override
     public E getFirst() {
         if (size == 0) {
@@ -520,6 +1121,110 @@ implements ExtendedList<E>, Cloneable, Deque<E> {
         return nodeType;
     }
     
+    /**
+     * Returns the policy used for inserting into full nodes.
+     * 
+     * @return the split policy.
+     */
+    public SplitPolicy getSplitPolicy() {
+        return splitPolicy;
+    }
+    
+    /**
+     * Sets the policy used for inserting into full nodes.
+     * 
+     * @param splitPolicy the new split policy.
+     */
+    public void setSplitPolicy(SplitPolicy splitPolicy) {
+        this.splitPolicy = Objects.requireNonNull(splitPolicy, 
+                                                  "The split policy is null.");
+    }
+    
+    /**
+     * Returns the amount of nodes in this list.
+     * 
+     * @return the amount of nodes.
+     */
+    int getNodeCount() {
+        int nodeCount = 0;
+        
+        for (LinkedArrayListNode<E> node = head;
+                node != null;
+                node = node.getNextNode()) {
+            ++nodeCount;
+        }
+        
+        return nodeCount;
+    }
+    
+    /**
+     * Sets the capacity of the node pool of this list. The nodes unlinked
+     * from the node chain are kept in the pool, up to its capacity, and are 
+     * reused instead of allocating new nodes. This reduces the allocation 
+     * rate of queue-like usage, where the nodes are constantly created at one
+     * end of the list and dropped at the other. The capacity zero, which is 
+     * the default, disables the pool.
+     * 
+     * @param capacity the new capacity of the node pool.
+     * @throws IllegalArgumentException if {@code capacity} is negative.
+     */
+    public void setNodePoolCapacity(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException(
+                    "The node pool capacity is negative: " + capacity);
+        }
+        
+        pooledNodes = Math.min(pooledNodes, capacity);
+        nodePool = Arrays.copyOf(nodePool, capacity);
+    }
+    
+    /**
+     * Returns the capacity of the node pool of this list.
+     * 
+     * @return the node pool capacity.
+     */
+    public int getNodePoolCapacity() {
+        return nodePool.length;
+    }
+    
+    /**
+     * Returns the amount of nodes currently in the node pool of this list.
+     * 
+     * @return the node pool size.
+     */
+    public int getNodePoolSize() {
+        return pooledNodes;
+    }
+    
+    /**
+     * Returns the amount of times a new node was taken from the node pool.
+     * 
+     * @return the amount of node pool hits.
+     */
+    public long getNodePoolHits() {
+        return nodePoolHits;
+    }
+    
+    /**
+     * Returns the amount of times a new node had to be allocated because the
+     * node pool was empty.
+     * 
+     * @return the amount of node pool misses.
+     */
+    public long getNodePoolMisses() {
+        return nodePoolMisses;
+    }
+    
+    /**
+     * Returns {@code true} if this list maintains a positional index over its
+     * nodes.
+     * 
+     * @return {@code true} if this list is indexed.
+     */
+    public boolean isIndexed() {
+        return index != null;
+    }
+    
     /**
      * Returns the hash code of this list. This routine was copied from 
      * {@link java.util.ArrayList#hashCode()} for compatibility.
@@ -564,6 +1269,54 @@ implements ExtendedList<E>, Cloneable, Deque<E> {
         return -1;
     }
 
+    /**
+     * Returns the index of the first occurrence of each element of {@code c}
+     * in this list. Runs in a single sweep over this list, which stops as 
+     * soon as all the distinct probes are found.
+     * 
+     * @param  c the collection of probes.
+     * @return an array whose {@code i}th component is the index of the first
+     *         occurrence of the {@code i}th element of {@code c}, in 
+     *         iteration order, or -1 if there is no such element.
+     */
+    public int[] indexOfAll(Collection<?> c) {
+        int[] result = new int[c.size()];
+        // 'slots[i]' is the index of the first probe equal to probe 'i'.
+        int[] slots = new int[result.length];
+        Map<Object, Integer> slotMap = new HashMap<>();
+        int slot = 0;
+        
+        for (Object o : c) {
+            Integer first = slotMap.putIfAbsent(o, slot);
+            slots[slot] = first == null ? slot : first;
+            result[slot++] = -1;
+        }
+        
+        int remaining = slotMap.size();
+        int index = 0;
+        
+        for (LinkedArrayListNode<E> node = head; 
+                node != null && remaining > 0; 
+                node = node.getNextNode()) {
+            final int nodeSize = node.size();
+            
+            for (int i = 0; i < nodeSize; ++i, ++index) {
+                Integer first = slotMap.remove(node.get(i));
+                
+                if (first != null) {
+                    result[first] = index;
+                    --remaining;
+                }
+            }
+        }
+        
+        for (int i = 0; i < result.length; ++i) {
+            result[i] = result[slots[i]];
+        }
+        
+        return result;
+    }
+    
     /**
      * Checks whether this list is empty.
      * 
@@ -584,6 +1337,41 @@ implements ExtendedList<E>, Cloneable, Deque<E> {
     public Iterator<E> iterator() {
         return new BasicLinkedArrayListIterator();
     }
+    
+    /**
+     * Returns a {@link java.util.Spliterator} over the elements of this list.
+     * The spliterator splits the list at node boundaries, and within a node 
+     * only when the range to split does not span enough nodes. The returned
+     * spliterator is <b>fail-fast</b> and reports 
+     * {@link java.util.Spliterator#ORDERED}, 
+     * {@link java.util.Spliterator#SIZED} and 
+     * {@link java.util.Spliterator#SUBSIZED}.
+     * 
+     * @return a spliterator over this list.
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return new LinkedArrayListSpliterator(head, 0, 0, size);
+    }
+    
+    /**
+     * Splits this list at {@code index}. This list keeps the elements with 
+     * indices less than {@code index}, and the rest are moved to a new list,
+     * which is returned. The new list has the same configuration as this 
+     * list. See {@link #transferTo(LinkedArrayList, int, int)} for the cost.
+     * 
+     * @param  index the index of the first element to move.
+     * @return the list holding the suffix of this list starting at 
+     *         {@code index}.
+     * @throws IndexOutOfBoundsException if {@code index} is negative or larger
+     *         than the size of this list.
+     */
+    public LinkedArrayList<E> splitAt(int index) {
+        checkIndexForAddition(index);
+        LinkedArrayList<E> ret = emptyCopy();
+        transferTo(ret, index, size);
+        return ret;
+    }
 
     /**
      * Returns the index of the last occurrence of {@code o} in this list, or
@@ -633,19 +1421,18 @@ implements ExtendedList<E>, Cloneable, Deque<E> {
      */
     @Override
     public ListIterator<E> listIterator(int index) {
+        checkIndexForAddition(index);
         return new AdvancedLinkedArrayListIterator(index);
     }
 
     @Override
     public boolean offer(E e) {
         if (tail.isFull()) {
-            LinkedArrayListNode<E> newnode = head.spawn();
-            tail.setNextNode(newnode);
-            newnode.setPreviousNode(tail);
-            tail = newnode;
+            linkNode(tail, spawnNode());
         }
         
         tail.append(e);
+        nodeResized(tail);
         ++size;
         ++modCount;
         return true;
@@ -653,14 +1440,17 @@ implements ExtendedList<E>, Cloneable, Deque<E> {
     
     @Override
     public boolean offerFirst(E e) {
-        if (head.isFull()) {
-            LinkedArrayListNode<E> newnode = head.spawn();
-            newnode.setNextNode(head);
-            head.setPreviousNode(newnode);
-            head = newnode;
+        if (tiers != null) {
+            insertElement(head, 0, e);
+        } else {
+            if (head.isFull()) {
+                linkHeadNode(spawnNode());
+            }
+            
+            head.insert(0, e);
+            nodeResized(head);
         }
         
-        head.insert(0, e);
         ++size;
         ++modCount;
         return true;
@@ -669,13 +1459,11 @@ implements ExtendedList<E>, Cloneable, Deque<E> {
     @Override
     public boolean offerLast(E e) {
         if (tail.isFull()) {
-            LinkedArrayListNode<E> newnode = head.spawn();
-            newnode.setPreviousNode(tail);
-            tail.setNextNode(newnode);
-            tail = newnode;
+            linkNode(tail, spawnNode());
         }
         
         tail.append(e);
+        nodeResized(tail);
         ++size;
         ++modCount;
         return true;
@@ -715,10 +1503,8 @@ implements ExtendedList<E>, Cloneable, Deque<E> {
         }
         
         E ret = head.removeAt(0);
-        
-        if (head.isEmpty()) {
-            unlinkNode(head);
-        }
+        nodeResized(head);
+        rebalance(head, 1);
         
         --size;
         ++modCount;
@@ -732,10 +1518,8 @@ implements ExtendedList<E>, Cloneable, Deque<E> {
         }
         
         E ret = head.removeAt(0);
-        
-        if (head.isEmpty()) {
-            unlinkNode(head);
-        }
+        nodeResized(head);
+        rebalance(head, 1);
         
         --size;
         ++modCount;
@@ -749,6 +1533,7 @@ implements ExtendedList<E>, Cloneable, Deque<E> {
         }
         
         E ret = tail.removeAt(tail.size() - 1);
+        nodeResized(tail);
         
         if (tail.isEmpty()) {
             unlinkNode(tail);
@@ -767,10 +1552,8 @@ implements ExtendedList<E>, Cloneable, Deque<E> {
         }
         
         E ret = head.removeAt(0);
-        
-        if (head.isEmpty()) {
-            unlinkNode(head);
-        }
+        nodeResized(head);
+        rebalance(head, 1);
         
         --size;
         ++modCount;
@@ -779,14 +1562,17 @@ implements ExtendedList<E>, Cloneable, Deque<E> {
 
     @Override
     public void push(E e) {
-        if (head.isFull()) {
-            LinkedArrayListNode<E> newnode = head.spawn();
-            newnode.setNextNode(head);
-            head.setPreviousNode(newnode);
-            head = newnode;
+        if (tiers != null) {
+            insertElement(head, 0, e);
+        } else {
+            if (head.isFull()) {
+                linkHeadNode(spawnNode());
+            }
+            
+            head.insert(0, e);
+            nodeResized(head);
         }
         
-        head.insert(0, e);
         ++size;
         ++modCount;
     }
@@ -799,10 +1585,8 @@ implements ExtendedList<E>, Cloneable, Deque<E> {
         }
         
         E ret = head.removeAt(0);
-        
-        if (head.isEmpty()) {
-            unlinkNode(head);
-        }
+        nodeResized(head);
+        rebalance(head, 1);
         
         ++modCount;
         --size;
@@ -822,9 +1606,13 @@ implements ExtendedList<E>, Cloneable, Deque<E> {
         searchElement(index);
         E ret = searchNode.get(searchLocalIndex);
         searchNode.removeAt(searchLocalIndex);
+        nodeResized(searchNode);
+        rebalance(searchNode, 1);
         
-        if (searchNode.isEmpty()) {
-            unlinkNode(searchNode);
+        if (size > 1) {
+            // 'searchNode' and 'searchLocalIndex' now point to the element
+            // that followed the removed one.
+            recordFinger(-1, searchNode, index - searchLocalIndex);
         }
         
         ++modCount;
@@ -846,12 +1634,10 @@ implements ExtendedList<E>, Cloneable, Deque<E> {
                 node = node.getNextNode()) {
             
             if (node.remove(o)) {
+                nodeResized(node);
                 --size;
                 ++modCount;
-                
-                if (node.isEmpty()) {
-                    unlinkNode(node);
-                }
+                rebalance(node, 1);
                 
                 return true;
             }
@@ -878,10 +1664,8 @@ implements ExtendedList<E>, Cloneable, Deque<E> {
         }
         
         E ret = head.removeAt(0);
-        
-        if (head.isEmpty()) {
-            unlinkNode(head);
-        }
+        nodeResized(head);
+        rebalance(head, 1);
         
         --size;
         ++modCount;
@@ -898,10 +1682,8 @@ implements ExtendedList<E>, Cloneable, Deque<E> {
                 
                 if (Objects.equals(current, o)) {
                     node.removeAt(i);
-                    
-                    if (node.isEmpty()) {
-                        unlinkNode(node);
-                    }
+                    nodeResized(node);
+                    rebalance(node, 1);
                     
                     --size;
                     ++modCount;
@@ -913,6 +1695,20 @@ implements ExtendedList<E>, Cloneable, Deque<E> {
         return false;
     }
 
+    /**
+     * Removes all the elements of this list satisfying {@code filter}. The 
+     * survivors are packed densely into the leading nodes in a single pass, 
+     * and the emptied nodes are unlinked at once.
+     * 
+     * @param  filter the predicate selecting the elements to remove.
+     * @return {@code true} only if any element was removed.
+     */
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        Objects.requireNonNull(filter, "The filter is null.");
+        return removeMatching(filter);
+    }
+    
     @Override
     public E removeLast() {
         if (size == 0) {
@@ -920,6 +1716,7 @@ implements ExtendedList<E>, Cloneable, Deque<E> {
         }
         
         E ret = tail.removeAt(tail.size() - 1);
+        nodeResized(tail);
         
         if (tail.isEmpty()) {
             unlinkNode(tail);
@@ -938,10 +1735,8 @@ implements ExtendedList<E>, Cloneable, Deque<E> {
             for (int i = node.size() - 1; i >= 0; --i) {
                 if (Objects.equals(node.get(i), o)) {
                     node.removeAt(i);
-                    
-                    if (node.isEmpty()) {
-                        unlinkNode(node);
-                    }
+                    nodeResized(node);
+                    rebalance(node, 1);
                     
                     --size;
                     ++modCount;
@@ -952,6 +1747,30 @@ implements ExtendedList<E>, Cloneable, Deque<E> {
         return false;
     }
 
+    /**
+     * Replaces each element of this list with the result of applying 
+     * {@code operator} to it.
+     * 
+     * @param operator the operator to apply to each element.
+     * @throws ConcurrentModificationException if {@code operator} modifies 
+     *                                         this list.
+     */
+    @Override
+    public void replaceAll(UnaryOperator<E> operator) {
+        Objects.requireNonNull(operator, "The operator is null.");
+        final int expectedModCount = modCount;
+        
+        for (LinkedArrayListNode<E> node = head; 
+                node != null; 
+                node = node.getNextNode()) {
+            node.replaceAll(operator);
+            
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+    
     /**
      * Retains only those elements in this list that are contained in {@code c}.
      * The elements in this list and not contained in {@code c} will be removed.
@@ -1003,6 +1822,51 @@ implements ExtendedList<E>, Cloneable, Deque<E> {
         return new SubList(this, fromIndex, toIndex);
     }
     
+    /**
+     * Moves the elements of this list with indices from {@code fromIndex} 
+     * (inclusive) to {@code toIndex} (exclusive) to the end of {@code dst}. 
+     * If the two lists can share nodes, that is, they have the same node type,
+     * they are not tiered, and either both are adaptive or both have the same
+     * degree, the range is cut out of this list at node boundaries, splitting 
+     * at most two nodes, and the detached node chain is relinked after the 
+     * tail node of {@code dst}. No other element is copied except when 
+     * rebalancing the nodes meeting at the seams. The positional indices, if
+     * any, are updated per moved node. Otherwise, the elements are copied.
+     * 
+     * @param dst       the list to move the elements to.
+     * @param fromIndex the index of the first element to move.
+     * @param toIndex   the index one past the last element to move.
+     * @throws IllegalArgumentException  if {@code dst} is this list, or 
+     *                                   {@code fromIndex > toIndex}.
+     * @throws IndexOutOfBoundsException if the range exceeds this list.
+     */
+    public void transferTo(LinkedArrayList<E> dst, int fromIndex, int toIndex) {
+        if (dst == this) {
+            throw new IllegalArgumentException(
+                    "Cannot transfer elements to the same list.");
+        }
+        
+        sublistRangeCheck(fromIndex, toIndex, size);
+        
+        if (fromIndex == toIndex) {
+            return;
+        }
+        
+        if (!canShareNodes(dst)) {
+            dst.addAll(subList(fromIndex, toIndex));
+            removeRange(fromIndex, toIndex);
+            return;
+        }
+        
+        // Cut at 'toIndex' first so that 'fromIndex' stays valid.
+        LinkedArrayListNode<E> end = cutBefore(toIndex);
+        LinkedArrayListNode<E> first = cutBefore(fromIndex);
+        LinkedArrayListNode<E> last = end == null ? tail : 
+                                                    end.getPreviousNode();
+        detachChain(first, last, toIndex - fromIndex);
+        dst.attachChain(first, last, toIndex - fromIndex);
+    }
+    
     /**
      * Checks the validity of a sublist indices.
      * 
@@ -1112,34 +1976,84 @@ implements ExtendedList<E>, Cloneable, Deque<E> {
         int rangeLength = toIndex - fromIndex;
         int left = rangeLength;
         
-        searchElement(fromIndex);
-        
-        int elementsToRemove = Math.min(rangeLength, 
-                                        searchNode.size() - searchLocalIndex);
-        searchNode.removeRange(searchLocalIndex,
-                               searchLocalIndex + elementsToRemove);
-        
-        if (searchNode.isEmpty()) {
-            unlinkNode(searchNode);
+        if (rangeLength == 0) {
+            return;
         }
         
-        left -= elementsToRemove;
-        LinkedArrayListNode<E> currentNode = searchNode.getNextNode();
+        searchElement(fromIndex);
+        
+        LinkedArrayListNode<E> node = searchNode;
+        LinkedArrayListNode<E> firstSurvivor = null;
+        int localIndex = searchLocalIndex;
         
-        while (left > 0) {
-            elementsToRemove = Math.min(left, currentNode.size());
-            currentNode.removeRange(0, elementsToRemove);
+        while (true) {
+            int elementsToRemove = Math.min(left, node.size() - localIndex);
+            node.removeRange(localIndex, localIndex + elementsToRemove);
+            nodeResized(node);
             left -= elementsToRemove;
             
-            if (currentNode.isEmpty()) {
-                unlinkNode(currentNode);
-                currentNode = currentNode.getNextNode();
+            if (node.isEmpty()) {
+                unlinkNode(node);
+            } else if (firstSurvivor == null) {
+                firstSurvivor = node;
+            }
+            
+            if (left == 0) {
+                break;
             }
+            
+            node = node.getNextNode();
+            localIndex = 0;
+        }
+        
+        if (firstSurvivor == null) {
+            firstSurvivor = node.isEmpty() ? node.getNextNode() : node;
         }
         
+        // Only the two nodes around the removed range may be underfull.
+        rebalance(firstSurvivor, 2);
         size -= rangeLength;
     }
     
+    /**
+     * Fills this empty list with the elements of {@code array} with indices
+     * from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive). 
+     * Allocates exactly as many nodes as needed and fills each of them with a
+     * single array copy, all but the last one up to the degree. The 
+     * positional index, if any, is rebuilt once at the end.
+     * 
+     * @param array     the array holding the elements to load.
+     * @param fromIndex the index of the first element to load.
+     * @param toIndex   the index one past the last element to load.
+     */
+    private void load(Object[] array, int fromIndex, int toIndex) {
+        if (fromIndex == toIndex) {
+            return;
+        }
+        
+        final int degree = head.getDegree();
+        head.load(array, fromIndex, Math.min(degree, toIndex - fromIndex));
+        
+        for (int i = fromIndex + degree; i < toIndex; i += degree) {
+            LinkedArrayListNode<E> newnode = spawnNode();
+            newnode.load(array, i, Math.min(degree, toIndex - i));
+            newnode.setPreviousNode(tail);
+            tail.setNextNode(newnode);
+            tail = newnode;
+        }
+        
+        size = toIndex - fromIndex;
+        ++modCount;
+        
+        if (index != null) {
+            index.rebuild(head);
+        }
+        
+        if (tiers != null) {
+            tiersStale = true;
+        }
+    }
+    
     /**
      * Validates the access index.
      * 
@@ -1213,26 +2127,92 @@ implements ExtendedList<E>, Cloneable, Deque<E> {
             set = new HashSet<>((Collection<E>) col);
         }
         
-        boolean modified = false;
+        final Set<E> lookup = set;
+        return removeMatching(e -> lookup.contains(e) == mode);
+    }
+    
+    /**
+     * Removes all the elements satisfying {@code filter} in a single sweep 
+     * over the node chain. Each node is first compacted in place, after which
+     * its survivors are moved to the write position trailing the sweep. This 
+     * way all the nodes but the last one holding survivors end up full, and 
+     * the emptied nodes at the end of the chain are unlinked at once. If 
+     * {@code filter} throws, the elements not tested yet are kept and this 
+     * list is left in a consistent state.
+     * 
+     * @param  filter the predicate selecting the elements to remove.
+     * @return {@code true} only if any element was removed.
+     */
+    private boolean removeMatching(Predicate<? super E> filter) {
+        final int expectedModCount = modCount;
+        final int oldSize = size;
+        LinkedArrayListNode<E> writeNode = head;
+        LinkedArrayListNode<E> readNode = head;
+        boolean moved = false;
         
-        for (LinkedArrayListNode<E> node = tail; 
-                node != null;
-                node = node.getPreviousNode()) {
-            for (int i = node.size() - 1; i >= 0; --i) {
-                if (set.contains(node.get(i)) == mode) {
-                    modified = true;
-                    node.removeAt(i);
-                    --size;
-                    ++modCount;
+        try {
+            while (readNode != null) {
+                final int readSize = readNode.size();
+                
+                try {
+                    readNode.removeIf(filter);
+                } finally {
+                    // Account for the removals even if 'filter' throws.
+                    size -= readSize - readNode.size();
+                }
+                
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                
+                while (readNode != writeNode && !readNode.isEmpty()) {
+                    int room = writeNode.getDegree() - writeNode.size();
+                    
+                    if (room == 0) {
+                        writeNode = writeNode.getNextNode();
+                    } else {
+                        readNode.moveFirstTo(writeNode, 
+                                             Math.min(room, readNode.size()));
+                        moved = true;
+                    }
                 }
+                
+                readNode = readNode.getNextNode();
             }
-
-            if (node.isEmpty()) {
-                unlinkNode(node);
+        } finally {
+            if (size != oldSize || moved) {
+                // The nodes between the write position and the first
+                // non-empty node after it have been drained.
+                LinkedArrayListNode<E> node = writeNode.getNextNode();
+                
+                while (node != null && node.isEmpty()) {
+                    LinkedArrayListNode<E> next = node.getNextNode();
+                    recycleNode(node);
+                    node = next;
+                }
+                
+                writeNode.setNextNode(node);
+                
+                if (node == null) {
+                    tail = writeNode;
+                } else {
+                    node.setPreviousNode(writeNode);
+                }
+                
+                ++modCount;
+                fingers = 0;
+                tiersStale = true;
+                
+                if (index != null) {
+                    index.rebuild(head);
+                }
+                
+                // Only a filter failure may leave nodes underfull here.
+                rebalance(writeNode, 2);
             }
         }
         
-        return modified;
+        return size != oldSize;
     }
     
     /**
@@ -1250,9 +2230,362 @@ implements ExtendedList<E>, Cloneable, Deque<E> {
 
         if (node.getNextNode() != null) {
             node.getNextNode().setPreviousNode(node);
+            // The global offsets of the nodes after 'node' have changed.
+            fingers = 0;
+            tiersStale = true;
         } else {
             tail = node;
+            
+            if (tiers != null && !tiersStale) {
+                if (tierCount == tiers.length) {
+                    tiers = Arrays.copyOf(tiers, 2 * tierCount);
+                }
+                
+                tiers[tierCount++] = node;
+            }
+        }
+        
+        if (index != null) {
+            index.insertAfter(predecessor, node);
+        }
+    }
+    
+    /**
+     * Returns {@code true} if the nodes of this list may be linked into 
+     * {@code other} and vice versa.
+     * 
+     * @param  other the other list.
+     * @return {@code true} if the two lists may exchange nodes.
+     */
+    private boolean canShareNodes(LinkedArrayList<E> other) {
+        return nodeType == other.nodeType 
+                && tiers == null 
+                && other.tiers == null
+                && adaptive == other.adaptive
+                && (adaptive || head.getDegree() == other.head.getDegree());
+    }
+    
+    /**
+     * Makes sure that the element at {@code index} is the first element of 
+     * its node by moving the elements of its node starting from it to a new
+     * node.
+     * 
+     * @param  index the global index of the element.
+     * @return the node starting at {@code index}, or {@code null} if 
+     *         {@code index} equals the size of this list.
+     */
+    private LinkedArrayListNode<E> cutBefore(int index) {
+        if (index == size) {
+            return null;
+        }
+        
+        searchElement(index);
+        LinkedArrayListNode<E> node = searchNode;
+        
+        if (searchLocalIndex == 0) {
+            return node;
+        }
+        
+        LinkedArrayListNode<E> newnode = spawnNode(node.getDegree());
+        node.moveLastTo(newnode, node.size() - searchLocalIndex);
+        linkNode(node, newnode);
+        nodeResized(node);
+        return newnode;
+    }
+    
+    /**
+     * Unlinks the node chain from {@code first} through {@code last}, holding
+     * {@code count} elements, from this list. If no node is left, a new empty
+     * node is created. The two nodes meeting at the cut are rebalanced.
+     * 
+     * @param first the first node of the chain.
+     * @param last  the last node of the chain.
+     * @param count the amount of elements in the chain.
+     */
+    private void detachChain(LinkedArrayListNode<E> first, 
+                             LinkedArrayListNode<E> last, 
+                             int count) {
+        LinkedArrayListNode<E> prev = first.getPreviousNode();
+        LinkedArrayListNode<E> next = last.getNextNode();
+        // Spawn the replacement while the head node is still available.
+        LinkedArrayListNode<E> empty = 
+                prev == null && next == null ? spawnNode() : null;
+        
+        if (index != null) {
+            for (LinkedArrayListNode<E> node = first; 
+                    node != next; 
+                    node = node.getNextNode()) {
+                index.remove(node);
+            }
+        }
+        
+        if (prev == null) {
+            head = next;
+        } else {
+            prev.setNextNode(next);
+        }
+        
+        if (next == null) {
+            tail = prev;
+        } else {
+            next.setPreviousNode(prev);
+        }
+        
+        first.setPreviousNode(null);
+        last.setNextNode(null);
+        
+        if (empty != null) {
+            head = empty;
+            tail = empty;
+            
+            if (index != null) {
+                index.rebuild(head);
+            }
+        }
+        
+        size -= count;
+        ++modCount;
+        fingers = 0;
+        
+        if (prev != null && next != null) {
+            rebalance(prev, 2);
+        }
+    }
+    
+    /**
+     * Links the detached node chain from {@code first} through {@code last},
+     * holding {@code count} elements, after the tail node of this list. The 
+     * two nodes meeting at the seam are rebalanced.
+     * 
+     * @param first the first node of the chain.
+     * @param last  the last node of the chain.
+     * @param count the amount of elements in the chain.
+     */
+    private void attachChain(LinkedArrayListNode<E> first, 
+                             LinkedArrayListNode<E> last, 
+                             int count) {
+        LinkedArrayListNode<E> oldTail = tail;
+        tail = last;
+        size += count;
+        ++modCount;
+        fingers = 0;
+        tiersStale = true;
+        
+        if (oldTail.isEmpty()) {
+            // Only the head node may be empty. Drop it.
+            recycleNode(oldTail);
+            head = first;
+            
+            if (index != null) {
+                index.rebuild(head);
+            }
+            
+            return;
+        }
+        
+        oldTail.setNextNode(first);
+        first.setPreviousNode(oldTail);
+        
+        if (index != null) {
+            for (LinkedArrayListNode<E> node = first; 
+                    node != null; 
+                    node = node.getNextNode()) {
+                index.insertAfter(node.getPreviousNode(), node);
+            }
+        }
+        
+        rebalance(oldTail, 2);
+    }
+    
+    /**
+     * Appends copies of the nodes of {@code c} to this list, if {@code c} is
+     * a non-empty {@code LinkedArrayList} this list can share nodes with.
+     * 
+     * @param  c the collection to append.
+     * @return {@code true} if the nodes were appended, {@code false} if 
+     *         {@code c} must be appended element by element.
+     */
+    private boolean appendNodeCopies(Collection<? extends E> c) {
+        if (!(c instanceof LinkedArrayList) || c.isEmpty()) {
+            return false;
+        }
+        
+        LinkedArrayList<E> other = (LinkedArrayList<E>) c;
+        
+        if (!canShareNodes(other)) {
+            return false;
+        }
+        
+        appendCopyOf(other);
+        return true;
+    }
+    
+    /**
+     * Appends copies of all the nodes of the non-empty list {@code other} to
+     * this list.
+     * 
+     * @param other the list whose nodes to copy.
+     */
+    private void appendCopyOf(LinkedArrayList<E> other) {
+        // Copy the size first, as 'other' may be this list.
+        final int count = other.size;
+        LinkedArrayListNode<E> first = null;
+        LinkedArrayListNode<E> last = null;
+        
+        for (LinkedArrayListNode<E> node = other.head; 
+                node != null; 
+                node = node.getNextNode()) {
+            LinkedArrayListNode<E> copy = node.copy();
+            
+            if (first == null) {
+                first = copy;
+            } else {
+                last.setNextNode(copy);
+                copy.setPreviousNode(last);
+            }
+            
+            last = copy;
+        }
+        
+        attachChain(first, last, count);
+    }
+    
+    /**
+     * Returns a new, empty list with the same node type, degree settings, 
+     * split policy, amount of fingers and node pool capacity as this list, 
+     * indexed if and only if this list is indexed.
+     * 
+     * @return an empty list configured as this list.
+     */
+    private LinkedArrayList<E> emptyCopy() {
+        LinkedArrayList<E> ret = 
+                adaptive ? 
+                new LinkedArrayList<>(minimumDegree, maximumDegree, nodeType) :
+                new LinkedArrayList<>(head.getDegree(), nodeType);
+        
+        if (index != null && ret.index == null) {
+            ret.index = new LinkedArrayListTreapIndex<>(ret.head);
+        }
+        
+        ret.splitPolicy = splitPolicy;
+        ret.setFingerCount(fingerNodes.length);
+        ret.setNodePoolCapacity(nodePool.length);
+        return ret;
+    }
+    
+    /**
+     * Links {@code node} in front of the current head node, making it the new
+     * head node.
+     * 
+     * @param node the node to link.
+     */
+    private void linkHeadNode(LinkedArrayListNode<E> node) {
+        node.setNextNode(head);
+        head.setPreviousNode(node);
+        head = node;
+        tiersStale = true;
+        
+        if (index != null) {
+            index.insertAfter(null, node);
+        }
+    }
+    
+    /**
+     * Notifies the positional index, if any, that the amount of elements in
+     * {@code node} might have changed. Unless {@code node} is the tail node,
+     * the global offsets of the subsequent nodes change as well, so the
+     * fingers are invalidated.
+     * 
+     * @param node the modified node.
+     */
+    private void nodeResized(LinkedArrayListNode<E> node) {
+        if (node != tail) {
+            fingers = 0;
+        }
+        
+        if (index != null) {
+            index.update(node);
+        }
+    }
+    
+    /**
+     * Sets the amount of fingers this list maintains. Zero disables the 
+     * fingers.
+     * 
+     * @param fingerCount the amount of fingers.
+     */
+    void setFingerCount(int fingerCount) {
+        this.fingerNodes = newNodeArray(fingerCount);
+        this.fingerOffsets = new int[fingerCount];
+        this.fingers = 0;
+        this.nextFingerSlot = 0;
+    }
+    
+    /**
+     * Stores the finger pointing to {@code node} whose first element has the 
+     * global index {@code offset}. If {@code slot} is non-negative, the finger
+     * in that slot is overwritten. Otherwise, a free slot is used, or the 
+     * oldest slot if there is no free slots.
+     * 
+     * @param slot   the slot to overwrite or a negative value.
+     * @param node   the node of the finger.
+     * @param offset the global index of the first element in {@code node}.
+     */
+    private void recordFinger(int slot, 
+                              LinkedArrayListNode<E> node, 
+                              int offset) {
+        if (fingerNodes.length == 0) {
+            return;
+        }
+        
+        if (slot < 0) {
+            for (int i = 0; i < fingers; ++i) {
+                if (fingerNodes[i] == node) {
+                    fingerOffsets[i] = offset;
+                    return;
+                }
+            }
+            
+            if (fingers < fingerNodes.length) {
+                slot = fingers++;
+            } else {
+                slot = nextFingerSlot;
+                nextFingerSlot = (nextFingerSlot + 1) % fingerNodes.length;
+            }
+        }
+        
+        fingerNodes[slot] = node;
+        fingerOffsets[slot] = offset;
+    }
+    
+    /**
+     * Returns the distance from the element range of a node starting at global
+     * index {@code offset} to the global index {@code index}.
+     * 
+     * @param node   the node.
+     * @param offset the global index of the first element in {@code node}.
+     * @param index  the target global index.
+     * @return the distance in elements.
+     */
+    private static int distance(LinkedArrayListNode<?> node, 
+                                int offset, 
+                                int index) {
+        if (index < offset) {
+            return offset - index;
         }
+        
+        return Math.max(0, index - offset - node.size() + 1);
+    }
+    
+    /**
+     * Allocates an array of node references.
+     * 
+     * @param  length the length of the array.
+     * @return an array of {@code length} {@code null} references.
+     */
+    @SuppressWarnings("unchecked")
+    private static <E> LinkedArrayListNode<E>[] newNodeArray(int length) {
+        return (LinkedArrayListNode<E>[]) new LinkedArrayListNode<?>[length];
     }
     
     /**
@@ -1262,159 +2595,1253 @@ implements ExtendedList<E>, Cloneable, Deque<E> {
      * @param index the global index of the element to search.
      */
     private void searchElement(int index) {
-        if (index < size() / 2) {
-            // Access starting from the head. There is a chance that we will 
-            // traverse less nodes than starting from the tail.
-            LinkedArrayListNode<E> node = head;
-
-            while (index >= node.size()) {
-                index -= node.size();
+        if (tiers != null) {
+            if (tiersStale) {
+                rebuildTiers();
+            }
+            
+            searchNode = tiers[index >>> tierShift];
+            searchLocalIndex = index & (searchNode.getDegree() - 1);
+            return;
+        }
+        
+        // Choose the nearest starting point among the head node, the tail node
+        // and the fingers.
+        LinkedArrayListNode<E> node = head;
+        int offset = 0;
+        int bestDistance = index;
+        int slot = -1;
+        int tailOffset = size - tail.size();
+        int tailDistance = distance(tail, tailOffset, index);
+        
+        if (tailDistance < bestDistance) {
+            node = tail;
+            offset = tailOffset;
+            bestDistance = tailDistance;
+        }
+        
+        for (int i = 0; i < fingers && bestDistance > 0; ++i) {
+            int fingerDistance = distance(fingerNodes[i], 
+                                          fingerOffsets[i], 
+                                          index);
+            
+            if (fingerDistance < bestDistance) {
+                node = fingerNodes[i];
+                offset = fingerOffsets[i];
+                bestDistance = fingerDistance;
+                slot = i;
+            }
+        }
+        
+        if (this.index != null && bestDistance > FINGER_REACH * getDegree()) {
+            node = this.index.find(index);
+            offset = index - this.index.getLocalIndex();
+        } else {
+            while (index >= offset + node.size()) {
+                offset += node.size();
+                node = node.getNextNode();
+            }
+            
+            while (index < offset) {
+                node = node.getPreviousNode();
+                offset -= node.size();
+            }
+        }
+        
+        searchNode = node;
+        searchLocalIndex = index - offset;
+        recordFinger(slot, node, offset);
+    }
+    
+    /**
+     * Inserts {@code element} into {@code node} in front of the element with 
+     * local index {@code localIndex}. If {@code node} is full, the current 
+     * split policy decides how room is made. Afterwards, 
+     * {@code (searchNode, searchLocalIndex)} points to the inserted element.
+     * 
+     * @param node       the target node.
+     * @param localIndex the local insertion index.
+     * @param element    the element to insert.
+     */
+    private void insertElement(LinkedArrayListNode<E> node, 
+                               int localIndex, 
+                               E element) {
+        searchNode = node;
+        searchLocalIndex = localIndex;
+        
+        if (tiers != null) {
+            insertTiered(node, localIndex, element);
+            return;
+        }
+        
+        if (adaptive && node.isFull() && node.getDegree() < getDegree()) {
+            // Grow the node instead of splitting it. Doubling keeps it at 
+            // least half full.
+            node.setDegree(Math.min(getDegree(), 2 * node.getDegree()));
+        }
+        
+        if (!node.isFull()) {
+            node.insert(localIndex, element);
+            nodeResized(node);
+            return;
+        }
+        
+        if (splitPolicy == SplitPolicy.REDISTRIBUTE) {
+            LinkedArrayListNode<E> prev = node.getPreviousNode();
+            LinkedArrayListNode<E> next = node.getNextNode();
+            int prevRoom = prev == null ? 0 : prev.getDegree() - prev.size();
+            int nextRoom = next == null ? 0 : next.getDegree() - next.size();
+            
+            if (prevRoom > 0 && prevRoom >= nextRoom) {
+                redistributeToPredecessor(node, localIndex, element);
+                return;
+            }
+            
+            if (nextRoom > 0) {
+                redistributeToSuccessor(node, localIndex, element);
+                return;
+            }
+        }
+        
+        final int nodeSize = node.size();
+        LinkedArrayListNode<E> newnode = spawnNode(node.getDegree());
+        
+        if (splitPolicy == SplitPolicy.SPILL) {
+            node.moveLastTo(newnode, nodeSize - localIndex);
+            
+            if (localIndex < nodeSize) {
+                node.append(element);
+            } else {
+                newnode.append(element);
+                searchNode = newnode;
+                searchLocalIndex = 0;
+            }
+        } else {
+            int leftSize = nodeSize / 2;
+            node.moveLastTo(newnode, nodeSize - leftSize);
+            
+            if (localIndex <= leftSize) {
+                node.insert(localIndex, element);
+            } else {
+                newnode.insert(localIndex - leftSize, element);
+                searchNode = newnode;
+                searchLocalIndex = localIndex - leftSize;
+            }
+        }
+        
+        nodeResized(node);
+        linkNode(node, newnode);
+        rebalance(node, 2);
+    }
+    
+    /**
+     * Inserts {@code element} into {@code node} in tiered mode. If 
+     * {@code node} is full, its last element is shifted to the head of the 
+     * next node, whose last element is shifted further, and so on until a 
+     * non-full node absorbs the carried element, or a new tail node is 
+     * created for it. Afterwards, {@code (searchNode, searchLocalIndex)} 
+     * points to the inserted element.
+     * 
+     * @param node       the target node.
+     * @param localIndex the local insertion index.
+     * @param element    the element to insert.
+     */
+    private void insertTiered(LinkedArrayListNode<E> node,
+                              int localIndex,
+                              E element) {
+        if (!node.isFull()) {
+            node.insert(localIndex, element);
+            nodeResized(node);
+            return;
+        }
+        
+        final boolean spilled = localIndex == node.size();
+        E carry = element;
+        
+        if (!spilled) {
+            carry = node.removeAt(node.size() - 1);
+            node.insert(localIndex, element);
+        }
+        
+        LinkedArrayListNode<E> current = node;
+        
+        while (true) {
+            LinkedArrayListNode<E> next = current.getNextNode();
+            
+            if (next == null) {
+                LinkedArrayListNode<E> newnode = spawnNode();
+                newnode.append(carry);
+                linkNode(current, newnode);
+                break;
+            }
+            
+            if (!next.isFull()) {
+                next.insert(0, carry);
+                nodeResized(next);
+                break;
+            }
+            
+            E spill = next.removeAt(next.size() - 1);
+            next.insert(0, carry);
+            carry = spill;
+            current = next;
+        }
+        
+        if (spilled) {
+            searchNode = node.getNextNode();
+            searchLocalIndex = 0;
+        }
+    }
+    
+    /**
+     * Inserts {@code element} into the full {@code node}, moving enough 
+     * elements from the head of {@code node} to its predecessor so that both
+     * nodes end up evenly filled.
+     * 
+     * @param node       the full target node.
+     * @param localIndex the local insertion index.
+     * @param element    the element to insert.
+     */
+    private void redistributeToPredecessor(LinkedArrayListNode<E> node,
+                                           int localIndex,
+                                           E element) {
+        LinkedArrayListNode<E> prev = node.getPreviousNode();
+        final int prevSize = prev.size();
+        final int total = prevSize + node.size() + 1;
+        
+        // The new size of the predecessor.
+        int newPrevSize = Math.min(prev.getDegree(), (total + 1) / 2);
+        newPrevSize = Math.max(newPrevSize, prevSize + 1);
+        
+        if (localIndex < newPrevSize - prevSize) {
+            // 'element' lands in the predecessor.
+            node.moveFirstTo(prev, newPrevSize - prevSize - 1);
+            prev.insert(prevSize + localIndex, element);
+            searchNode = prev;
+            searchLocalIndex = prevSize + localIndex;
+        } else {
+            node.moveFirstTo(prev, newPrevSize - prevSize);
+            searchLocalIndex = localIndex - (newPrevSize - prevSize);
+            node.insert(searchLocalIndex, element);
+        }
+        
+        nodeResized(prev);
+        nodeResized(node);
+    }
+    
+    /**
+     * Inserts {@code element} into the full {@code node}, moving enough 
+     * elements from the tail of {@code node} to its successor so that both 
+     * nodes end up evenly filled.
+     * 
+     * @param node       the full target node.
+     * @param localIndex the local insertion index.
+     * @param element    the element to insert.
+     */
+    private void redistributeToSuccessor(LinkedArrayListNode<E> node,
+                                         int localIndex,
+                                         E element) {
+        LinkedArrayListNode<E> next = node.getNextNode();
+        final int nodeSize = node.size();
+        final int total = nodeSize + next.size() + 1;
+        
+        // The new size of the successor.
+        int newNextSize = Math.min(next.getDegree(), (total + 1) / 2);
+        newNextSize = Math.max(newNextSize, next.size() + 1);
+        final int newNodeSize = total - newNextSize;
+        
+        if (localIndex < newNodeSize) {
+            node.moveLastTo(next, nodeSize + 1 - newNodeSize);
+            node.insert(localIndex, element);
+        } else {
+            node.moveLastTo(next, nodeSize - newNodeSize);
+            next.insert(localIndex - newNodeSize, element);
+            searchNode = next;
+            searchLocalIndex = localIndex - newNodeSize;
+        }
+        
+        nodeResized(node);
+        nodeResized(next);
+    }
+    
+    /**
+     * Creates a new, empty node of the node type of this list. The degree of
+     * the new node is {@link #getDegree()}.
+     * 
+     * @return a new node.
+     */
+    private LinkedArrayListNode<E> spawnNode() {
+        return spawnNode(adaptive ? getDegree() : head.getDegree());
+    }
+    
+    /**
+     * Returns a new, empty node of the node type of this list with given 
+     * degree. The node is taken from the node pool, if possible.
+     * 
+     * @param  degree the degree of the new node.
+     * @return a new node.
+     */
+    private LinkedArrayListNode<E> spawnNode(int degree) {
+        if (pooledNodes == 0) {
+            if (nodePool.length > 0) {
+                ++nodePoolMisses;
+            }
+            
+            return head.spawn(degree);
+        }
+        
+        ++nodePoolHits;
+        LinkedArrayListNode<E> node = nodePool[--pooledNodes];
+        nodePool[pooledNodes] = null;
+        node.setPreviousNode(null);
+        node.setNextNode(null);
+        
+        if (node.getDegree() != degree) {
+            node.setDegree(degree);
+        }
+        
+        return node;
+    }
+    
+    /**
+     * Returns the least amount of elements a node other than the head or tail
+     * node must hold.
+     * 
+     * @param node the node to query.
+     * @return the minimum size of {@code node}.
+     */
+    private static int minimumNodeSize(LinkedArrayListNode<?> node) {
+        return node.getDegree() / 2;
+    }
+    
+    /**
+     * Restores the fill-factor invariant for at most {@code nodes} consecutive
+     * nodes starting from {@code node}. An empty node is unlinked. A node 
+     * other than the head or tail node holding less than
+     * {@link #minimumNodeSize(LinkedArrayListNode)} elements is merged with a 
+     * neighbor if the two fit in one node. Otherwise, it borrows elements from
+     * its larger neighbor so that both end up evenly filled.
+     * <p>
+     * The position {@code (searchNode, searchLocalIndex)}, where the local 
+     * index may equal the node size, is translated so that it keeps pointing 
+     * to the same logical position. If the position points to an element, it
+     * keeps pointing to that element. This way the iterators may keep their
+     * cursors across rebalancing.
+     * 
+     * @param node  the first node to rebalance. May be {@code null}.
+     * @param nodes the amount of nodes to rebalance.
+     */
+    private void rebalance(LinkedArrayListNode<E> node, int nodes) {
+        if (tiers != null) {
+            retier(node);
+            return;
+        }
+        
+        while (node != null && nodes > 0) {
+            LinkedArrayListNode<E> next = rebalance(node);
+            
+            if (next != node) {
+                --nodes;
+            }
+            
+            node = next;
+        }
+    }
+    
+    /**
+     * Restores the fill-factor invariant for {@code node}.
+     * 
+     * @param  node the node to rebalance.
+     * @return the next node to rebalance. This is {@code node} itself if it 
+     *         absorbed its successor and may still be underfull.
+     */
+    private LinkedArrayListNode<E> rebalance(LinkedArrayListNode<E> node) {
+        LinkedArrayListNode<E> prev = node.getPreviousNode();
+        LinkedArrayListNode<E> next = node.getNextNode();
+        
+        if (node.isEmpty()) {
+            if (prev == null && next == null) {
+                // The only node of this list may be empty.
+                return null;
+            }
+            
+            if (searchNode == node) {
+                if (next != null) {
+                    searchNode = next;
+                    searchLocalIndex = 0;
+                } else {
+                    searchNode = prev;
+                    searchLocalIndex = prev.size();
+                }
+            }
+            
+            unlinkNode(node);
+            return next;
+        }
+        
+        if (adaptive && node.getDegree() > 2 * getDegree()
+                     && node.size() <= getDegree()) {
+            // The list has shrunk since 'node' was created. Re-chunk.
+            node.setDegree(getDegree());
+        }
+        
+        if (prev == null || next == null 
+                || node.size() >= minimumNodeSize(node)) {
+            // The head and tail nodes are exempt from the invariant.
+            return next;
+        }
+        
+        final int nodeSize = node.size();
+        final int prevSize = prev.size();
+        final int nextSize = next.size();
+        
+        if (prevSize + nodeSize <= prev.getDegree()) {
+            // Merge 'node' into its predecessor.
+            node.moveFirstTo(prev, nodeSize);
+            
+            if (searchNode == node) {
+                searchNode = prev;
+                searchLocalIndex += prevSize;
+            }
+            
+            nodeResized(prev);
+            unlinkNode(node);
+            return next;
+        }
+        
+        if (nodeSize + nextSize <= node.getDegree()) {
+            // Merge the successor into 'node'.
+            next.moveFirstTo(node, nextSize);
+            
+            if (searchNode == next) {
+                searchNode = node;
+                searchLocalIndex += nodeSize;
+            }
+            
+            nodeResized(node);
+            unlinkNode(next);
+            return node;
+        }
+        
+        if (prevSize >= nextSize) {
+            int count = Math.min((prevSize - nodeSize) / 2, 
+                                 node.getDegree() - nodeSize);
+            count = Math.max(0, Math.min(count, 
+                                         prevSize - minimumNodeSize(prev)));
+            prev.moveLastTo(node, count);
+            
+            if (searchNode == node) {
+                searchLocalIndex += count;
+            } else if (searchNode == prev 
+                    && searchLocalIndex >= prevSize - count) {
+                searchNode = node;
+                searchLocalIndex -= prevSize - count;
+            }
+            
+            nodeResized(prev);
+        } else {
+            int count = Math.min((nextSize - nodeSize) / 2,
+                                 node.getDegree() - nodeSize);
+            count = Math.max(0, Math.min(count, 
+                                         nextSize - minimumNodeSize(next)));
+            next.moveFirstTo(node, count);
+            
+            if (searchNode == next) {
+                if (searchLocalIndex < count) {
+                    searchNode = node;
+                    searchLocalIndex += nodeSize;
+                } else {
+                    searchLocalIndex -= count;
+                }
+            }
+            
+            nodeResized(next);
+        }
+        
+        if (node.size() < minimumNodeSize(node)) {
+            // Only possible in adaptive mode, where the neighbors may be of
+            // smaller degree. Shrink 'node' so that it is at least half full.
+            node.setDegree(Integer.highestOneBit(2 * node.size()));
+        }
+        
+        nodeResized(node);
+        return next;
+    }
+    
+    /**
+     * Restores the tiered invariant starting from {@code node}, assuming that
+     * the nodes preceding {@code node} are full. Each node is filled up with 
+     * the leading elements of its successors, and the emptied nodes are 
+     * unlinked. The position {@code (searchNode, searchLocalIndex)} is 
+     * translated as in {@link #rebalance(LinkedArrayListNode, int)}.
+     * 
+     * @param node the first node that may be non-full. May be {@code null}.
+     */
+    private void retier(LinkedArrayListNode<E> node) {
+        while (node != null) {
+            LinkedArrayListNode<E> next = node.getNextNode();
+            
+            if (next == null) {
+                if (node.isEmpty() && node.getPreviousNode() != null) {
+                    if (searchNode == node) {
+                        searchNode = node.getPreviousNode();
+                        searchLocalIndex = searchNode.size();
+                    }
+                    
+                    unlinkNode(node);
+                }
+                
+                return;
+            }
+            
+            final int nodeSize = node.size();
+            final int count = Math.min(node.getDegree() - nodeSize, 
+                                       next.size());
+            
+            if (count > 0) {
+                next.moveFirstTo(node, count);
+                
+                if (searchNode == next) {
+                    if (searchLocalIndex < count) {
+                        searchNode = node;
+                        searchLocalIndex += nodeSize;
+                    } else {
+                        searchLocalIndex -= count;
+                    }
+                }
+                
+                nodeResized(node);
+                nodeResized(next);
+            }
+            
+            if (next.isEmpty()) {
+                if (searchNode == next) {
+                    searchNode = node;
+                    searchLocalIndex = node.size();
+                }
+                
+                // 'node' may still have room for the elements of the new 
+                // successor.
+                unlinkNode(next);
+            } else {
+                node = next;
+            }
+        }
+    }
+    
+    /**
+     * Rebuilds the node directory of this tiered list from the node chain.
+     */
+    private void rebuildTiers() {
+        tierCount = 0;
+        
+        for (LinkedArrayListNode<E> node = head;
+                node != null;
+                node = node.getNextNode()) {
+            if (tierCount == tiers.length) {
+                tiers = Arrays.copyOf(tiers, 2 * tierCount);
+            }
+            
+            tiers[tierCount++] = node;
+        }
+        
+        Arrays.fill(tiers, tierCount, tiers.length, null);
+        tiersStale = false;
+    }
+    
+    /**
+     * Unlinks the node from the node chain. If {@code node} is empty and the 
+     * node pool is not full, {@code node} is put to the pool. The links of 
+     * {@code node} are kept intact so that the callers may continue the 
+     * traversal of the chain from it.
+     * 
+     * @param node the node to unlink.
+     */
+    private void unlinkNode(LinkedArrayListNode<E> node) {
+        if (node.getPreviousNode() == null) {
+            if (node.getNextNode() == null) {
+                // 'node' is the only node in this list. Do not remove.
+                return;
+            } else {
+                // 'node' is the head node and is not the only node.
+                head = node.getNextNode();
+                head.setPreviousNode(null);
+                tiersStale = true;
+            }
+        } else {
+            // Here, 'node.getPreviousNode()' is not 'null'.
+            if (node.getNextNode() == null) {
+                // 'node' is the tail node and is not the only node.
+                tail = node.getPreviousNode();
+                tail.setNextNode(null);
+                
+                if (tiers != null && !tiersStale) {
+                    tiers[--tierCount] = null;
+                }
+            } else {
+                // 'node' is neither head nor tail node.
+                node.getPreviousNode().setNextNode(node.getNextNode());
+                node.getNextNode().setPreviousNode(node.getPreviousNode());
+                tiersStale = true;
+            }
+        }
+        
+        fingers = 0;
+        
+        if (index != null) {
+            index.remove(node);
+        }
+        
+        if (node.isEmpty()) {
+            recycleNode(node);
+        }
+    }
+    
+    /**
+     * Puts the unlinked, empty {@code node} to the node pool if it has room.
+     * 
+     * @param node the node to recycle.
+     */
+    private void recycleNode(LinkedArrayListNode<E> node) {
+        if (pooledNodes < nodePool.length) {
+            nodePool[pooledNodes++] = node;
+        }
+    }
+    
+    /**
+     * Implements a basic iterator of type <code>Iterator</code>.
+     */
+    private class BasicLinkedArrayListIterator implements Iterator<E> {
+
+        /**
+         * The expected mod count.
+         */
+        private long expectedModCount = modCount;
+        
+        /**
+         * The current node being iterated.
+         */
+        private LinkedArrayListNode<E> node = head;
+        
+        /**
+         * The next index of the element to iterate within the current node.
+         * The semantics of this field is "increment first, then use".
+         */
+        private int localIndex = -1;
+        
+        /**
+         * The amount of elements iterated.
+         */
+        private int iterated = 0;
+        
+        /**
+         * Is set to <code>true</code> if the last element was removed. 
+         */
+        private boolean lastRemoved = false;
+        
+        /**
+         * The amount of elements in the list being iterated at the moment of
+         * creation of this iterator.
+         */
+        private final int maxElements = size;
+        
+        @Override
+        public boolean hasNext() {
+            return iterated < maxElements;
+        }
+
+        @Override
+        public E next() {
+            checkForConcurrentModification();
+            
+            if (iterated == maxElements) {
+                throw new NoSuchElementException("The iterator exceeded.");
+            }
+            
+            if (lastRemoved) {
+                lastRemoved = false;
+                ++iterated;
+                
+                if (localIndex == node.size()) {
+                    localIndex = 0;
+                    node = node.getNextNode();
+                }
+                
+                // No need for incrementing 'localIndex'.
+                return node.get(localIndex);
+            }
+            
+            ++iterated;
+            
+            if (++localIndex == node.size()) {
+                localIndex = 0;
+                node = node.getNextNode();
+            }
+            
+            return node.get(localIndex);
+        }
+        
+        @Override
+        public void remove() {
+            if (lastRemoved) {
+                throw new IllegalStateException(
+                        "Removing the same element twice.");
+            }
+            
+            if (iterated == 0) {
+                throw new IllegalStateException("No current element.");
+            }
+            
+            checkForConcurrentModification();
+            lastRemoved = true;
+            --size;
+            
+            node.removeAt(localIndex);
+            nodeResized(node);
+            
+            searchNode = node;
+            searchLocalIndex = localIndex;
+            rebalance(node, 1);
+            node = searchNode;
+            localIndex = searchLocalIndex;
+        }
+        
+        @Override
+        public void forEachRemaining(Consumer<? super E> action) {
+            Objects.requireNonNull(action, "The action is null.");
+            
+            while (iterated < maxElements) {
+                checkForConcurrentModification();
+                int from = lastRemoved ? localIndex : localIndex + 1;
+                
+                if (from == node.size()) {
+                    node = node.getNextNode();
+                    from = 0;
+                }
+                
+                int count = Math.min(maxElements - iterated, 
+                                     node.size() - from);
+                node.forEach(from, from + count, action);
+                // Leave the last element of the range as the current one.
+                localIndex = from + count - 1;
+                iterated += count;
+                lastRemoved = false;
+            }
+            
+            checkForConcurrentModification();
+        }
+     
+        private void checkForConcurrentModification() {
+            if (expectedModCount != modCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+    
+    /**
+     * Implements a node-aligned spliterator over a range of this list.
+     */
+    private class LinkedArrayListSpliterator implements Spliterator<E> {
+        
+        /**
+         * The expected mod count.
+         */
+        private final int expectedModCount = modCount;
+        
+        /**
+         * The node holding the next element to process.
+         */
+        private LinkedArrayListNode<E> node;
+        
+        /**
+         * The local index of the next element to process within 
+         * {@code node}.
+         */
+        private int localIndex;
+        
+        /**
+         * The global index of the next element to process.
+         */
+        private int globalIndex;
+        
+        /**
+         * The amount of elements left to process.
+         */
+        private int remaining;
+        
+        /**
+         * Constructs a spliterator over {@code remaining} elements starting 
+         * from the element at local index {@code localIndex} in {@code node}.
+         * 
+         * @param node        the node of the first element.
+         * @param localIndex  the local index of the first element.
+         * @param globalIndex the global index of the first element.
+         * @param remaining   the amount of elements to cover.
+         */
+        LinkedArrayListSpliterator(LinkedArrayListNode<E> node, 
+                                   int localIndex,
+                                   int globalIndex,
+                                   int remaining) {
+            this.node = node;
+            this.localIndex = localIndex;
+            this.globalIndex = globalIndex;
+            this.remaining = remaining;
+        }
+        
+        @Override
+        public boolean tryAdvance(Consumer<? super E> action) {
+            Objects.requireNonNull(action, "The action is null.");
+            
+            if (remaining == 0) {
+                return false;
+            }
+            
+            checkForConcurrentModification();
+            
+            if (localIndex == node.size()) {
+                node = node.getNextNode();
+                localIndex = 0;
+            }
+            
+            E element = node.get(localIndex++);
+            ++globalIndex;
+            --remaining;
+            action.accept(element);
+            return true;
+        }
+        
+        @Override
+        public void forEachRemaining(Consumer<? super E> action) {
+            Objects.requireNonNull(action, "The action is null.");
+            
+            while (remaining > 0) {
+                checkForConcurrentModification();
+                
+                if (localIndex == node.size()) {
+                    node = node.getNextNode();
+                    localIndex = 0;
+                }
+                
+                int count = Math.min(remaining, node.size() - localIndex);
+                int from = localIndex;
+                localIndex += count;
+                globalIndex += count;
+                remaining -= count;
+                node.forEach(from, from + count, action);
+            }
+            
+            checkForConcurrentModification();
+        }
+        
+        @Override
+        public Spliterator<E> trySplit() {
+            int half = remaining >>> 1;
+            
+            if (half == 0) {
+                return null;
+            }
+            
+            checkForConcurrentModification();
+            
+            // Step past the end of the current node, so that the prefix
+            // ending at the start of a later node is never empty.
+            if (localIndex == node.size()) {
                 node = node.getNextNode();
+                localIndex = 0;
             }
-
-            searchNode = node;
-            searchLocalIndex = index;
-        } else {
-            // Access starting from the tail moving to the "left".
-            LinkedArrayListNode<E> node = tail;
-            index = size() - index - 1;
             
-            while (index >= node.size()) {
-                index -= node.size();
-                node = node.getPreviousNode();
+            LinkedArrayListNode<E> splitNode;
+            int splitLocalIndex;
+            
+            if (index != null) {
+                // Do not use find(int): sibling spliterators may split
+                // concurrently, and its cached local index is shared.
+                int[] localIndexHolder = new int[1];
+                splitNode = index.find(globalIndex + half, localIndexHolder);
+                splitLocalIndex = localIndexHolder[0];
+            } else {
+                // Walk to the node holding the middle element.
+                splitNode = node;
+                splitLocalIndex = localIndex + half;
+                
+                while (splitLocalIndex >= splitNode.size()) {
+                    splitLocalIndex -= splitNode.size();
+                    splitNode = splitNode.getNextNode();
+                }
             }
             
-            searchNode = node;
-            searchLocalIndex = node.size() - index - 1;
+            int prefixLength = half;
+            
+            // Prefer splitting at the beginning of the node holding the 
+            // middle element. If that is the current node, the range spans
+            // too few nodes and is split within the node.
+            if (splitNode != node) {
+                prefixLength -= splitLocalIndex;
+                splitLocalIndex = 0;
+            }
+            
+            Spliterator<E> prefix = 
+                    new LinkedArrayListSpliterator(node, 
+                                                   localIndex, 
+                                                   globalIndex, 
+                                                   prefixLength);
+            node = splitNode;
+            localIndex = splitLocalIndex;
+            globalIndex += prefixLength;
+            remaining -= prefixLength;
+            return prefix;
+        }
+        
+        @Override
+        public long estimateSize() {
+            return remaining;
+        }
+        
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | 
+                   Spliterator.SIZED | 
+                   Spliterator.SUBSIZED;
+        }
+        
+        private void checkForConcurrentModification() {
+            if (expectedModCount != modCount) {
+                throw new ConcurrentModificationException();
+            }
         }
     }
     
     /**
-     * Unlinks the node from the node chain.
-     * 
-     * @param node the node to unlink.
+     * Iterates over the chunks of this list, each a range of the backing 
+     * array of a node. The chunks are the same as those passed by 
+     * {@link LinkedArrayList#forEachChunk(ChunkConsumer)}. After a successful
+     * call to {@link #next()}, the current chunk is 
+     * {@code array()[offset()], ..., array()[offset() + length() - 1]}. The 
+     * chunks must not be modified. This iterator is <b>fail-fast</b>.
      */
-    private void unlinkNode(LinkedArrayListNode<E> node) {
-        if (node.getPreviousNode() == null) {
-            if (node.getNextNode() == null) {
-                // 'node' is the only node in this list. Do not remove.
-            } else {
-                // 'node' is the head node and is not the only node.
-                head = node.getNextNode();
-                head.setPreviousNode(null);
+    public final class ChunkIterator {
+        
+        /**
+         * The expected mod count.
+         */
+        private final int expectedModCount = modCount;
+        
+        /**
+         * The chunk ranges of the current node.
+         */
+        private final int[] chunks = new int[4];
+        
+        /**
+         * The amount of chunks in the current node.
+         */
+        private int chunkCount;
+        
+        /**
+         * The index of the current chunk within the current node.
+         */
+        private int chunk = -1;
+        
+        /**
+         * The next node whose chunks to iterate.
+         */
+        private LinkedArrayListNode<E> nextNode = head;
+        
+        /**
+         * The node holding the current chunk.
+         */
+        private LinkedArrayListNode<E> node;
+        
+        private ChunkIterator() {}
+        
+        /**
+         * Advances to the next chunk.
+         * 
+         * @return {@code true} if there was a next chunk, and {@code false} 
+         *         if the iteration is over.
+         * @throws ConcurrentModificationException if the list was modified.
+         */
+        public boolean next() {
+            if (expectedModCount != modCount) {
+                throw new ConcurrentModificationException();
             }
-        } else {
-            // Here, 'node.getPreviousNode()' is not 'null'.
-            if (node.getNextNode() == null) {
-                // 'node' is the tail node and is not the only node.
-                tail = node.getPreviousNode();
-                tail.setNextNode(null);
-            } else {
-                // 'node' is neither head nor tail node.
-                node.getPreviousNode().setNextNode(node.getNextNode());
-                node.getNextNode().setPreviousNode(node.getPreviousNode());
+            
+            while (++chunk == chunkCount) {
+                if (nextNode == null) {
+                    chunk = -1;
+                    chunkCount = 0;
+                    return false;
+                }
+                
+                node = nextNode;
+                nextNode = node.getNextNode();
+                chunkCount = node.getChunks(chunks);
+                chunk = -1;
+            }
+            
+            return true;
+        }
+        
+        /**
+         * Returns the array holding the current chunk.
+         * 
+         * @return the array of the current chunk.
+         */
+        public Object[] array() {
+            checkCurrentChunk();
+            return node.elementArray;
+        }
+        
+        /**
+         * Returns the index of the first element of the current chunk in 
+         * {@link #array()}.
+         * 
+         * @return the offset of the current chunk.
+         */
+        public int offset() {
+            checkCurrentChunk();
+            return chunks[2 * chunk];
+        }
+        
+        /**
+         * Returns the amount of elements in the current chunk.
+         * 
+         * @return the length of the current chunk.
+         */
+        public int length() {
+            checkCurrentChunk();
+            return chunks[2 * chunk + 1];
+        }
+        
+        private void checkCurrentChunk() {
+            if (chunk < 0) {
+                throw new IllegalStateException("There is no current chunk.");
             }
         }
     }
     
     /**
-     * Implements a basic iterator of type <code>Iterator</code>.
+     * A reusable cursor over this list. The position of the cursor is either 
+     * the index of an element or {@code size()}, the end position. The cursor
+     * is positioned by {@link #seek(int)}, which skips whole nodes starting 
+     * from the nearest known position of this list, and by {@link #move(int)},
+     * which skips whole nodes starting from the current position. The element
+     * at the cursor can be read, replaced and removed, and elements can be 
+     * inserted in front of it. Repositioning allocates nothing, so a single
+     * cursor may serve any amount of accesses.
+     * <p>
+     * This cursor is <b>fail-fast</b>: if this list is structurally modified
+     * other than through this cursor, all its operations except 
+     * {@link #seek(int)} and {@link #reset()}, which position the cursor 
+     * anew, throw {@link ConcurrentModificationException}.
      */
-    private class BasicLinkedArrayListIterator implements Iterator<E> {
-
+    public final class Cursor {
+        
         /**
-         * The expected mod count.
+         * The node holding the element at the cursor. At the end position, 
+         * this is the tail node.
          */
-        private long expectedModCount = modCount;
+        private LinkedArrayListNode<E> node;
         
         /**
-         * The current node being iterated.
+         * The local index of the cursor in {@code node}.
          */
-        private LinkedArrayListNode<E> node = head;
+        private int localIndex;
         
         /**
-         * The next index of the element to iterate within the current node.
-         * The semantics of this field is "increment first, then use".
+         * The global index of the cursor.
          */
-        private int localIndex = -1;
+        private int index;
         
         /**
-         * The amount of elements iterated.
+         * The expected mod count.
          */
-        private int iterated = 0;
+        private int expectedModCount;
+        
+        Cursor(int index) {
+            seek(index);
+        }
         
         /**
-         * Is set to <code>true</code> if the last element was removed. 
+         * Returns the index of this cursor.
+         * 
+         * @return the index of this cursor.
          */
-        private boolean lastRemoved = false;
+        public int index() {
+            checkForConcurrentModification();
+            return index;
+        }
         
         /**
-         * The amount of elements in the list being iterated at the moment of
-         * creation of this iterator.
+         * Returns {@code true} if this cursor points to an element, or namely,
+         * is not at the end position.
+         * 
+         * @return {@code true} if there is an element at this cursor.
          */
-        private final int maxElements = size;
+        public boolean hasElement() {
+            checkForConcurrentModification();
+            return index < size;
+        }
         
-        @Override
-        public boolean hasNext() {
-            return iterated < maxElements;
+        /**
+         * Moves this cursor to {@code index}.
+         * 
+         * @param  index the new position of this cursor.
+         * @return this cursor.
+         * @throws IndexOutOfBoundsException if {@code index} is negative or 
+         *         larger than the size of the list.
+         */
+        public Cursor seek(int index) {
+            checkIndexForAddition(index);
+            
+            if (index == size) {
+                node = tail;
+                localIndex = tail.size();
+            } else {
+                searchElement(index);
+                node = searchNode;
+                localIndex = searchLocalIndex;
+            }
+            
+            this.index = index;
+            this.expectedModCount = modCount;
+            return this;
         }
-
-        @Override
-        public E next() {
+        
+        /**
+         * Moves this cursor {@code delta} positions forward, or backward if 
+         * {@code delta} is negative.
+         * 
+         * @param  delta the amount of positions to move.
+         * @return this cursor.
+         * @throws IndexOutOfBoundsException if the new position is out of 
+         *         bounds.
+         */
+        public Cursor move(int delta) {
             checkForConcurrentModification();
+            long target = (long) index + delta;
             
-            if (iterated == maxElements) {
-                throw new NoSuchElementException("The iterator exceeded.");
+            if (target < 0 || target > size) {
+                throw new IndexOutOfBoundsException(
+                        "The cursor at " + index + " cannot move by " + delta +
+                        ". The size of this list is " + size + ".");
             }
             
-            if (lastRemoved) {
-                lastRemoved = false;
-                ++iterated;
-                
-                if (localIndex == node.size()) {
-                    localIndex = 0;
-                    node = node.getNextNode();
-                }
-                
-                // No need for incrementing 'localIndex'.
-                return node.get(localIndex);
+            if (tiers != null || Math.abs(delta) > FINGER_REACH * getDegree()) {
+                // A global search is cheaper.
+                return seek((int) target);
             }
             
-            ++iterated;
+            LinkedArrayListNode<E> n = node;
+            int local = localIndex + delta;
             
-            if (++localIndex == node.size()) {
-                localIndex = 0;
-                node = node.getNextNode();
+            while (local >= n.size() && n.getNextNode() != null) {
+                local -= n.size();
+                n = n.getNextNode();
+            }
+            
+            while (local < 0) {
+                n = n.getPreviousNode();
+                local += n.size();
             }
             
+            node = n;
+            localIndex = local;
+            index = (int) target;
+            return this;
+        }
+        
+        /**
+         * Moves this cursor to the beginning of the list and synchronizes it 
+         * with the current state of the list.
+         * 
+         * @return this cursor.
+         */
+        public Cursor reset() {
+            node = head;
+            localIndex = 0;
+            index = 0;
+            expectedModCount = modCount;
+            return this;
+        }
+        
+        /**
+         * Returns the element at this cursor.
+         * 
+         * @return the element at this cursor.
+         * @throws NoSuchElementException if this cursor is at the end position.
+         */
+        public E get() {
+            checkElement();
             return node.get(localIndex);
         }
         
-        @Override
-        public void remove() {
-            if (lastRemoved) {
-                throw new IllegalStateException(
-                        "Removing the same element twice.");
-            }
+        /**
+         * Replaces the element at this cursor.
+         * 
+         * @param  element the new element.
+         * @return the old element.
+         * @throws NoSuchElementException if this cursor is at the end position.
+         */
+        public E set(E element) {
+            checkElement();
+            E ret = node.get(localIndex);
+            node.set(localIndex, element);
+            return ret;
+        }
+        
+        /**
+         * Inserts {@code element} in front of the element at this cursor, or
+         * appends it if this cursor is at the end position. Afterwards, this
+         * cursor points to the inserted element.
+         * 
+         * @param element the element to insert.
+         */
+        public void insert(E element) {
+            checkForConcurrentModification();
+            insertElement(node, localIndex, element);
+            node = searchNode;
+            localIndex = searchLocalIndex;
+            ++size;
+            expectedModCount = ++modCount;
+        }
+        
+        /**
+         * Removes the element at this cursor. Afterwards, this cursor points 
+         * to the element that followed the removed one, or to the end 
+         * position.
+         * 
+         * @return the removed element.
+         * @throws NoSuchElementException if this cursor is at the end position.
+         */
+        public E remove() {
+            checkElement();
+            E ret = node.removeAt(localIndex);
+            nodeResized(node);
+            searchNode = node;
+            searchLocalIndex = localIndex;
+            rebalance(node, 1);
+            node = searchNode;
+            localIndex = searchLocalIndex;
             
-            if (iterated == 0) {
-                throw new IllegalStateException("No current element.");
+            if (localIndex == node.size() && node.getNextNode() != null) {
+                node = node.getNextNode();
+                localIndex = 0;
             }
             
-            checkForConcurrentModification();
-            lastRemoved = true;
             --size;
+            expectedModCount = ++modCount;
+            return ret;
+        }
+        
+        private void checkElement() {
+            checkForConcurrentModification();
             
-            node.removeAt(localIndex);
-            
-            if (node.isEmpty()) {
-                LinkedArrayListNode<E> next = node.getNextNode();
-                unlinkNode(node);
-                node = next;
-                localIndex = 0;
+            if (index == size) {
+                throw new NoSuchElementException(
+                        "The cursor is at the end of the list.");
             }
         }
-     
+        
         private void checkForConcurrentModification() {
             if (expectedModCount != modCount) {
                 throw new ConcurrentModificationException();
@@ -1515,7 +3942,6 @@ implements ExtendedList<E>, Cloneable, Deque<E> {
         AdvancedLinkedArrayListIterator(int globalCursor) {
             this.globalCursor = globalCursor;
             this.expectedModCount = modCount;
-            this.currentNode = head;
             
             if (globalCursor == size) {
                 currentNode = tail;
@@ -1523,12 +3949,10 @@ implements ExtendedList<E>, Cloneable, Deque<E> {
                 return;
             }
             
-            for (int i = 0; i < globalCursor; ++i) {
-                if (++localCursor == currentNode.size()) {
-                    currentNode = currentNode.getNextNode();
-                    localCursor = 0;
-                }
-            }
+            // Skip whole nodes from the nearest known position.
+            searchElement(globalCursor);
+            currentNode = searchNode;
+            localCursor = searchLocalIndex;
         }
         
         @Override
@@ -1557,6 +3981,33 @@ implements ExtendedList<E>, Cloneable, Deque<E> {
             ++globalCursor;
             return currentNode.get(localCursor++);
         }
+        
+        @Override
+        public void forEachRemaining(Consumer<? super E> action) {
+            Objects.requireNonNull(action, "The action is null.");
+            
+            while (globalCursor != size) {
+                checkForConcurrentModification();
+                
+                if (localCursor == currentNode.size()) {
+                    currentNode = currentNode.getNextNode();
+                    localCursor = 0;
+                }
+                
+                int from = localCursor;
+                int count = currentNode.size() - from;
+                currentNode.forEach(from, from + count, action);
+                // Leave the last element of the node as the current one.
+                lastIteratedNode = currentNode;
+                lastNodeIndex = from + count - 1;
+                lastOperationWasNextOrPrev = true;
+                lastOperationWasNext = true;
+                localCursor += count;
+                globalCursor += count;
+            }
+            
+            checkForConcurrentModification();
+        }
 
         @Override
         public boolean hasPrevious() {
@@ -1596,44 +4047,16 @@ implements ExtendedList<E>, Cloneable, Deque<E> {
 
         @Override
         public void add(E e) {
-            if (isEmpty()) {
-                // Special case: the list is empty.
-                head.insert(0, e);
-                globalCursor = 1;
-                localCursor = 1;
-                expectedModCount = ++modCount;
-                ++size;
-                return;
-            }
-            
-            LinkedArrayListNode<E> newnode = currentNode.insert(localCursor, e);
-            
-            if (newnode != null) {
-                linkNode(currentNode, newnode);
-                
-            } else {
-                
-            }
-//            if (localCursor == currentNode.size()) {
-//                if (currentNode.getNextNode() == null) {
-//                    LinkedArrayListNode<E> newnode = head.spawn();
-//                    linkNode(currentNode, newnode);
-//                }
-//                
-//                localCursor = 0;
-//                currentNode = currentNode.getNextNode();
-//            }
-//            
-//            LinkedArrayListNode<E> newnode = currentNode.insert(localCursor, e);
-//            
-//            if (newnode != null) {
-//                linkNode(currentNode, newnode);
-//            }
-//            
-//            size++;
-//            localCursor++;
-//            globalCursor++;
-//            expectedModCount = ++modCount;
+            checkForConcurrentModification();
+            // Afterwards, '(searchNode, searchLocalIndex)' points to 'e'.
+            insertElement(currentNode, localCursor, e);
+            currentNode = searchNode;
+            localCursor = searchLocalIndex + 1;
+            ++globalCursor;
+            ++size;
+            expectedModCount = ++modCount;
+            lastIteratedNode = null;
+            lastOperationWasNextOrPrev = false;
         }
 
         @Override
@@ -1664,26 +4087,18 @@ implements ExtendedList<E>, Cloneable, Deque<E> {
             
             checkForConcurrentModification();
             lastIteratedNode.removeAt(lastNodeIndex);
+            nodeResized(lastIteratedNode);
             
-            if (lastIteratedNode.isEmpty() 
-                    && (head != lastIteratedNode || tail != lastIteratedNode)) {
-                unlinkNode(lastIteratedNode);  
-                
-                currentNode = lastIteratedNode.getPreviousNode() != null ?
-                              lastIteratedNode.getPreviousNode() : 
-                              lastIteratedNode.getNextNode();
-                
-                localCursor = lastIteratedNode.getPreviousNode() == null ? 
-                              0 : 
-                              currentNode.size();
-            }
+            // Whether the last operation was next() or previous(), the cursor
+            // now precedes the element that followed the removed one.
+            searchNode = lastIteratedNode;
+            searchLocalIndex = lastNodeIndex;
+            rebalance(lastIteratedNode, 1);
+            currentNode = searchNode;
+            localCursor = searchLocalIndex;
             
             if (lastOperationWasNext) {
                 --globalCursor;
-                
-                if (!lastIteratedNode.isEmpty()) {
-                    --localCursor;
-                }
             }
             
             expectedModCount = modCount;
@@ -0,0 +1,104 @@
+package net.coderodde.util.list;
+
+/**
+ * This abstract class defines the API of a positional index over the node
+ * chain of a {@link LinkedArrayList}. The index caches the size of each
+ * indexed node, and allows locating the node holding a given global index 
+ * without walking the chain. The owner list notifies the index about every
+ * node it links, unlinks or resizes.
+ *
+ * @author    Rodion "rodde" Efremov
+ * @version   1.6
+ * @param <E> the actual list element type.
+ */
+abstract class LinkedArrayListIndex<E> {
+
+    /**
+     * Caches the local index of the most recent {@link #find(int)} call.
+     */
+    private final int[] localIndex = new int[1];
+
+    /**
+     * Drops all the entries of this index and indexes the node chain starting
+     * from {@code head}.
+     *
+     * @param head the head node of the chain to index.
+     */
+    abstract void rebuild(LinkedArrayListNode<E> head);
+
+    /**
+     * Returns the node containing the element with global index
+     * {@code index}. The local index of that element within the returned node
+     * is available via {@link #getLocalIndex()} afterwards.
+     *
+     * @param  index the global index of the element to locate.
+     * @return the node containing the requested element.
+     */
+    LinkedArrayListNode<E> find(int index) {
+        return find(index, localIndex);
+    }
+
+    /**
+     * Returns the node containing the element with global index
+     * {@code index}, and stores the local index of that element within the
+     * returned node in {@code localIndex[0]}. This method does not modify
+     * the state of this index, so several threads may call it at the same
+     * time as long as the list is not modified.
+     *
+     * @param  index      the global index of the element to locate.
+     * @param  localIndex the array receiving the local index.
+     * @return the node containing the requested element.
+     */
+    abstract LinkedArrayListNode<E> find(int index, int[] localIndex);
+
+    /**
+     * Returns the local index computed by the most recent call to
+     * {@link #find(int)}.
+     *
+     * @return the local index.
+     */
+    int getLocalIndex() {
+        return localIndex[0];
+    }
+
+    /**
+     * Returns the amount of elements indexed.
+     *
+     * @return the total amount of elements.
+     */
+    abstract int getElementCount();
+
+    /**
+     * Indexes {@code node} as the immediate successor of {@code predecessor}.
+     * If {@code predecessor} is {@code null}, {@code node} becomes the
+     * leftmost indexed node.
+     *
+     * @param predecessor the predecessor node or {@code null}.
+     * @param node        the node to index.
+     */
+    abstract void insertAfter(LinkedArrayListNode<E> predecessor,
+                              LinkedArrayListNode<E> node);
+
+    /**
+     * Removes {@code node} from this index.
+     *
+     * @param node the node to remove.
+     */
+    abstract void remove(LinkedArrayListNode<E> node);
+
+    /**
+     * Synchronizes the cached size of {@code node} with its actual size.
+     *
+     * @param node the node whose size might have changed.
+     */
+    abstract void update(LinkedArrayListNode<E> node);
+
+    /**
+     * Checks that this index mirrors the node chain starting from
+     * {@code head}, and that every cached count is correct.
+     *
+     * @param  head the head node of the chain.
+     * @return {@code true} only if this index is consistent with the chain.
+     */
+    abstract boolean isHealthy(LinkedArrayListNode<E> head);
+}
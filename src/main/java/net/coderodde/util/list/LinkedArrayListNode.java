@@ -1,7 +1,8 @@
 package net.coderodde.util.list;
 
-import java.util.Collection;
-import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 /**
  * This abstract class defines the API for nodes of {@link LinkedArrayList}.
@@ -31,7 +32,13 @@ abstract class LinkedArrayListNode<E> {
      * amount of elements it stores.
      */
     protected int size;
-    
+
+    /**
+     * The entry of this node in the treap index of the owner list, or
+     * {@code null} if the owner list is not indexed by a treap.
+     */
+    LinkedArrayListTreapIndex.Entry<E> indexEntry;
+
 //    /**
 //     * Constructs a node with the specified degree.
 //     * 
@@ -41,20 +48,6 @@ abstract class LinkedArrayListNode<E> {
 //        this.elementArray = new Object[degree];
 //    }
     
-    /**
-     * Inserts the elements in <code>collection</code> starting from this node
-     * at index <code>index</code>. The elements are inserted in the same order
-     * as the iterator of {@code collection} returns them.
-     * 
-     * @param index      the insertion index.
-     * @param collection the collection
-     * @param workList   the auxiliary list.
-     * @return           a chain of new nodes or null if {@code collection} fits
-     *                   in this node.
-     */
-    protected abstract LinkedArrayListNode<E>
-        addAll(int index, Collection<? extends E> collection, List<E> workList);
-    
     /**
      * Appends the element to the tail of this node.
      * 
@@ -173,18 +166,228 @@ abstract class LinkedArrayListNode<E> {
     protected abstract void set(int index, E element);
     
     /**
-     * Sets the contents of this node.
+     * Sets the contents of this empty node to the {@code count} elements of
+     * {@code array} starting from index {@code fromIndex}. The caller must 
+     * make sure that the elements fit in this node.
+     * 
+     * @param array     the array holding the elements.
+     * @param fromIndex the index of the first element to load.
+     * @param count     the amount of elements to load.
+     */
+    protected void load(Object[] array, int fromIndex, int count) {
+        System.arraycopy(array, fromIndex, elementArray, 0, count);
+        size = count;
+    }
+    
+    /**
+     * Stores the array ranges holding the elements of this node in order to
+     * {@code chunks} as consecutive {@code (offset, length)} pairs. The ranges
+     * refer to the backing array of this node.
+     * 
+     * @param  chunks the array of length at least four to receive the ranges.
+     * @return the amount of ranges stored.
+     */
+    protected int getChunks(int[] chunks) {
+        return getChunks(0, size, chunks);
+    }
+    
+    /**
+     * Stores the array ranges holding the elements of this node in the local
+     * index range {@code [fromIndex, toIndex)} in order to {@code chunks} as 
+     * consecutive {@code (offset, length)} pairs. There are at most two 
+     * ranges. The default implementation assumes that the elements occupy 
+     * the beginning of the array.
+     * 
+     * @param  fromIndex the local index of the first element of the range.
+     * @param  toIndex   the local index one past the last element of the 
+     *                   range.
+     * @param  chunks    the array of length at least four to receive the 
+     *                   ranges.
+     * @return the amount of ranges stored.
+     */
+    protected int getChunks(int fromIndex, int toIndex, int[] chunks) {
+        if (fromIndex == toIndex) {
+            return 0;
+        }
+        
+        chunks[0] = fromIndex;
+        chunks[1] = toIndex - fromIndex;
+        return 1;
+    }
+    
+    /**
+     * Copies the {@code count} elements of this node starting from the local
+     * index {@code fromIndex} to {@code array} starting from index 
+     * {@code arrayIndex}.
      * 
-     * @param list the list of elements to set.
+     * @param fromIndex  the local index of the first element to copy.
+     * @param array      the destination array.
+     * @param arrayIndex the index of the first destination component.
+     * @param count      the amount of elements to copy.
      */
-    protected void setAll(List<E> list) {
-        int index = 0;
+    protected void copyTo(int fromIndex, 
+                          Object[] array, 
+                          int arrayIndex, 
+                          int count) {
+        final int[] chunks = new int[4];
+        final int chunkCount = getChunks(fromIndex, fromIndex + count, chunks);
         
-        for (E element : list) {
-            elementArray[index++] = element;
+        for (int i = 0; i < chunkCount; ++i) {
+            System.arraycopy(elementArray, chunks[2 * i], 
+                             array, arrayIndex, 
+                             chunks[2 * i + 1]);
+            arrayIndex += chunks[2 * i + 1];
+        }
+    }
+    
+    /**
+     * Appends the {@code count} elements of {@code array} starting from index
+     * {@code fromIndex} to the tail of this node. The caller must make sure 
+     * that the elements fit in this node.
+     * 
+     * @param array     the array holding the elements.
+     * @param fromIndex the index of the first element to append.
+     * @param count     the amount of elements to append.
+     */
+    protected void appendAll(Object[] array, int fromIndex, int count) {
+        for (int i = 0; i < count; ++i) {
+            append((E) array[fromIndex + i]);
+        }
+    }
+    
+    /**
+     * Prepends the {@code count} elements of {@code array} starting from index
+     * {@code fromIndex} to the head of this node, keeping their order. The 
+     * caller must make sure that the elements fit in this node.
+     * 
+     * @param array     the array holding the elements.
+     * @param fromIndex the index of the first element to prepend.
+     * @param count     the amount of elements to prepend.
+     */
+    protected void prependAll(Object[] array, int fromIndex, int count) {
+        for (int i = count - 1; i >= 0; --i) {
+            insert(0, (E) array[fromIndex + i]);
+        }
+    }
+    
+    /**
+     * Inserts the {@code count} elements of {@code array} starting from index
+     * {@code fromIndex} in this node between the elements with local indices
+     * {@code localIndex - 1} and {@code localIndex}, keeping their order. The
+     * caller must make sure that the elements fit in this node.
+     * 
+     * @param localIndex the local insertion index.
+     * @param array      the array holding the elements.
+     * @param fromIndex  the index of the first element to insert.
+     * @param count      the amount of elements to insert.
+     */
+    protected void insertAll(int localIndex, 
+                             Object[] array, 
+                             int fromIndex, 
+                             int count) {
+        final Object[] suffix = new Object[size - localIndex];
+        copyTo(localIndex, suffix, 0, suffix.length);
+        removeRange(localIndex, size);
+        appendAll(array, fromIndex, count);
+        appendAll(suffix, 0, suffix.length);
+    }
+    
+    /**
+     * Passes the elements of this node in the local index range 
+     * {@code [fromIndex, toIndex)} to {@code action} in order.
+     * 
+     * @param fromIndex the local index of the first element to pass.
+     * @param toIndex   the local index one past the last element to pass.
+     * @param action    the action to perform on each element.
+     */
+    protected void forEach(int fromIndex, 
+                           int toIndex, 
+                           Consumer<? super E> action) {
+        for (int i = fromIndex; i < toIndex; ++i) {
+            action.accept(get(i));
+        }
+    }
+    
+    /**
+     * Removes all the elements of this node satisfying {@code filter}. If
+     * {@code filter} throws, the elements not tested yet are kept.
+     * 
+     * @param  filter the predicate selecting the elements to remove.
+     * @return the amount of removed elements.
+     */
+    protected int removeIf(Predicate<? super E> filter) {
+        int read = 0;
+        int write = 0;
+        
+        try {
+            for (; read < size; ++read) {
+                E element = get(read);
+                
+                if (!filter.test(element)) {
+                    set(write++, element);
+                }
+            }
+        } finally {
+            while (read < size) {
+                set(write++, get(read++));
+            }
+            
+            removeRange(write, size);
         }
         
-        size = list.size();
+        return read - write;
+    }
+    
+    /**
+     * Replaces each element of this node with the result of applying 
+     * {@code operator} to it.
+     * 
+     * @param operator the operator to apply.
+     */
+    protected void replaceAll(UnaryOperator<E> operator) {
+        for (int i = 0; i < size; ++i) {
+            set(i, operator.apply(get(i)));
+        }
+    }
+    
+    /**
+     * Moves the first {@code count} elements of this node to the tail of
+     * {@code target}. The caller must make sure that {@code target} has room
+     * for the moved elements.
+     * 
+     * @param target the node to receive the elements.
+     * @param count  the amount of elements to move.
+     */
+    protected void moveFirstTo(LinkedArrayListNode<E> target, int count) {
+        final int[] chunks = new int[4];
+        final int chunkCount = getChunks(0, count, chunks);
+        
+        for (int i = 0; i < chunkCount; ++i) {
+            target.appendAll(elementArray, chunks[2 * i], chunks[2 * i + 1]);
+        }
+        
+        removeRange(0, count);
+    }
+    
+    /**
+     * Moves the last {@code count} elements of this node to the head of 
+     * {@code target}. The caller must make sure that {@code target} has room
+     * for the moved elements.
+     * 
+     * @param target the node to receive the elements.
+     * @param count  the amount of elements to move.
+     */
+    protected void moveLastTo(LinkedArrayListNode<E> target, int count) {
+        final int nodeSize = size();
+        final int[] chunks = new int[4];
+        final int chunkCount = getChunks(nodeSize - count, nodeSize, chunks);
+        
+        // Prepending the last range first keeps the order of the elements.
+        for (int i = chunkCount - 1; i >= 0; --i) {
+            target.prependAll(elementArray, chunks[2 * i], chunks[2 * i + 1]);
+        }
+        
+        removeRange(nodeSize - count, nodeSize);
     }
     
     /**
@@ -214,13 +417,29 @@ abstract class LinkedArrayListNode<E> {
     protected abstract LinkedArrayListNode<E> spawn();
     
     /**
-     * Loads into the <code>list</code> all elements from this node whose
-     * indices are at least <code>splitIndex</code>.
+     * Constructs a new node with the same implementation and the given degree.
+     * 
+     * @param  degree the degree of the new node.
+     * @return a new node with the same implementation as the object of the
+     *         call.
+     */
+    protected abstract LinkedArrayListNode<E> spawn(int degree);
+    
+    /**
+     * Changes the capacity of this node to {@code degree}, keeping the 
+     * elements. The new degree may not be less than the size of this node.
+     * 
+     * @param degree the new degree.
+     */
+    protected abstract void setDegree(int degree);
+    
+    /**
+     * Returns a detached copy of this node. The copy has the same degree and 
+     * stores the elements at the same array components as this node.
      * 
-     * @param splitIndex the split index.
-     * @param list       the backup list.
+     * @return a copy of this node.
      */
-    protected abstract void split(int splitIndex, List<E> list);
+    protected abstract LinkedArrayListNode<E> copy();
     
     /**
      * Checks whether this node is empty.
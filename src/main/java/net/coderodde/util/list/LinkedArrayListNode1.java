@@ -1,9 +1,10 @@
 package net.coderodde.util.list;
 
-import java.util.Collection;
-import java.util.Iterator;
-import java.util.List;
+import java.util.Arrays;
 import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 /**
  * This is a <b>trivial</b> node class. All operations are implemented as easily
@@ -26,79 +27,14 @@ class LinkedArrayListNode1<E> extends LinkedArrayListNode<E> {
     }
     
     /**
-     * Inserts elements in {@code collection} (in the order they are returned by 
-     * the iterator of {@code collection}) between elements at indices 
-     * {@code localIndex - 1} and {@code localIndex}. If the collection does not
-     * fit in this node, it creates a chain of nodes appending the rest of 
-     * elements to the nodes of the chain.
+     * Constructs a copy of {@code node}.
      * 
-     * @param localIndex the index of element before which to insert.
-     * @param collection the collection of elements to insert.
-     * @param workList   the auxiliary list for holding the elements in this
-     *                   node that are to be moved in order to make room for 
-     *                   inserted elements.
-     * @return           if all the elements fit in this node, {@code null} is
-     *                   returned. Otherwise, the rightmost node is returned.
+     * @param node the node to copy.
      */
-    @Override
-    protected LinkedArrayListNode<E> 
-        addAll(int localIndex, 
-               Collection<? extends E> collection, 
-               List<E> workList) {
-        final LinkedArrayListNode<E> nextNode = getNextNode();
-        
-        // Collect everything that is to be moved in this node.
-        for (int i = localIndex; i < size; ++i) {
-            workList.add((E) elementArray[i]);
-        }
-        
-        // Update the size field.
-        size = localIndex;
-            
-        Iterator<? extends E> iterator = collection.iterator();
-        LinkedArrayListNode<E> chainHead = this;
-        LinkedArrayListNode<E> chainTail = this;
-        
-        while (iterator.hasNext()) {
-            if (chainTail.isFull()) {
-                LinkedArrayListNode<E> newnode = spawn();
-                newnode.setPreviousNode(chainTail);
-                chainTail.setNextNode(newnode);
-                chainTail = newnode;
-            }
-            
-            chainTail.append(iterator.next());
-        }
-        
-        iterator = workList.iterator();
-        
-        while (iterator.hasNext()) {
-            if (chainTail.isFull()) {
-                LinkedArrayListNode<E> newnode = spawn();
-                newnode.setPreviousNode(chainTail);
-                chainTail.setNextNode(newnode);
-                chainTail = newnode;
-            }
-            
-            chainTail.append(iterator.next());
-        }
-        
-        // 'workList' is cleared in the calling method.
-        
-        if (chainHead == chainTail) {
-            // The added elements fit entirely in this node. No relinking,
-            // return null.
-            return null;
-        }
-        
-        chainTail.setNextNode(nextNode);
-        
-        if (nextNode != null) {
-            nextNode.setPreviousNode(chainTail);
-            return null;
-        }
-        
-        return chainTail;
+    LinkedArrayListNode1(LinkedArrayListNode1<E> node) {
+        this.elementArray = Arrays.copyOf(node.elementArray, 
+                                          node.elementArray.length);
+        this.size = node.size;
     }
     
     /**
@@ -111,6 +47,19 @@ class LinkedArrayListNode1<E> extends LinkedArrayListNode<E> {
         elementArray[size()] = element;
         ++size;
     }
+    
+    @Override
+    protected void appendAll(Object[] array, int fromIndex, int count) {
+        System.arraycopy(array, fromIndex, elementArray, size, count);
+        size += count;
+    }
+    
+    @Override
+    protected void prependAll(Object[] array, int fromIndex, int count) {
+        System.arraycopy(elementArray, 0, elementArray, count, size);
+        System.arraycopy(array, fromIndex, elementArray, 0, count);
+        size += count;
+    }
 
     /**
      * Returns {@code true} if this node contains {@code o}.
@@ -142,6 +91,51 @@ class LinkedArrayListNode1<E> extends LinkedArrayListNode<E> {
         return (E) elementArray[index];
     }
     
+    @Override
+    protected int removeIf(Predicate<? super E> filter) {
+        final Object[] array = elementArray;
+        final int oldSize = size;
+        int read = 0;
+        int write = 0;
+        
+        try {
+            for (; read < oldSize; ++read) {
+                E element = (E) array[read];
+                
+                if (!filter.test(element)) {
+                    array[write++] = element;
+                }
+            }
+        } finally {
+            System.arraycopy(array, read, array, write, oldSize - read);
+            write += oldSize - read;
+            Arrays.fill(array, write, oldSize, null);
+            size = write;
+        }
+        
+        return oldSize - write;
+    }
+    
+    @Override
+    protected void replaceAll(UnaryOperator<E> operator) {
+        final Object[] array = elementArray;
+        
+        for (int i = 0; i < size; ++i) {
+            array[i] = operator.apply((E) array[i]);
+        }
+    }
+    
+    @Override
+    protected void forEach(int fromIndex, 
+                           int toIndex, 
+                           Consumer<? super E> action) {
+        final Object[] array = elementArray;
+        
+        for (int i = fromIndex; i < toIndex; ++i) {
+            action.accept((E) array[i]);
+        }
+    }
+    
     /**
      * Returns the degree of this node, which is essentially the capacity of
      * underlying array.
@@ -178,42 +172,32 @@ class LinkedArrayListNode1<E> extends LinkedArrayListNode<E> {
         
         if (isFull()) {
             LinkedArrayListNode<E> newnode = spawn();
-            int leftNodeSize = elementArray.length >> 1;
+            final int degree = elementArray.length;
+            int leftNodeSize = degree >> 1;
             
             if (localIndex < leftNodeSize) {
-                for (int i = leftNodeSize; i < elementArray.length; ++i) {
-                    newnode.elementArray[i - leftNodeSize] = 
-                            elementArray[i];
-                    elementArray[i] = null;
-                }
-                
-                newnode.size = elementArray.length - leftNodeSize;
-                this.size -= newnode.size;
-                
-                // Now shift the right portion of this node one positiion to the
-                // left.
-                for (int i = size - 1; i >= localIndex; --i) {
-                    elementArray[i + 1] = elementArray[i];
-                }
+                newnode.appendAll(elementArray, 
+                                  leftNodeSize, 
+                                  degree - leftNodeSize);
+                Arrays.fill(elementArray, leftNodeSize, degree, null);
+                this.size = leftNodeSize;
                 
+                // Now shift the right portion of this node one position to the
+                // right.
+                System.arraycopy(elementArray, localIndex, 
+                                 elementArray, localIndex + 1,
+                                 leftNodeSize - localIndex);
                 elementArray[localIndex] = element;
                 this.size++;
             } else {
-                for (int i = leftNodeSize, j = 0; i < localIndex; ++i, ++j) {
-                    newnode.elementArray[j] = elementArray[i];
-                    elementArray[i] = null;
-                }
-                
-                newnode.elementArray[localIndex - leftNodeSize] = element;
-                
-                for (int i = localIndex, j = localIndex - leftNodeSize + 1; 
-                        i < elementArray.length; 
-                        ++i, ++j) {
-                    newnode.elementArray[j] = elementArray[i];
-                    elementArray[i] = null;
-                }
-                
-                newnode.size = elementArray.length - leftNodeSize + 1;
+                newnode.appendAll(elementArray, 
+                                  leftNodeSize, 
+                                  localIndex - leftNodeSize);
+                newnode.append(element);
+                newnode.appendAll(elementArray, 
+                                  localIndex, 
+                                  degree - localIndex);
+                Arrays.fill(elementArray, leftNodeSize, degree, null);
                 this.size = leftNodeSize;
             }
             
@@ -229,10 +213,9 @@ class LinkedArrayListNode1<E> extends LinkedArrayListNode<E> {
 //            size = localIndex + 1;
 //            return newnode;
         } else {
-            for (int i = size; i > localIndex; --i) {
-                elementArray[i] = elementArray[i - 1];
-            }
-
+            System.arraycopy(elementArray, localIndex, 
+                             elementArray, localIndex + 1, 
+                             size - localIndex);
             elementArray[localIndex] = element;
             ++size;
             return null;
@@ -299,12 +282,7 @@ class LinkedArrayListNode1<E> extends LinkedArrayListNode<E> {
     protected boolean remove(Object o) {
         for (int i = 0; i < size(); ++i) {
             if (Objects.equals(o, elementArray[i])) {
-                for (int j = i + 1; j < size(); ++j) {
-                    elementArray[j - 1] = elementArray[j];
-                }
-                
-                --size;
-                elementArray[size] = null;
+                removeAt(i);
                 return true;
             }
         }
@@ -319,11 +297,9 @@ class LinkedArrayListNode1<E> extends LinkedArrayListNode<E> {
     @Override
     protected E removeAt(int index) {
         E ret = (E) elementArray[index];
-        
-        for (int i = index + 1; i < size(); ++i) {
-            elementArray[i - 1] = elementArray[i];
-        }
-        
+        System.arraycopy(elementArray, index + 1, 
+                         elementArray, index, 
+                         size - index - 1);
         elementArray[--size] = null;
         return ret;
     }
@@ -332,16 +308,11 @@ class LinkedArrayListNode1<E> extends LinkedArrayListNode<E> {
     protected void removeRange(int fromIndex, int toIndex) {
         int oldSize = size;
         int rangeLength = toIndex - fromIndex;
-        
-        for (int i = toIndex; i < size; ++i) {
-            elementArray[i - rangeLength] = elementArray[i];
-        }
-        
+        System.arraycopy(elementArray, toIndex, 
+                         elementArray, fromIndex, 
+                         size - toIndex);
         size -= rangeLength;
-        
-        for (int i = size; i < oldSize; ++i) {
-            elementArray[i] = null;
-        }
+        Arrays.fill(elementArray, size, oldSize, null);
     }
 
     /**
@@ -366,21 +337,31 @@ class LinkedArrayListNode1<E> extends LinkedArrayListNode<E> {
     }
     
     /**
-     * Splits this node starting from element at index {@code splitIndex} and 
-     * dumps all the elements on the right to the list {@code list}.
+     * Creates and returns an empty node of the same type as this node with 
+     * given degree.
      * 
-     * @param splitIndex the split index.
-     * @param list       the list to accommodate the rightmost elements.
+     * @param  degree the degree of the new node.
+     * @return a new node.
      */
     @Override
-    protected void split(int splitIndex, List<E> list) {
-        final int nodeSize = size;
-        
-        for (int i = splitIndex; i < nodeSize; ++i) {
-            list.add(get(i));
-            set(i, null);
-        }
-        
-        size = splitIndex;
+    protected LinkedArrayListNode<E> spawn(int degree) {
+        return new LinkedArrayListNode1<>(degree);
+    }
+    
+    @Override
+    protected LinkedArrayListNode<E> copy() {
+        return new LinkedArrayListNode1<>(this);
+    }
+    
+    /**
+     * Reallocates the storage array of this node so that its length is 
+     * {@code degree}.
+     * 
+     * @param degree the new degree.
+     */
+    @Override
+    protected void setDegree(int degree) {
+        degree = Math.max(degree, LinkedArrayList.MINIMUM_DEGREE);
+        elementArray = Arrays.copyOf(elementArray, degree);
     }
 }
\ No newline at end of file
@@ -1,9 +1,10 @@
 package net.coderodde.util.list;
 
-import java.util.Collection;
-import java.util.Iterator;
-import java.util.List;
+import java.util.Arrays;
 import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 /**
  * This class implements the advanced node for <code>LinkedArrayList</code>.
@@ -13,8 +14,15 @@ import java.util.Objects;
  */
 class LinkedArrayListNode2<E> extends LinkedArrayListNode<E> {
     
-    private final int mask;
-    private int size;
+    /**
+     * The bit mask for wrapping the array indices. As the length of the 
+     * storage array is always a power of two, this is the length minus one.
+     */
+    private int mask;
+    
+    /**
+     * The array index of the first element of this node.
+     */
     private int head;
     
     /**
@@ -27,86 +35,170 @@ class LinkedArrayListNode2<E> extends LinkedArrayListNode<E> {
                 new Object[fixDegree(
                         Math.max(degree, 
                                  LinkedArrayList.MINIMUM_DEGREE))];
-        System.out.println("node degree: " + this.elementArray.length);
         this.mask = this.elementArray.length - 1;
     }
+    
+    /**
+     * Constructs a copy of {@code node}, keeping the ring offset.
+     * 
+     * @param node the node to copy.
+     */
+    LinkedArrayListNode2(LinkedArrayListNode2<E> node) {
+        this.elementArray = Arrays.copyOf(node.elementArray, 
+                                          node.elementArray.length);
+        this.size = node.size;
+        this.mask = node.mask;
+        this.head = node.head;
+    }
 
     @Override
-    protected LinkedArrayListNode<E> addAll(int localIndex, 
-                                            Collection<? extends E> collection, 
-                                            List<E> workList) {
-        LinkedArrayListNode<E> nextNode = getNextNode();
-        
-        // Collect everything that is to be moved in this node.
-        for (int i = localIndex; i < size; ++i) {
-            workList.add((E) elementArray[(head + i) & mask]);
+    protected void append(E element) {
+        elementArray[(head + size++) & mask] = element;
+    }
+    
+    @Override
+    protected void appendAll(Object[] array, int fromIndex, int count) {
+        int start = (head + size) & mask;
+        int firstLength = Math.min(count, elementArray.length - start);
+        System.arraycopy(array, fromIndex, elementArray, start, firstLength);
+        System.arraycopy(array, fromIndex + firstLength, 
+                         elementArray, 0, 
+                         count - firstLength);
+        size += count;
+    }
+    
+    @Override
+    protected void prependAll(Object[] array, int fromIndex, int count) {
+        head = (head - count) & mask;
+        int firstLength = Math.min(count, elementArray.length - head);
+        System.arraycopy(array, fromIndex, elementArray, head, firstLength);
+        System.arraycopy(array, fromIndex + firstLength, 
+                         elementArray, 0, 
+                         count - firstLength);
+        size += count;
+    }
+
+    @Override
+    protected void insertAll(int localIndex, 
+                             Object[] array, 
+                             int fromIndex, 
+                             int count) {
+        if (localIndex < size - localIndex) {
+            // Open the gap by moving the components on the left.
+            moveBackward(head, (head - count) & mask, localIndex);
+            head = (head - count) & mask;
+        } else {
+            // Open the gap by moving the components on the right.
+            moveForward((head + localIndex) & mask, 
+                        (head + localIndex + count) & mask, 
+                        size - localIndex);
         }
         
-        size = localIndex;
-        
-        Iterator<? extends E> iterator = collection.iterator();
-        LinkedArrayListNode<E> chainHead = this;
-        LinkedArrayListNode<E> chainTail = this;
-        
-        while (iterator.hasNext()) {
-            if (chainTail.isFull()) {
-                LinkedArrayListNode<E> newnode = spawn();
-                newnode.setPreviousNode(chainTail);
-                chainTail.setNextNode(newnode);
-                chainTail = newnode;
+        int start = (head + localIndex) & mask;
+        int firstLength = Math.min(count, elementArray.length - start);
+        System.arraycopy(array, fromIndex, elementArray, start, firstLength);
+        System.arraycopy(array, fromIndex + firstLength, 
+                         elementArray, 0, 
+                         count - firstLength);
+        size += count;
+    }
+
+    @Override
+    protected boolean contains(Object o) {
+        for (int i = 0; i < size; ++i) {
+            if (Objects.equals(o, elementArray[(head + i) & mask])) {
+                return true;
             }
-            
-            chainTail.append(iterator.next());
         }
         
-        iterator = workList.iterator();
+        return false;
+    }
+
+    @Override
+    protected E get(int index) {
+        return (E) elementArray[(head + index) & mask];
+    }
+    
+    @Override
+    protected int removeIf(Predicate<? super E> filter) {
+        final Object[] array = elementArray;
+        final int oldSize = size;
+        int read = 0;
+        int write = 0;
         
-        while (iterator.hasNext()) {
-            if (chainTail.isFull()) {
-                LinkedArrayListNode<E> newnode = spawn();
-                newnode.setPreviousNode(chainTail);
-                chainTail.setNextNode(newnode);
-                chainTail = newnode;
+        try {
+            for (; read < oldSize; ++read) {
+                E element = (E) array[(head + read) & mask];
+                
+                if (!filter.test(element)) {
+                    array[(head + write++) & mask] = element;
+                }
+            }
+        } finally {
+            while (read < oldSize) {
+                array[(head + write++) & mask] = array[(head + read++) & mask];
             }
             
-            chainTail.append(iterator.next());
+            for (int i = write; i < oldSize; ++i) {
+                array[(head + i) & mask] = null;
+            }
+            
+            size = write;
         }
         
-        // 'workList' is cleared in the calling method.
+        return oldSize - write;
+    }
+    
+    @Override
+    protected void replaceAll(UnaryOperator<E> operator) {
+        final Object[] array = elementArray;
         
-        if (chainHead == chainTail) {
-            return null;
+        for (int i = 0; i < size; ++i) {
+            int index = (head + i) & mask;
+            array[index] = operator.apply((E) array[index]);
+        }
+    }
+    
+    @Override
+    protected int getChunks(int fromIndex, int toIndex, int[] chunks) {
+        if (fromIndex == toIndex) {
+            return 0;
         }
         
-        chainTail.setNextNode(nextNode);
+        int start = (head + fromIndex) & mask;
+        int length = toIndex - fromIndex;
+        int firstLength = Math.min(length, elementArray.length - start);
+        chunks[0] = start;
+        chunks[1] = firstLength;
         
-        if (nextNode != null) {
-            nextNode.setPreviousNode(chainTail);
-            return null;
+        if (firstLength == length) {
+            return 1;
         }
         
-        return chainTail;
-    }
-
-    @Override
-    protected void append(E element) {
-        elementArray[(head + size++) & mask] = element;
+        // The range wraps around the end of the array.
+        chunks[2] = 0;
+        chunks[3] = length - firstLength;
+        return 2;
     }
-
+    
     @Override
-    protected boolean contains(Object o) {
-        for (int i = 0; i < size; ++i) {
-            if (Objects.equals(o, elementArray[(head + i) & mask])) {
-                return true;
-            }
+    protected void forEach(int fromIndex, 
+                           int toIndex, 
+                           Consumer<? super E> action) {
+        final Object[] array = elementArray;
+        // The range occupies at most two slices of the ring: up to the end of
+        // the array and from its beginning.
+        int start = (head + fromIndex) & mask;
+        int end = start + toIndex - fromIndex;
+        int firstEnd = Math.min(end, array.length);
+        
+        for (int i = start; i < firstEnd; ++i) {
+            action.accept((E) array[i]);
         }
         
-        return false;
-    }
-
-    @Override
-    protected E get(int index) {
-        return (E) elementArray[(head + index) & mask];
+        for (int i = 0; i < end - firstEnd; ++i) {
+            action.accept((E) array[i]);
+        }
     }
 
     @Override
@@ -118,15 +210,8 @@ class LinkedArrayListNode2<E> extends LinkedArrayListNode<E> {
     protected LinkedArrayListNode<E> insert(int localIndex, E element) {
         if (isFull()) {
             LinkedArrayListNode<E> newnode = spawn();
-            
-            for (int i = localIndex; i < size; ++i) {
-                int index = (head + i) & mask;
-                newnode.append((E) elementArray[index]);
-                elementArray[index] = null;
-            }
-            
-            elementArray[localIndex] = element;
-            size = localIndex + 1;
+            moveLastTo(newnode, size - localIndex);
+            append(element);
             return newnode;
         } 
         
@@ -135,16 +220,13 @@ class LinkedArrayListNode2<E> extends LinkedArrayListNode<E> {
 
         if (leftComponents < rightComponents) {
             // Move the components on the left one position to the left.
-            for (int i = 0; i < leftComponents; ++i) {
-                elementArray[(head + i - 1) & mask] = 
-                elementArray[(head + i) & mask];
-            }
+            moveBackward(head, (head - 1) & mask, leftComponents);
+            head = (head - 1) & mask;
         } else {
             // Move the components on the right one position to the right.
-            for (int i = 0, j = size - 1; i < rightComponents; ++i, --j) {
-                elementArray[(head + j) & mask] =
-                elementArray[(head + j + 1) & mask];
-            }
+            moveForward((head + localIndex) & mask, 
+                        (head + localIndex + 1) & mask, 
+                        rightComponents);
         }
 
         elementArray[(head + localIndex) & mask] = element;
@@ -189,40 +271,14 @@ class LinkedArrayListNode2<E> extends LinkedArrayListNode<E> {
     
     @Override
     protected boolean remove(Object o) {
-        int localIndex = -1;
-        
         for (int i = 0; i < size; ++i) {
-            if (Objects.equals(o, elementArray[i])) {
-                localIndex = i;
-                break;
-            }
-        }
-        
-        if (localIndex == - 1) {
-            return false;
-        }
-        
-        int leftComponents = localIndex;
-        int rightComponents = size - localIndex;
-        
-        if (leftComponents < rightComponents) {
-            for (int i = localIndex - 1; i >= 0; --i) {
-                elementArray[(head + i + 1) & mask] =
-                        elementArray[(head + i) & mask];
-            }
-            
-            elementArray[head & mask] = null;
-        } else {
-            for (int i = localIndex + 1; i < size; ++i) {
-                elementArray[(head + i - 1) & mask] =
-                        elementArray[(head + i) & mask];
+            if (Objects.equals(o, elementArray[(head + i) & mask])) {
+                removeAt(i);
+                return true;
             }
-            
-            elementArray[(head + size) & mask] = null;
         }
         
-        --size;
-        return true;
+        return false;
     }
 
     @Override
@@ -233,19 +289,14 @@ class LinkedArrayListNode2<E> extends LinkedArrayListNode<E> {
         int rightComponents = size - index;
         
         if (leftComponents < rightComponents) {
-            for (int i = index - 1; i >= 0; --i) {
-                elementArray[(head + i + 1) & mask] =
-                        elementArray[(head + i) & mask];
-            }
-            
-            elementArray[head & mask] = null;
+            moveForward(head, (head + 1) & mask, leftComponents);
+            elementArray[head] = null;
+            head = (head + 1) & mask;
         } else {
-            for (int i = index + 1; i < size; ++i) {
-                elementArray[(head + i - 1) & mask] =
-                        elementArray[(head + i) & mask];
-            }
-            
-            elementArray[(head + size) & mask] = null;
+            moveBackward((head + index + 1) & mask, 
+                         (head + index) & mask, 
+                         rightComponents - 1);
+            elementArray[(head + size - 1) & mask] = null;
         }
         
         --size;
@@ -259,23 +310,14 @@ class LinkedArrayListNode2<E> extends LinkedArrayListNode<E> {
         int rangeLength = toIndex - fromIndex;
         
         if (leftComponents < rightComponents) {
-            for (int i = leftComponents - 1; i >= 0; --i) {
-                elementArray[(head + rangeLength + i) & mask] = 
-                        elementArray[(head + i) & mask];
-            }
-            
-            for (int i = 0; i < rangeLength; ++i) {
-                elementArray[(head + i) & mask] = null;
-            }
+            moveForward(head, (head + rangeLength) & mask, leftComponents);
+            clear(head, rangeLength);
+            head = (head + rangeLength) & mask;
         } else {
-            for (int i = 0; i < rightComponents; ++i) {
-                elementArray[(head + fromIndex + i) & mask] =
-                        elementArray[(head + toIndex + i) & mask];
-            }
-            
-            for (int i = 0; i < rangeLength; ++i) {
-                elementArray[(head + toIndex + i) & mask] = null;
-            }
+            moveBackward((head + toIndex) & mask, 
+                         (head + fromIndex) & mask, 
+                         rightComponents);
+            clear((head + size - rangeLength) & mask, rangeLength);
         }
         
         size -= rangeLength;
@@ -292,12 +334,96 @@ class LinkedArrayListNode2<E> extends LinkedArrayListNode<E> {
     }
     
     @Override
-    protected void split(int splitIndex, List<E> list) {
-        for (int i = splitIndex; i < size; ++i) {
-            list.add((E) elementArray[(head + i) & mask]);
+    protected LinkedArrayListNode<E> spawn(int degree) {
+        return new LinkedArrayListNode2<>(degree);
+    }
+    
+    @Override
+    protected LinkedArrayListNode<E> copy() {
+        return new LinkedArrayListNode2<>(this);
+    }
+    
+    @Override
+    protected void setDegree(int degree) {
+        Object[] newArray = new Object[fixDegree(
+                Math.max(degree, LinkedArrayList.MINIMUM_DEGREE))];
+        copyTo(0, newArray, 0, size);
+        elementArray = newArray;
+        mask = newArray.length - 1;
+        head = 0;
+    }
+    
+    @Override
+    protected void load(Object[] array, int fromIndex, int count) {
+        head = 0;
+        super.load(array, fromIndex, count);
+    }
+    
+    /**
+     * Moves the {@code count} elements starting from the array index 
+     * {@code from} backwards in the ring so that they start from the array 
+     * index {@code to}. The move is done with at most three array copies, 
+     * front to back, so that the overlapping elements are read before they
+     * are overwritten.
+     * 
+     * @param from  the array index of the first element to move.
+     * @param to    the array index to move the first element to.
+     * @param count the amount of elements to move.
+     */
+    private void moveBackward(int from, int to, int count) {
+        final int length = elementArray.length;
+        
+        while (count > 0) {
+            int chunkLength = Math.min(count, 
+                                       Math.min(length - from, length - to));
+            System.arraycopy(elementArray, from, 
+                             elementArray, to, 
+                             chunkLength);
+            from = (from + chunkLength) & mask;
+            to = (to + chunkLength) & mask;
+            count -= chunkLength;
         }
+    }
+    
+    /**
+     * Moves the {@code count} elements starting from the array index 
+     * {@code from} forward in the ring so that they start from the array 
+     * index {@code to}. The move is done with at most three array copies, 
+     * back to front, so that the overlapping elements are read before they 
+     * are overwritten.
+     * 
+     * @param from  the array index of the first element to move.
+     * @param to    the array index to move the first element to.
+     * @param count the amount of elements to move.
+     */
+    private void moveForward(int from, int to, int count) {
+        // The array indices one past the last elements to move, in the range
+        // [1, length].
+        int fromEnd = ((from + count - 1) & mask) + 1;
+        int toEnd = ((to + count - 1) & mask) + 1;
         
-        size = splitIndex;
+        while (count > 0) {
+            int chunkLength = Math.min(count, Math.min(fromEnd, toEnd));
+            System.arraycopy(elementArray, fromEnd - chunkLength, 
+                             elementArray, toEnd - chunkLength, 
+                             chunkLength);
+            fromEnd = ((fromEnd - chunkLength - 1) & mask) + 1;
+            toEnd = ((toEnd - chunkLength - 1) & mask) + 1;
+            count -= chunkLength;
+        }
+    }
+    
+    /**
+     * Sets the {@code count} array components starting from the array index
+     * {@code from} to {@code null}, wrapping around the end of the array.
+     * 
+     * @param from  the array index of the first component to clear.
+     * @param count the amount of components to clear.
+     */
+    private void clear(int from, int count) {
+        int firstLength = Math.min(count, elementArray.length - from);
+        Arrays.fill(elementArray, from, from + firstLength, null);
+        Arrays.fill(elementArray, 0, count - firstLength, null);
     }
     
     /**
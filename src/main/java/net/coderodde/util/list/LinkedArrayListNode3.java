@@ -0,0 +1,347 @@
+package net.coderodde.util.list;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * This class implements the <b>gap buffer</b> node for
+ * {@code LinkedArrayList}. The free array components form a single gap that
+ * is moved to the position of each insertion or removal. This way, a run of
+ * edits at the same or at an adjacent position shifts no elements at all,
+ * and moving the gap costs only the distance it travels.
+ * 
+ * @author    Rodion "rodde" Efremov
+ * @version   1.6
+ * @param <E> the actual list element type.
+ */
+class LinkedArrayListNode3<E> extends LinkedArrayListNode<E> {
+    
+    /**
+     * The array index of the first component of the gap.
+     */
+    private int gapStart;
+    
+    /**
+     * The array index of the first component after the gap.
+     */
+    private int gapEnd;
+    
+    /**
+     * Constructs a new, empty {@code LinkedArrayListNode3} with given degree.
+     * 
+     * @param degree the degree of the new node.
+     */
+    LinkedArrayListNode3(int degree) {
+        degree = Math.max(degree, LinkedArrayList.MINIMUM_DEGREE);
+        this.elementArray = new Object[degree];
+        this.gapEnd = degree;
+    }
+    
+    /**
+     * Constructs a copy of {@code node}, keeping the gap position.
+     * 
+     * @param node the node to copy.
+     */
+    LinkedArrayListNode3(LinkedArrayListNode3<E> node) {
+        this.elementArray = Arrays.copyOf(node.elementArray, 
+                                          node.elementArray.length);
+        this.size = node.size;
+        this.gapStart = node.gapStart;
+        this.gapEnd = node.gapEnd;
+    }
+    
+    @Override
+    protected void append(E element) {
+        moveGap(size);
+        elementArray[gapStart++] = element;
+        ++size;
+    }
+    
+    @Override
+    protected void appendAll(Object[] array, int fromIndex, int count) {
+        moveGap(size);
+        System.arraycopy(array, fromIndex, elementArray, gapStart, count);
+        gapStart += count;
+        size += count;
+    }
+    
+    @Override
+    protected void prependAll(Object[] array, int fromIndex, int count) {
+        moveGap(0);
+        gapEnd -= count;
+        System.arraycopy(array, fromIndex, elementArray, gapEnd, count);
+        size += count;
+    }
+    
+    @Override
+    protected void insertAll(int localIndex, 
+                             Object[] array, 
+                             int fromIndex, 
+                             int count) {
+        moveGap(localIndex);
+        System.arraycopy(array, fromIndex, elementArray, gapStart, count);
+        gapStart += count;
+        size += count;
+    }
+    
+    @Override
+    protected boolean contains(Object o) {
+        for (int i = 0; i < size; ++i) {
+            if (Objects.equals(o, get(i))) {
+                return true;
+            }
+        }
+        
+        return false;
+    }
+    
+    @Override
+    protected E get(int index) {
+        return (E) elementArray[index < gapStart ?
+                                index :
+                                index + gapEnd - gapStart];
+    }
+    
+    @Override
+    protected int removeIf(Predicate<? super E> filter) {
+        // Make the elements contiguous so that they may be compacted in place.
+        moveGap(size);
+        final Object[] array = elementArray;
+        final int oldSize = size;
+        int read = 0;
+        int write = 0;
+        
+        try {
+            for (; read < oldSize; ++read) {
+                E element = (E) array[read];
+                
+                if (!filter.test(element)) {
+                    array[write++] = element;
+                }
+            }
+        } finally {
+            System.arraycopy(array, read, array, write, oldSize - read);
+            write += oldSize - read;
+            Arrays.fill(array, write, oldSize, null);
+            size = write;
+            gapStart = write;
+        }
+        
+        return oldSize - write;
+    }
+    
+    @Override
+    protected void replaceAll(UnaryOperator<E> operator) {
+        final Object[] array = elementArray;
+        
+        for (int i = 0; i < gapStart; ++i) {
+            array[i] = operator.apply((E) array[i]);
+        }
+        
+        for (int i = gapEnd; i < array.length; ++i) {
+            array[i] = operator.apply((E) array[i]);
+        }
+    }
+    
+    @Override
+    protected int getChunks(int fromIndex, int toIndex, int[] chunks) {
+        final int gapLength = gapEnd - gapStart;
+        int count = 0;
+        
+        if (fromIndex < gapStart && fromIndex < toIndex) {
+            chunks[0] = fromIndex;
+            chunks[1] = Math.min(toIndex, gapStart) - fromIndex;
+            count = 1;
+        }
+        
+        if (toIndex > gapStart && fromIndex < toIndex) {
+            int start = Math.max(fromIndex, gapStart);
+            chunks[2 * count] = start + gapLength;
+            chunks[2 * count + 1] = toIndex - start;
+            ++count;
+        }
+        
+        return count;
+    }
+    
+    @Override
+    protected void forEach(int fromIndex, 
+                           int toIndex, 
+                           Consumer<? super E> action) {
+        final Object[] array = elementArray;
+        final int gapLength = gapEnd - gapStart;
+        int frontEnd = Math.min(toIndex, gapStart);
+        
+        for (int i = fromIndex; i < frontEnd; ++i) {
+            action.accept((E) array[i]);
+        }
+        
+        for (int i = Math.max(fromIndex, gapStart) + gapLength; 
+                i < toIndex + gapLength; 
+                ++i) {
+            action.accept((E) array[i]);
+        }
+    }
+    
+    @Override
+    protected int getDegree() {
+        return elementArray.length;
+    }
+    
+    @Override
+    protected LinkedArrayListNode<E> insert(int localIndex, E element) {
+        if (isFull()) {
+            LinkedArrayListNode<E> newnode = spawn();
+            moveLastTo(newnode, size - localIndex);
+            append(element);
+            return newnode;
+        }
+        
+        moveGap(localIndex);
+        elementArray[gapStart++] = element;
+        ++size;
+        return null;
+    }
+    
+    @Override
+    protected boolean isHealthy() {
+        if (size == 0) {
+            // The empty nodes should not be kept around.
+            return false;
+        }
+        
+        return isHealthyHead();
+    }
+    
+    @Override
+    protected boolean isHealthyHead() {
+        if (gapEnd - gapStart != getDegree() - size) {
+            return false;
+        }
+        
+        for (int i = gapStart; i < gapEnd; ++i) {
+            if (elementArray[i] != null) {
+                return false;
+            }
+        }
+        
+        return true;
+    }
+    
+    @Override
+    protected boolean remove(Object o) {
+        for (int i = 0; i < size; ++i) {
+            if (Objects.equals(o, get(i))) {
+                removeAt(i);
+                return true;
+            }
+        }
+        
+        return false;
+    }
+    
+    @Override
+    protected E removeAt(int index) {
+        E ret = get(index);
+        
+        // Grow the gap from whichever side is closer to it, so that a run of
+        // removals before or after a fixed position shifts nothing.
+        if (index < gapStart) {
+            moveGap(index + 1);
+            elementArray[--gapStart] = null;
+        } else {
+            moveGap(index);
+            elementArray[gapEnd++] = null;
+        }
+        
+        --size;
+        return ret;
+    }
+    
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        moveGap(fromIndex);
+        int rangeLength = toIndex - fromIndex;
+        Arrays.fill(elementArray, gapEnd, gapEnd + rangeLength, null);
+        gapEnd += rangeLength;
+        size -= rangeLength;
+    }
+    
+    @Override
+    protected void set(int index, E element) {
+        elementArray[index < gapStart ?
+                     index :
+                     index + gapEnd - gapStart] = element;
+    }
+    
+    @Override
+    protected void load(Object[] array, int fromIndex, int count) {
+        super.load(array, fromIndex, count);
+        gapStart = count;
+        gapEnd = elementArray.length;
+    }
+    
+    @Override
+    protected LinkedArrayListNode<E> spawn() {
+        return new LinkedArrayListNode3<>(elementArray.length);
+    }
+    
+    @Override
+    protected LinkedArrayListNode<E> spawn(int degree) {
+        return new LinkedArrayListNode3<>(degree);
+    }
+    
+    @Override
+    protected LinkedArrayListNode<E> copy() {
+        return new LinkedArrayListNode3<>(this);
+    }
+    
+    @Override
+    protected void setDegree(int degree) {
+        degree = Math.max(degree, LinkedArrayList.MINIMUM_DEGREE);
+        Object[] newArray = new Object[degree];
+        int tailLength = elementArray.length - gapEnd;
+        System.arraycopy(elementArray, 0, newArray, 0, gapStart);
+        System.arraycopy(elementArray, gapEnd,
+                         newArray, degree - tailLength,
+                         tailLength);
+        elementArray = newArray;
+        gapEnd = degree - tailLength;
+    }
+    
+    /**
+     * Moves the gap so that it starts right after the first {@code index}
+     * elements of this node. The array components left by the gap are set to
+     * {@code null}.
+     * 
+     * @param index the new local index of the gap.
+     */
+    private void moveGap(int index) {
+        if (index < gapStart) {
+            int count = gapStart - index;
+            System.arraycopy(elementArray, index,
+                             elementArray, gapEnd - count,
+                             count);
+            Arrays.fill(elementArray,
+                        index,
+                        Math.min(gapStart, gapEnd - count),
+                        null);
+            gapStart = index;
+            gapEnd -= count;
+        } else if (index > gapStart) {
+            int count = index - gapStart;
+            System.arraycopy(elementArray, gapEnd,
+                             elementArray, gapStart,
+                             count);
+            Arrays.fill(elementArray,
+                        Math.max(index, gapEnd),
+                        gapEnd + count,
+                        null);
+            gapStart = index;
+            gapEnd += count;
+        }
+    }
+}
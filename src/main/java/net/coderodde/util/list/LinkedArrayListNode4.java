@@ -0,0 +1,78 @@
+package net.coderodde.util.list;
+
+/**
+ * This class implements the <b>skip list</b> node for
+ * {@code LinkedArrayList}. It stores the elements exactly as
+ * {@link LinkedArrayListNode1} does, and additionally carries a tower of
+ * forward pointers annotated with element-count spans. The towers are
+ * maintained by {@link LinkedArrayListSkipIndex}.
+ *
+ * @author    Rodion "rodde" Efremov
+ * @version   1.6
+ * @param <E> the actual list element type.
+ */
+class LinkedArrayListNode4<E> extends LinkedArrayListNode1<E> {
+
+    /**
+     * The forward pointers of this node. The pointer at level {@code i}
+     * refers to the next node whose tower has more than {@code i} levels, or
+     * is {@code null} if there is no such node. The tower height is the
+     * length of this array, and the array is {@code null} while this node is
+     * not indexed.
+     */
+    LinkedArrayListNode4<E>[] forward;
+
+    /**
+     * The backward pointers of this node. The pointer at level {@code i}
+     * refers to the previous node whose tower has more than {@code i} levels,
+     * or is {@code null} if that is the header of the skip list.
+     */
+    LinkedArrayListNode4<E>[] backward;
+
+    /**
+     * The spans of the forward pointers. The span at level {@code i} is the
+     * amount of elements from the first element of this node up to, but not
+     * including, the first element of {@code forward[i]}, or up to the end of
+     * the list if {@code forward[i]} is {@code null}.
+     */
+    int[] spans;
+
+    /**
+     * The size of this node as last reported to the skip index.
+     */
+    int count;
+
+    /**
+     * Constructs a new, empty {@code LinkedArrayListNode4} with given degree.
+     *
+     * @param degree the degree of the new node.
+     */
+    LinkedArrayListNode4(int degree) {
+        super(degree);
+    }
+
+    /**
+     * Constructs a copy of the elements of {@code node}. The tower is not 
+     * copied.
+     *
+     * @param node the node to copy.
+     */
+    LinkedArrayListNode4(LinkedArrayListNode4<E> node) {
+        super(node);
+    }
+
+    @Override
+    protected LinkedArrayListNode<E> spawn() {
+        return new LinkedArrayListNode4<>(getDegree());
+    }
+
+    @Override
+    protected LinkedArrayListNode<E> spawn(int degree) {
+        return new LinkedArrayListNode4<>(degree);
+    }
+
+    @Override
+    protected LinkedArrayListNode<E> copy() {
+        return new LinkedArrayListNode4<>(this);
+    }
+}
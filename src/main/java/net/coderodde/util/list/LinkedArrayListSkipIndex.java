@@ -0,0 +1,318 @@
+package net.coderodde.util.list;
+
+import java.util.Arrays;
+
+/**
+ * This class implements a positional index over the node chain of a
+ * {@link LinkedArrayList} as an unrolled skip list. Instead of keeping
+ * separate entries, each {@link LinkedArrayListNode4} carries a randomized
+ * tower of forward pointers annotated with element-count spans, so that the
+ * node chain itself is the bottom lane of the skip list. Locating a node by a
+ * global index takes expected logarithmic time with respect to the amount of
+ * nodes.
+ * <p>
+ * Updating the towers around a node requires finding the nearest taller
+ * towers preceding it. These are found by climbing backwards along the
+ * backward pointers of the towers, which takes expected logarithmic time as
+ * well.
+ *
+ * @author    Rodion "rodde" Efremov
+ * @version   1.6
+ * @param <E> the actual list element type.
+ */
+final class LinkedArrayListSkipIndex<E> extends LinkedArrayListIndex<E> {
+
+    /**
+     * The maximum height of a tower.
+     */
+    static final int MAX_LEVEL = 32;
+
+    /**
+     * The sentinel node preceding the first list node. It holds no elements
+     * and has a tower of maximum height.
+     */
+    private final LinkedArrayListNode4<E> header;
+
+    /**
+     * The amount of levels in use.
+     */
+    private int levels;
+
+    /**
+     * The total amount of elements indexed.
+     */
+    private int total;
+
+    /**
+     * The state of the tower height generator.
+     */
+    private long seed = 0x9E3779B97F4A7C15L;
+
+    /**
+     * Constructs an index over the node chain starting from {@code head}. The
+     * chain must consist of {@link LinkedArrayListNode4} nodes.
+     *
+     * @param head the head node of the chain to index.
+     */
+    LinkedArrayListSkipIndex(LinkedArrayListNode<E> head) {
+        header = new LinkedArrayListNode4<>(LinkedArrayList.MINIMUM_DEGREE);
+        header.forward = newTowerArray(MAX_LEVEL);
+        header.spans = new int[MAX_LEVEL];
+        rebuild(head);
+    }
+
+    @Override
+    void rebuild(LinkedArrayListNode<E> head) {
+        Arrays.fill(header.forward, null);
+        Arrays.fill(header.spans, 0);
+        levels = 1;
+        total = 0;
+        LinkedArrayListNode<E> previous = null;
+
+        for (LinkedArrayListNode<E> node = head;
+                node != null;
+                node = node.getNextNode()) {
+            insertAfter(previous, node);
+            previous = node;
+        }
+    }
+
+    @Override
+    LinkedArrayListNode<E> find(int index, int[] localIndex) {
+        LinkedArrayListNode4<E> node = header;
+        int offset = 0;
+
+        for (int level = levels - 1; level >= 0; --level) {
+            while (node.forward[level] != null
+                    && offset + node.spans[level] <= index) {
+                offset += node.spans[level];
+                node = node.forward[level];
+            }
+        }
+
+        localIndex[0] = index - offset;
+        return node;
+    }
+
+    @Override
+    int getElementCount() {
+        return total;
+    }
+
+    @Override
+    void insertAfter(LinkedArrayListNode<E> predecessor,
+                     LinkedArrayListNode<E> node) {
+        LinkedArrayListNode4<E> newnode = (LinkedArrayListNode4<E>) node;
+        int height = nextHeight();
+        newnode.forward = newTowerArray(height);
+        newnode.backward = newTowerArray(height);
+        newnode.spans = new int[height];
+        newnode.count = newnode.size();
+
+        while (levels < height) {
+            header.forward[levels] = null;
+            header.spans[levels] = total;
+            ++levels;
+        }
+
+        LinkedArrayListNode4<E> tower = predecessor == null ?
+                                        header :
+                                        (LinkedArrayListNode4<E>) predecessor;
+        // The amount of elements from the first element of 'tower' through
+        // the last element of 'predecessor'.
+        int distance = tower.count;
+
+        for (int level = 0; level < levels; ++level) {
+            while (tower.forward.length <= level) {
+                int top = tower.forward.length - 1;
+                tower = climb(tower);
+                distance += tower.spans[top];
+            }
+
+            if (level < height) {
+                LinkedArrayListNode4<E> next = tower.forward[level];
+                newnode.forward[level] = next;
+                newnode.backward[level] = tower == header ? null : tower;
+                newnode.spans[level] =
+                        tower.spans[level] - distance + newnode.count;
+                tower.forward[level] = newnode;
+                tower.spans[level] = distance;
+
+                if (next != null) {
+                    next.backward[level] = newnode;
+                }
+            } else {
+                tower.spans[level] += newnode.count;
+            }
+        }
+
+        total += newnode.count;
+    }
+
+    @Override
+    void remove(LinkedArrayListNode<E> node) {
+        LinkedArrayListNode4<E> oldnode = (LinkedArrayListNode4<E>) node;
+
+        if (oldnode.forward == null) {
+            return;
+        }
+
+        LinkedArrayListNode4<E> tower = oldnode.backward[0] == null ?
+                                        header :
+                                        oldnode.backward[0];
+
+        for (int level = 0; level < levels; ++level) {
+            while (tower.forward.length <= level) {
+                tower = climb(tower);
+            }
+
+            if (level < oldnode.forward.length) {
+                LinkedArrayListNode4<E> next = oldnode.forward[level];
+                tower.spans[level] += oldnode.spans[level] - oldnode.count;
+                tower.forward[level] = next;
+
+                if (next != null) {
+                    next.backward[level] = oldnode.backward[level];
+                }
+            } else {
+                tower.spans[level] -= oldnode.count;
+            }
+        }
+
+        total -= oldnode.count;
+        oldnode.forward = null;
+        oldnode.backward = null;
+        oldnode.spans = null;
+
+        while (levels > 1 && header.forward[levels - 1] == null) {
+            --levels;
+        }
+    }
+
+    @Override
+    void update(LinkedArrayListNode<E> node) {
+        LinkedArrayListNode4<E> tower = (LinkedArrayListNode4<E>) node;
+
+        if (tower.forward == null) {
+            return;
+        }
+
+        int delta = tower.size() - tower.count;
+
+        if (delta == 0) {
+            return;
+        }
+
+        tower.count += delta;
+        total += delta;
+
+        for (int level = 0; level < levels; ++level) {
+            while (tower.forward.length <= level) {
+                tower = climb(tower);
+            }
+
+            tower.spans[level] += delta;
+        }
+    }
+
+    @Override
+    boolean isHealthy(LinkedArrayListNode<E> head) {
+        // The bottom lane must mirror the node chain.
+        LinkedArrayListNode4<E> tower = header;
+        int sum = 0;
+
+        for (LinkedArrayListNode<E> node = head;
+                node != null;
+                node = node.getNextNode()) {
+            if (tower.forward[0] != node
+                    || tower.forward[0].count != node.size()) {
+                return false;
+            }
+
+            tower = tower.forward[0];
+            sum += tower.count;
+        }
+
+        if (tower.forward[0] != null || sum != total) {
+            return false;
+        }
+
+        for (int level = 0; level < MAX_LEVEL; ++level) {
+            if (level >= levels) {
+                if (header.forward[level] != null) {
+                    return false;
+                }
+
+                continue;
+            }
+
+            tower = header;
+            int span = 0;
+
+            for (LinkedArrayListNode4<E> node = header.forward[0];
+                    node != null;
+                    node = node.forward[0]) {
+                if (node.forward.length > level) {
+                    if (tower.forward[level] != node
+                            || tower.spans[level] != span
+                            || node.backward[level] != 
+                               (tower == header ? null : tower)) {
+                        return false;
+                    }
+
+                    tower = node;
+                    span = 0;
+                }
+
+                span += node.count;
+            }
+
+            if (tower.forward[level] != null || tower.spans[level] != span) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns the nearest tower preceding {@code node} that is at least as
+     * tall as the tower of {@code node}, or the header if there is no such
+     * tower. The forward pointer of the returned tower at the top level of
+     * {@code node} refers to {@code node}.
+     *
+     * @param  node the node to climb from.
+     * @return the next tower backwards reaching the top level of
+     *         {@code node}.
+     */
+    private LinkedArrayListNode4<E> climb(LinkedArrayListNode4<E> node) {
+        LinkedArrayListNode4<E> tower = node.backward[node.forward.length - 1];
+        return tower == null ? header : tower;
+    }
+
+    /**
+     * Allocates an array of tower links.
+     *
+     * @param  length the length of the array.
+     * @return an array of {@code length} {@code null} links.
+     */
+    @SuppressWarnings("unchecked")
+    private static <E> LinkedArrayListNode4<E>[] newTowerArray(int length) {
+        return (LinkedArrayListNode4<E>[]) new LinkedArrayListNode4<?>[length];
+    }
+
+    /**
+     * Returns a random tower height. The height is {@code h} with probability
+     * {@code 2^-h}.
+     *
+     * @return a tower height.
+     */
+    private int nextHeight() {
+        // xorshift64*
+        seed ^= seed >>> 12;
+        seed ^= seed << 25;
+        seed ^= seed >>> 27;
+        long random = seed * 0x2545F4914F6CDD1DL;
+        return 1 + Long.numberOfTrailingZeros(random | (1L << (MAX_LEVEL - 1)));
+    }
+}
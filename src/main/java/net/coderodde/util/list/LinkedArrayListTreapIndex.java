@@ -0,0 +1,358 @@
+package net.coderodde.util.list;
+
+/**
+ * This class implements a positional index over the node chain of a
+ * {@link LinkedArrayList} as a treap. The in-order traversal of the treap
+ * visits the list nodes in the chain order. Each tree entry caches the size of
+ * its node and the total amount of elements stored in its subtree, which
+ * allows locating the node holding a given global index in expected
+ * logarithmic time with respect to the amount of nodes.
+ *
+ * @author    Rodion "rodde" Efremov
+ * @version   1.6
+ * @param <E> the actual list element type.
+ */
+final class LinkedArrayListTreapIndex<E> extends LinkedArrayListIndex<E> {
+
+    /**
+     * This static class implements the tree entries of the index.
+     *
+     * @param <E> the actual list element type.
+     */
+    static final class Entry<E> {
+
+        /**
+         * The list node this entry indexes.
+         */
+        final LinkedArrayListNode<E> node;
+
+        /**
+         * The priority of this entry. Each parent has a priority no less than
+         * the priorities of its children.
+         */
+        final long priority;
+
+        /**
+         * The cached size of {@code node}.
+         */
+        int count;
+
+        /**
+         * The total amount of elements in the subtree rooted at this entry.
+         */
+        int sum;
+
+        Entry<E> parent;
+        Entry<E> left;
+        Entry<E> right;
+
+        Entry(LinkedArrayListNode<E> node, long priority) {
+            this.node = node;
+            this.priority = priority;
+            this.count = node.size();
+            this.sum = this.count;
+        }
+    }
+
+    /**
+     * The root entry of this index.
+     */
+    private Entry<E> root;
+
+    /**
+     * The state of the priority generator.
+     */
+    private long seed = 0x9E3779B97F4A7C15L;
+
+    /**
+     * Constructs an index over the node chain starting from {@code head}.
+     *
+     * @param head the head node of the chain to index.
+     */
+    LinkedArrayListTreapIndex(LinkedArrayListNode<E> head) {
+        rebuild(head);
+    }
+
+    @Override
+    void rebuild(LinkedArrayListNode<E> head) {
+        root = null;
+        LinkedArrayListNode<E> previous = null;
+
+        for (LinkedArrayListNode<E> node = head;
+                node != null;
+                node = node.getNextNode()) {
+            insertAfter(previous, node);
+            previous = node;
+        }
+    }
+
+    @Override
+    LinkedArrayListNode<E> find(int index, int[] localIndex) {
+        Entry<E> entry = root;
+
+        while (true) {
+            int leftSum = sum(entry.left);
+
+            if (index < leftSum) {
+                entry = entry.left;
+            } else if (index < leftSum + entry.count) {
+                localIndex[0] = index - leftSum;
+                return entry.node;
+            } else {
+                index -= leftSum + entry.count;
+                entry = entry.right;
+            }
+        }
+    }
+
+    @Override
+    int getElementCount() {
+        return sum(root);
+    }
+
+    @Override
+    void insertAfter(LinkedArrayListNode<E> predecessor,
+                     LinkedArrayListNode<E> node) {
+        Entry<E> entry = new Entry<>(node, nextPriority());
+        node.indexEntry = entry;
+
+        if (root == null) {
+            root = entry;
+            return;
+        }
+
+        Entry<E> parent;
+
+        if (predecessor == null) {
+            parent = root;
+
+            while (parent.left != null) {
+                parent = parent.left;
+            }
+
+            parent.left = entry;
+        } else if (predecessor.indexEntry.right == null) {
+            parent = predecessor.indexEntry;
+            parent.right = entry;
+        } else {
+            parent = predecessor.indexEntry.right;
+
+            while (parent.left != null) {
+                parent = parent.left;
+            }
+
+            parent.left = entry;
+        }
+
+        entry.parent = parent;
+
+        for (Entry<E> e = parent; e != null; e = e.parent) {
+            e.sum += entry.count;
+        }
+
+        while (entry.parent != null &&
+               entry.parent.priority < entry.priority) {
+            if (entry.parent.left == entry) {
+                rotateRight(entry.parent);
+            } else {
+                rotateLeft(entry.parent);
+            }
+        }
+    }
+
+    @Override
+    void remove(LinkedArrayListNode<E> node) {
+        Entry<E> entry = node.indexEntry;
+
+        if (entry == null) {
+            return;
+        }
+
+        // Zero the count first so that the subtree sums above stay correct
+        // while rotating the entry down to a leaf position.
+        adjust(entry, -entry.count);
+
+        while (entry.left != null || entry.right != null) {
+            if (entry.right == null ||
+                    (entry.left != null &&
+                     entry.left.priority > entry.right.priority)) {
+                rotateRight(entry);
+            } else {
+                rotateLeft(entry);
+            }
+        }
+
+        if (entry.parent == null) {
+            root = null;
+        } else if (entry.parent.left == entry) {
+            entry.parent.left = null;
+        } else {
+            entry.parent.right = null;
+        }
+
+        entry.parent = null;
+        node.indexEntry = null;
+    }
+
+    @Override
+    void update(LinkedArrayListNode<E> node) {
+        Entry<E> entry = node.indexEntry;
+
+        if (entry != null) {
+            adjust(entry, node.size() - entry.count);
+        }
+    }
+
+    @Override
+    boolean isHealthy(LinkedArrayListNode<E> head) {
+        if (!isHealthy(root)) {
+            return false;
+        }
+
+        Entry<E> entry = leftmost(root);
+
+        for (LinkedArrayListNode<E> node = head;
+                node != null;
+                node = node.getNextNode()) {
+            if (entry == null || entry.node != node
+                    || node.indexEntry != entry
+                    || entry.count != node.size()) {
+                return false;
+            }
+
+            entry = successor(entry);
+        }
+
+        return entry == null;
+    }
+
+    private boolean isHealthy(Entry<E> entry) {
+        if (entry == null) {
+            return true;
+        }
+
+        if (entry.sum != entry.count + sum(entry.left) + sum(entry.right)) {
+            return false;
+        }
+
+        if (entry.left != null && (entry.left.parent != entry ||
+                                   entry.left.priority > entry.priority)) {
+            return false;
+        }
+
+        if (entry.right != null && (entry.right.parent != entry ||
+                                    entry.right.priority > entry.priority)) {
+            return false;
+        }
+
+        return isHealthy(entry.left) && isHealthy(entry.right);
+    }
+
+    private void adjust(Entry<E> entry, int delta) {
+        if (delta == 0) {
+            return;
+        }
+
+        entry.count += delta;
+
+        for (Entry<E> e = entry; e != null; e = e.parent) {
+            e.sum += delta;
+        }
+    }
+
+    private long nextPriority() {
+        // xorshift64*
+        seed ^= seed >>> 12;
+        seed ^= seed << 25;
+        seed ^= seed >>> 27;
+        return seed * 0x2545F4914F6CDD1DL;
+    }
+
+    /**
+     * Lifts the left child of {@code entry} to the position of
+     * {@code entry}.
+     *
+     * @param entry the entry to rotate down.
+     */
+    private void rotateRight(Entry<E> entry) {
+        Entry<E> lifted = entry.left;
+        entry.left = lifted.right;
+
+        if (lifted.right != null) {
+            lifted.right.parent = entry;
+        }
+
+        replaceChild(entry, lifted);
+        lifted.right = entry;
+        entry.parent = lifted;
+
+        entry.sum = entry.count + sum(entry.left) + sum(entry.right);
+        lifted.sum = lifted.count + sum(lifted.left) + entry.sum;
+    }
+
+    /**
+     * Lifts the right child of {@code entry} to the position of
+     * {@code entry}.
+     *
+     * @param entry the entry to rotate down.
+     */
+    private void rotateLeft(Entry<E> entry) {
+        Entry<E> lifted = entry.right;
+        entry.right = lifted.left;
+
+        if (lifted.left != null) {
+            lifted.left.parent = entry;
+        }
+
+        replaceChild(entry, lifted);
+        lifted.left = entry;
+        entry.parent = lifted;
+
+        entry.sum = entry.count + sum(entry.left) + sum(entry.right);
+        lifted.sum = lifted.count + entry.sum + sum(lifted.right);
+    }
+
+    private void replaceChild(Entry<E> oldChild, Entry<E> newChild) {
+        Entry<E> parent = oldChild.parent;
+        newChild.parent = parent;
+
+        if (parent == null) {
+            root = newChild;
+        } else if (parent.left == oldChild) {
+            parent.left = newChild;
+        } else {
+            parent.right = newChild;
+        }
+    }
+
+    private static <E> int sum(Entry<E> entry) {
+        return entry == null ? 0 : entry.sum;
+    }
+
+    private static <E> Entry<E> leftmost(Entry<E> entry) {
+        if (entry == null) {
+            return null;
+        }
+
+        while (entry.left != null) {
+            entry = entry.left;
+        }
+
+        return entry;
+    }
+
+    private static <E> Entry<E> successor(Entry<E> entry) {
+        if (entry.right != null) {
+            return leftmost(entry.right);
+        }
+
+        Entry<E> parent = entry.parent;
+
+        while (parent != null && parent.right == entry) {
+            entry = parent;
+            parent = parent.parent;
+        }
+
+        return parent;
+    }
+}
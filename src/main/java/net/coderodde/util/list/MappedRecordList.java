@@ -0,0 +1,895 @@
+package net.coderodde.util.list;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * This class implements a linked array list of fixed-width records persisted
+ * in a memory-mapped file. The file is an array of equally sized pages. Page
+ * zero holds the file header; every other page is a node of the list, and
+ * stores the links to its neighbor pages and its record count in its own
+ * header, followed by the records laid out by a {@link RecordCodec}. The node
+ * chain is thus a page chain, and obeys the same invariants as that of
+ * {@link LinkedArrayList}: no node other than the only one is empty, and no
+ * node other than the head or tail node holds less than half of the degree
+ * of records. The pages of unlinked nodes are kept on a free list in the file
+ * and reused before the file grows.
+ * <p>
+ * The file is mapped lazily in segments of whole pages as the pages are
+ * touched, so opening a list takes constant time regardless of the file
+ * size. Every operation updates the mapped pages directly; {@link #force()}
+ * writes them to the storage device. An operation interrupted by a crash may
+ * leave the file inconsistent, as only the changes forced before are durable.
+ * The file is little-endian on all platforms.
+ * <p>
+ * This class is not thread-safe, and a file may be open by at most one list
+ * at a time.
+ *
+ * @author    Rodion "rodde" Efremov
+ * @version   1.6
+ * @param <R> the record type.
+ */
+public class MappedRecordList<R> implements Closeable {
+    
+    /**
+     * The default page size in bytes.
+     */
+    static final int DEFAULT_PAGE_SIZE = 4096;
+    
+    /**
+     * The minimum page size in bytes.
+     */
+    static final int MINIMUM_PAGE_SIZE = 64;
+    
+    /**
+     * The maximum amount of bytes in a segment, unless a page is larger. Each
+     * mapping counts against the per-process limit of the operating system
+     * ({@code vm.max_map_count} on Linux, 65530 by default), and Java 8 cannot
+     * unmap a buffer explicitly, so a mapping lives until its buffer is
+     * garbage collected. The segments are therefore large: a file of 50 GB
+     * takes 50 mappings. A segment is mapped only up to the end of the file,
+     * and remapped with doubled length as the file grows into it, which
+     * leaves at most logarithmically many stale mappings per segment until
+     * they are collected.
+     */
+    static final int SEGMENT_SIZE = 1 << 30;
+    
+    /**
+     * Identifies the files of this class.
+     */
+    private static final int MAGIC = 0x4c414c46;
+    
+    /**
+     * The version of the file format.
+     */
+    private static final int VERSION = 1;
+    
+    /**
+     * The page id meaning no page.
+     */
+    private static final int NIL = 0;
+    
+    // The offsets of the file header fields in page zero.
+    private static final int MAGIC_OFFSET = 0;
+    private static final int VERSION_OFFSET = 4;
+    private static final int PAGE_SIZE_OFFSET = 8;
+    private static final int RECORD_SIZE_OFFSET = 12;
+    private static final int SIZE_OFFSET = 16;
+    private static final int HEAD_OFFSET = 20;
+    private static final int TAIL_OFFSET = 24;
+    private static final int PAGE_COUNT_OFFSET = 28;
+    private static final int FREE_HEAD_OFFSET = 32;
+    
+    // The offsets of the page header fields within a page.
+    private static final int PREV_OFFSET = 0;
+    private static final int NEXT_OFFSET = 4;
+    private static final int COUNT_OFFSET = 8;
+    
+    /**
+     * The amount of bytes preceding the records in a page. Keeps the records
+     * 8-byte aligned.
+     */
+    private static final int PAGE_HEADER_SIZE = 16;
+    
+    /**
+     * The channel of the file.
+     */
+    private final FileChannel channel;
+    
+    /**
+     * The mapped segments by segment index.
+     */
+    private final Map<Integer, MappedByteBuffer> segments = new HashMap<>();
+    
+    /**
+     * The codec laying out the records.
+     */
+    private final RecordCodec<R> codec;
+    
+    /**
+     * The amount of bytes in a record.
+     */
+    private final int recordSize;
+    
+    /**
+     * The amount of bytes in a page.
+     */
+    private final int pageSize;
+    
+    /**
+     * The amount of pages in a segment.
+     */
+    private final int pagesPerSegment;
+    
+    /**
+     * The amount of records a page can hold.
+     */
+    private final int degree;
+    
+    /**
+     * The amount of records in this list.
+     */
+    private int size;
+    
+    /**
+     * The page id of the head node.
+     */
+    private int head;
+    
+    /**
+     * The page id of the tail node.
+     */
+    private int tail;
+    
+    /**
+     * The amount of pages in the file, including page zero.
+     */
+    private int pageCount;
+    
+    /**
+     * The first page of the free page list, or {@code NIL}.
+     */
+    private int freeHead;
+    
+    /**
+     * The page of the most recent search, or {@code NIL} if the global
+     * offsets may have changed since.
+     */
+    private int finger;
+    
+    /**
+     * The global index of the first record in {@code finger}.
+     */
+    private int fingerOffset;
+    
+    /**
+     * Used for searching a record.
+     */
+    private int searchPage;
+    
+    /**
+     * Used for searching a record.
+     */
+    private int searchLocalIndex;
+    
+    /**
+     * Opens the list stored in {@code file}, creating an empty one if the
+     * file does not exist or is empty.
+     *
+     * @param  file     the file holding the list.
+     * @param  codec    the codec laying out the records.
+     * @param  pageSize the amount of bytes in a page.
+     * @throws IllegalArgumentException if a page cannot hold at least
+     *         {@link LinkedArrayList#MINIMUM_DEGREE} records, or the file was
+     *         created with another page or record size.
+     * @throws IOException if the file cannot be opened or is not a list file.
+     */
+    public MappedRecordList(Path file, RecordCodec<R> codec, int pageSize)
+    throws IOException {
+        this(file, codec, pageSize, SEGMENT_SIZE);
+    }
+    
+    /**
+     * Opens the list stored in {@code file} with given maximum segment size.
+     * Only the tests use other than {@link #SEGMENT_SIZE}.
+     *
+     * @param  file        the file holding the list.
+     * @param  codec       the codec laying out the records.
+     * @param  pageSize    the amount of bytes in a page.
+     * @param  segmentSize the maximum amount of bytes in a segment.
+     * @throws IOException if the file cannot be opened or is not a list file.
+     */
+    MappedRecordList(Path file,
+                     RecordCodec<R> codec,
+                     int pageSize,
+                     int segmentSize) throws IOException {
+        Objects.requireNonNull(file, "The file is null.");
+        Objects.requireNonNull(codec, "The codec is null.");
+        
+        if (pageSize < MINIMUM_PAGE_SIZE) {
+            throw new IllegalArgumentException(
+                    "The page size is too small: " + pageSize + ". Should " +
+                    "be at least " + MINIMUM_PAGE_SIZE + ".");
+        }
+        
+        if (codec.recordSize() < 1) {
+            throw new IllegalArgumentException(
+                    "The record size is not positive: " +
+                    codec.recordSize());
+        }
+        
+        this.codec = codec;
+        this.recordSize = codec.recordSize();
+        this.pageSize = pageSize;
+        this.pagesPerSegment = Math.max(1, segmentSize / pageSize);
+        this.degree = (pageSize - PAGE_HEADER_SIZE) / recordSize;
+        
+        if (degree < LinkedArrayList.MINIMUM_DEGREE) {
+            throw new IllegalArgumentException(
+                    "A page of " + pageSize + " bytes holds only " + degree +
+                    " records of " + recordSize + " bytes. Should hold at " +
+                    "least " + LinkedArrayList.MINIMUM_DEGREE + ".");
+        }
+        
+        this.channel = FileChannel.open(file,
+                                        StandardOpenOption.CREATE,
+                                        StandardOpenOption.READ,
+                                        StandardOpenOption.WRITE);
+        
+        try {
+            if (channel.size() == 0L) {
+                initialize();
+            } else {
+                load(file);
+            }
+        } catch (IOException | RuntimeException ex) {
+            channel.close();
+            throw ex;
+        }
+    }
+    
+    /**
+     * Opens the list stored in {@code file} with default page size.
+     *
+     * @param  file  the file holding the list.
+     * @param  codec the codec laying out the records.
+     * @throws IOException if the file cannot be opened or is not a list file.
+     */
+    public MappedRecordList(Path file, RecordCodec<R> codec)
+    throws IOException {
+        this(file, codec, DEFAULT_PAGE_SIZE);
+    }
+    
+    /**
+     * Appends {@code record} to the tail of this list.
+     *
+     * @param  record the record to append.
+     * @return {@code true}.
+     */
+    public boolean add(R record) {
+        if (getCount(tail) == degree) {
+            linkPage(tail, allocatePage());
+        }
+        
+        int count = getCount(tail);
+        codec.write(record, segment(tail), recordOffset(tail, count));
+        setCount(tail, count + 1);
+        ++size;
+        storeHeader();
+        return true;
+    }
+    
+    /**
+     * Inserts {@code record} between the records with indices
+     * {@code index - 1} and {@code index}.
+     *
+     * @param index  the insertion index.
+     * @param record the record to insert.
+     * @throws IndexOutOfBoundsException if the index is invalid.
+     */
+    public void add(int index, R record) {
+        checkIndexForAddition(index);
+        
+        if (index == size) {
+            add(record);
+            return;
+        }
+        
+        searchElement(index);
+        int page = searchPage;
+        int localIndex = searchLocalIndex;
+        
+        if (getCount(page) == degree) {
+            // Split the page in halves.
+            int newPage = allocatePage();
+            int half = degree >>> 1;
+            copyRecords(page, half, newPage, 0, degree - half);
+            setCount(newPage, degree - half);
+            setCount(page, half);
+            linkPage(page, newPage);
+            
+            if (localIndex > half) {
+                page = newPage;
+                localIndex -= half;
+            }
+        }
+        
+        int count = getCount(page);
+        OffHeapRecordList.moveBytes(segment(page),
+                                    recordOffset(page, localIndex),
+                                    recordOffset(page, localIndex + 1),
+                                    (count - localIndex) * recordSize);
+        codec.write(record, segment(page), recordOffset(page, localIndex));
+        setCount(page, count + 1);
+        ++size;
+        finger = NIL;
+        storeHeader();
+    }
+    
+    /**
+     * Checks that this list maintains the invariants of the page chain, and
+     * that the free page list is well formed.
+     *
+     * @throws IllegalStateException if this list is not healthy.
+     */
+    public void checkHealth() {
+        if (getPrev(head) != NIL || getNext(tail) != NIL) {
+            throw new IllegalStateException("Broken end pages.");
+        }
+        
+        int s = 0;
+        int pages = 0;
+        
+        for (int page = head; page != NIL; page = getNext(page)) {
+            int next = getNext(page);
+            int count = getCount(page);
+            
+            if (next != NIL && getPrev(next) != page) {
+                throw new IllegalStateException("Broken page links.");
+            }
+            
+            if (count < 0 || count > degree) {
+                throw new IllegalStateException(
+                        "Wrong record count: " + count + ".");
+            }
+            
+            if (count == 0 && head != tail) {
+                throw new IllegalStateException("Empty page encountered.");
+            }
+            
+            if (page != head && page != tail && count < degree / 2) {
+                throw new IllegalStateException(
+                        "Underfull page encountered: " + count +
+                        " elements, degree " + degree + ".");
+            }
+            
+            s += count;
+            ++pages;
+        }
+        
+        if (size != s) {
+            throw new IllegalStateException("Wrong accumulated size: " +
+                    s + "; list reports containing " + size + " elements.");
+        }
+        
+        for (int page = freeHead; page != NIL; page = getNext(page)) {
+            ++pages;
+        }
+        
+        if (pages != pageCount - 1) {
+            throw new IllegalStateException("Lost pages: " +
+                    (pageCount - 1 - pages) + ".");
+        }
+    }
+    
+    /**
+     * Makes this list empty. All pages but the head page are moved to the
+     * free page list.
+     */
+    public void clear() {
+        int page = getNext(head);
+        
+        while (page != NIL) {
+            int next = getNext(page);
+            freePage(page);
+            page = next;
+        }
+        
+        setNext(head, NIL);
+        setCount(head, 0);
+        tail = head;
+        size = 0;
+        finger = NIL;
+        storeHeader();
+    }
+    
+    /**
+     * Writes all the changes to the storage device, and closes the file.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    @Override
+    public void close() throws IOException {
+        if (channel.isOpen()) {
+            force();
+            segments.clear();
+            channel.close();
+        }
+    }
+    
+    /**
+     * Writes all the changes made to the mapped pages of this list to the
+     * storage device.
+     */
+    public void force() {
+        for (MappedByteBuffer segment : segments.values()) {
+            segment.force();
+        }
+    }
+    
+    /**
+     * Reads the record at index {@code index}.
+     *
+     * @param  index the index of the record.
+     * @return the record.
+     * @throws IndexOutOfBoundsException if the index is invalid.
+     */
+    public R get(int index) {
+        checkIndexForAccess(index);
+        searchElement(index);
+        return codec.read(segment(searchPage),
+                          recordOffset(searchPage, searchLocalIndex));
+    }
+    
+    /**
+     * Returns the amount of records a page can hold.
+     *
+     * @return the degree.
+     */
+    public int getDegree() {
+        return degree;
+    }
+    
+    /**
+     * Returns the amount of pages in the file, including the header page.
+     *
+     * @return the amount of pages.
+     */
+    public int getPageCount() {
+        return pageCount;
+    }
+    
+    /**
+     * Returns {@code true} if this list is empty.
+     *
+     * @return {@code true} if this list is empty.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+    
+    /**
+     * Removes the record at index {@code index}.
+     *
+     * @param  index the index of the record to remove.
+     * @return the removed record.
+     * @throws IndexOutOfBoundsException if the index is invalid.
+     */
+    public R removeAt(int index) {
+        checkIndexForAccess(index);
+        searchElement(index);
+        int page = searchPage;
+        int localIndex = searchLocalIndex;
+        int count = getCount(page);
+        R ret = codec.read(segment(page), recordOffset(page, localIndex));
+        OffHeapRecordList.moveBytes(segment(page),
+                                    recordOffset(page, localIndex + 1),
+                                    recordOffset(page, localIndex),
+                                    (count - localIndex - 1) * recordSize);
+        setCount(page, count - 1);
+        --size;
+        finger = NIL;
+        rebalance(page);
+        storeHeader();
+        return ret;
+    }
+    
+    /**
+     * Replaces the record at index {@code index}.
+     *
+     * @param  index  the index of the record to replace.
+     * @param  record the new record.
+     * @return the old record.
+     * @throws IndexOutOfBoundsException if the index is invalid.
+     */
+    public R set(int index, R record) {
+        checkIndexForAccess(index);
+        searchElement(index);
+        ByteBuffer segment = segment(searchPage);
+        int offset = recordOffset(searchPage, searchLocalIndex);
+        R ret = codec.read(segment, offset);
+        codec.write(record, segment, offset);
+        return ret;
+    }
+    
+    /**
+     * Returns the amount of records in this list.
+     *
+     * @return the size of this list.
+     */
+    public int size() {
+        return size;
+    }
+    
+    /**
+     * Formats an empty file: the header page and an empty head page.
+     */
+    private void initialize() {
+        ByteBuffer header = segment(0);
+        header.putInt(MAGIC_OFFSET, MAGIC);
+        header.putInt(VERSION_OFFSET, VERSION);
+        header.putInt(PAGE_SIZE_OFFSET, pageSize);
+        header.putInt(RECORD_SIZE_OFFSET, recordSize);
+        pageCount = 1;
+        freeHead = NIL;
+        head = allocatePage();
+        tail = head;
+        size = 0;
+        storeHeader();
+    }
+    
+    /**
+     * Reads the file header of an existing file.
+     *
+     * @param  file the file, for the error messages.
+     * @throws IOException if the file is not a list file.
+     */
+    private void load(Path file) throws IOException {
+        if (channel.size() < pageSize) {
+            throw new IOException("The file " + file + " is too short.");
+        }
+        
+        ByteBuffer header = segment(0);
+        
+        if (header.getInt(MAGIC_OFFSET) != MAGIC
+                || header.getInt(VERSION_OFFSET) != VERSION) {
+            throw new IOException(
+                    "The file " + file + " is not a list file.");
+        }
+        
+        if (header.getInt(PAGE_SIZE_OFFSET) != pageSize
+                || header.getInt(RECORD_SIZE_OFFSET) != recordSize) {
+            throw new IllegalArgumentException(
+                    "The file " + file + " has pages of " +
+                    header.getInt(PAGE_SIZE_OFFSET) + " bytes and " +
+                    "records of " + header.getInt(RECORD_SIZE_OFFSET) +
+                    " bytes.");
+        }
+        
+        size = header.getInt(SIZE_OFFSET);
+        head = header.getInt(HEAD_OFFSET);
+        tail = header.getInt(TAIL_OFFSET);
+        pageCount = header.getInt(PAGE_COUNT_OFFSET);
+        freeHead = header.getInt(FREE_HEAD_OFFSET);
+    }
+    
+    /**
+     * Writes the fields cached in this object to the file header.
+     */
+    private void storeHeader() {
+        ByteBuffer header = segment(0);
+        header.putInt(SIZE_OFFSET, size);
+        header.putInt(HEAD_OFFSET, head);
+        header.putInt(TAIL_OFFSET, tail);
+        header.putInt(PAGE_COUNT_OFFSET, pageCount);
+        header.putInt(FREE_HEAD_OFFSET, freeHead);
+    }
+    
+    /**
+     * Returns the mapped segment holding {@code page}, mapping it if needed.
+     * A segment is first mapped up to the end of the file, and remapped with
+     * at least doubled length when a page past its mapped end is requested.
+     * Mapping past the end of the file grows the file.
+     *
+     * @param  page the page id.
+     * @return the segment holding the page.
+     */
+    private ByteBuffer segment(int page) {
+        int index = page / pagesPerSegment;
+        int end = pageOffset(page) + pageSize;
+        MappedByteBuffer segment = segments.get(index);
+        
+        if (segment != null && segment.capacity() >= end) {
+            return segment;
+        }
+        
+        long maximumLength = (long) pagesPerSegment * pageSize;
+        long start = index * maximumLength;
+        
+        try {
+            long length;
+            
+            if (segment == null) {
+                length = Math.max(end, channel.size() - start);
+            } else {
+                length = Math.max(end, 2L * segment.capacity());
+                segment.force();
+            }
+            
+            // Round up to whole pages.
+            length = Math.min(maximumLength,
+                              (length + pageSize - 1) / pageSize * pageSize);
+            segment = channel.map(FileChannel.MapMode.READ_WRITE,
+                                  start,
+                                  length);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        
+        segment.order(ByteOrder.LITTLE_ENDIAN);
+        segments.put(index, segment);
+        return segment;
+    }
+    
+    /**
+     * Returns the offset of {@code page} within its segment.
+     *
+     * @param  page the page id.
+     * @return the offset of the first byte of the page.
+     */
+    private int pageOffset(int page) {
+        return (page % pagesPerSegment) * pageSize;
+    }
+    
+    private int recordOffset(int page, int localIndex) {
+        return pageOffset(page) + PAGE_HEADER_SIZE + localIndex * recordSize;
+    }
+    
+    private int getPrev(int page) {
+        return segment(page).getInt(pageOffset(page) + PREV_OFFSET);
+    }
+    
+    private int getNext(int page) {
+        return segment(page).getInt(pageOffset(page) + NEXT_OFFSET);
+    }
+    
+    private int getCount(int page) {
+        return segment(page).getInt(pageOffset(page) + COUNT_OFFSET);
+    }
+    
+    private void setPrev(int page, int prev) {
+        segment(page).putInt(pageOffset(page) + PREV_OFFSET, prev);
+    }
+    
+    private void setNext(int page, int next) {
+        segment(page).putInt(pageOffset(page) + NEXT_OFFSET, next);
+    }
+    
+    private void setCount(int page, int count) {
+        segment(page).putInt(pageOffset(page) + COUNT_OFFSET, count);
+    }
+    
+    /**
+     * Returns an empty, unlinked page, reusing a free page if there is one.
+     *
+     * @return the page id.
+     */
+    private int allocatePage() {
+        int page;
+        
+        if (freeHead != NIL) {
+            page = freeHead;
+            freeHead = getNext(page);
+        } else {
+            page = pageCount++;
+        }
+        
+        setPrev(page, NIL);
+        setNext(page, NIL);
+        setCount(page, 0);
+        return page;
+    }
+    
+    /**
+     * Pushes {@code page} to the free page list.
+     *
+     * @param page the page id.
+     */
+    private void freePage(int page) {
+        setPrev(page, NIL);
+        setNext(page, freeHead);
+        setCount(page, 0);
+        freeHead = page;
+    }
+    
+    /**
+     * Copies {@code count} records from {@code source} to {@code target}.
+     * The pages must be distinct.
+     *
+     * @param source      the source page.
+     * @param sourceIndex the local index of the first record to copy.
+     * @param target      the target page.
+     * @param targetIndex the local index of the first target record.
+     * @param count       the amount of records to copy.
+     */
+    private void copyRecords(int source,
+                             int sourceIndex,
+                             int target,
+                             int targetIndex,
+                             int count) {
+        ByteBuffer from = segment(source).duplicate();
+        int fromOffset = recordOffset(source, sourceIndex);
+        from.limit(fromOffset + count * recordSize);
+        from.position(fromOffset);
+        ByteBuffer to = segment(target).duplicate();
+        to.position(recordOffset(target, targetIndex));
+        to.put(from);
+    }
+    
+    private void checkIndexForAccess(int index) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException(
+                    "The index is negative: " + index);
+        }
+        
+        if (index >= size) {
+            throw new IndexOutOfBoundsException(
+                    "The index is too large: " + index + ". " +
+                    "The size of this list is " + size + ".");
+        }
+    }
+    
+    private void checkIndexForAddition(int index) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException(
+                    "The index is negative: " + index);
+        }
+        
+        if (index > size) {
+            throw new IndexOutOfBoundsException(
+                    "The index is too large: " + index + ". " +
+                    "The size of this list is " + size + ".");
+        }
+    }
+    
+    /**
+     * Loads the page and local index of the record at global index
+     * {@code index}, starting from the nearest of the head page, the tail
+     * page and the finger. Only the page headers are read on the way.
+     *
+     * @param index the global index of the record.
+     */
+    private void searchElement(int index) {
+        int page;
+        int offset;
+        int tailOffset = size - getCount(tail);
+        
+        if (index >= tailOffset) {
+            page = tail;
+            offset = tailOffset;
+        } else if (finger != NIL && Math.abs(index - fingerOffset)
+                                    < Math.min(index, tailOffset - index)) {
+            page = finger;
+            offset = fingerOffset;
+        } else if (index < tailOffset - index) {
+            page = head;
+            offset = 0;
+        } else {
+            page = tail;
+            offset = tailOffset;
+        }
+        
+        while (index >= offset + getCount(page)) {
+            offset += getCount(page);
+            page = getNext(page);
+        }
+        
+        while (index < offset) {
+            page = getPrev(page);
+            offset -= getCount(page);
+        }
+        
+        searchPage = page;
+        searchLocalIndex = index - offset;
+        finger = page;
+        fingerOffset = offset;
+    }
+    
+    /**
+     * Restores the page invariants for {@code page} after a removal. An empty
+     * page is unlinked. An underfull page is merged with a neighbor if they
+     * fit in one page, and otherwise borrows records from its successor.
+     *
+     * @param page the page to rebalance.
+     */
+    private void rebalance(int page) {
+        int prev = getPrev(page);
+        int next = getNext(page);
+        int count = getCount(page);
+        
+        if (count == 0) {
+            if (prev != NIL || next != NIL) {
+                unlinkPage(page);
+            }
+            
+            return;
+        }
+        
+        if (prev == NIL || next == NIL || count >= degree / 2) {
+            return;
+        }
+        
+        int prevCount = getCount(prev);
+        int nextCount = getCount(next);
+        boolean prevFits = prevCount + count <= degree;
+        boolean nextFits = nextCount + count <= degree;
+        
+        if (prevFits && (!nextFits || prevCount <= nextCount)) {
+            copyRecords(page, 0, prev, prevCount, count);
+            setCount(prev, prevCount + count);
+            unlinkPage(page);
+        } else if (nextFits) {
+            copyRecords(next, 0, page, count, nextCount);
+            setCount(page, count + nextCount);
+            unlinkPage(next);
+        } else {
+            // Both neighbors are more than half full. Even out with 'next'.
+            int moved = (nextCount - count) / 2;
+            copyRecords(next, 0, page, count, moved);
+            OffHeapRecordList.moveBytes(segment(next),
+                                        recordOffset(next, moved),
+                                        recordOffset(next, 0),
+                                        (nextCount - moved) * recordSize);
+            setCount(page, count + moved);
+            setCount(next, nextCount - moved);
+        }
+    }
+    
+    private void linkPage(int predecessor, int page) {
+        int next = getNext(predecessor);
+        setPrev(page, predecessor);
+        setNext(page, next);
+        setNext(predecessor, page);
+        
+        if (next != NIL) {
+            setPrev(next, page);
+        } else {
+            tail = page;
+        }
+    }
+    
+    /**
+     * Unlinks {@code page} from the chain and pushes it to the free page
+     * list.
+     *
+     * @param page the page to unlink.
+     */
+    private void unlinkPage(int page) {
+        int prev = getPrev(page);
+        int next = getNext(page);
+        
+        if (prev == NIL) {
+            head = next;
+        } else {
+            setNext(prev, next);
+        }
+        
+        if (next == NIL) {
+            tail = prev;
+        } else {
+            setPrev(next, prev);
+        }
+        
+        freePage(page);
+    }
+}
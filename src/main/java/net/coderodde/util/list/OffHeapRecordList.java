@@ -0,0 +1,857 @@
+package net.coderodde.util.list;
+
+import java.nio.ByteBuffer;
+import java.util.ConcurrentModificationException;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * This class implements a linked array list of fixed-width records stored
+ * off the heap. Each node owns a slab of a {@link SlabArena} holding up to
+ * degree records, laid out by a {@link RecordCodec}. The heap only holds the
+ * small node objects, so that the garbage collector does not need to trace
+ * the records. Positional insertions and removals move the bytes of the
+ * records within a slab, and the slabs of unlinked nodes are returned to the
+ * arena right away. The node chain obeys the same invariants as that of
+ * {@link LinkedArrayList}: no node other than the only one is empty, and no
+ * node other than the head or tail node holds less than half of the degree
+ * of records.
+ * <p>
+ * The records can be read without materializing them via a
+ * {@link RecordView}, a movable flyweight exposing the fields of the record
+ * it points to.
+ * <p>
+ * A list on a shared arena should be released via {@link #free()} once it is
+ * no longer needed, so that the arena can hand its slabs to the other lists.
+ *
+ * @author    Rodion "rodde" Efremov
+ * @version   1.6
+ * @param <R> the record type.
+ */
+public class OffHeapRecordList<R> {
+    
+    /**
+     * The default degree.
+     */
+    static final int DEFAULT_DEGREE = 64;
+    
+    /**
+     * This static class implements the nodes of {@code OffHeapRecordList}.
+     * The records of a node occupy the first {@code size * recordSize} bytes
+     * of its slab.
+     */
+    static final class Node {
+        
+        /**
+         * The slab holding the records, or {@code null} after the node is
+         * unlinked.
+         */
+        ByteBuffer slab;
+        
+        /**
+         * The amount of records in this node.
+         */
+        int size;
+        
+        Node prev;
+        Node next;
+        
+        Node(ByteBuffer slab) {
+            this.slab = slab;
+        }
+    }
+    
+    /**
+     * The codec laying out the records.
+     */
+    private final RecordCodec<R> codec;
+    
+    /**
+     * The amount of bytes in a record.
+     */
+    private final int recordSize;
+    
+    /**
+     * The degree of the nodes of this list.
+     */
+    private final int degree;
+    
+    /**
+     * The arena providing the slabs.
+     */
+    private final SlabArena arena;
+    
+    /**
+     * The amount of records in this list.
+     */
+    private int size;
+    
+    /**
+     * The head node of this list, or {@code null} after {@link #free()}.
+     */
+    private Node head;
+    
+    /**
+     * The tail node of this list.
+     */
+    private Node tail;
+    
+    /**
+     * The modification counter.
+     */
+    private int modCount;
+    
+    /**
+     * The node of the most recent search, or {@code null} if the global
+     * offsets may have changed since.
+     */
+    private Node finger;
+    
+    /**
+     * The global index of the first record in {@code finger}.
+     */
+    private int fingerOffset;
+    
+    /**
+     * Used for searching a record.
+     */
+    private Node searchNode;
+    
+    /**
+     * Used for searching a record.
+     */
+    private int searchLocalIndex;
+    
+    /**
+     * Constructs a new, empty list taking its slabs from {@code arena}.
+     *
+     * @param codec  the codec laying out the records.
+     * @param degree the amount of records a node can hold.
+     * @param arena  the arena providing the slabs.
+     * @throws IllegalArgumentException if {@code degree} is too small, or the
+     *         slabs of {@code arena} do not hold exactly {@code degree}
+     *         records.
+     */
+    public OffHeapRecordList(RecordCodec<R> codec,
+                             int degree,
+                             SlabArena arena) {
+        Objects.requireNonNull(codec, "The codec is null.");
+        Objects.requireNonNull(arena, "The arena is null.");
+        
+        if (degree < LinkedArrayList.MINIMUM_DEGREE) {
+            throw new IllegalArgumentException(
+            "The input degree (" + degree + ") is too small. Should be at " +
+            "least " + LinkedArrayList.MINIMUM_DEGREE + ".");
+        }
+        
+        if (codec.recordSize() < 1) {
+            throw new IllegalArgumentException(
+                    "The record size is not positive: " +
+                    codec.recordSize());
+        }
+        
+        if ((long) degree * codec.recordSize() != arena.getSlabSize()) {
+            throw new IllegalArgumentException(
+                    "The slab size (" + arena.getSlabSize() + ") does not " +
+                    "match " + degree + " records of " + codec.recordSize() +
+                    " bytes.");
+        }
+        
+        this.codec = codec;
+        this.recordSize = codec.recordSize();
+        this.degree = degree;
+        this.arena = arena;
+        this.head = new Node(arena.allocate());
+        this.tail = head;
+    }
+    
+    /**
+     * Constructs a new, empty list with a private arena.
+     *
+     * @param codec  the codec laying out the records.
+     * @param degree the amount of records a node can hold.
+     */
+    public OffHeapRecordList(RecordCodec<R> codec, int degree) {
+        this(codec, degree, new SlabArena(checkSlabSize(codec, degree)));
+    }
+    
+    /**
+     * Constructs a new, empty list with default degree and a private arena.
+     *
+     * @param codec the codec laying out the records.
+     */
+    public OffHeapRecordList(RecordCodec<R> codec) {
+        this(codec, DEFAULT_DEGREE);
+    }
+    
+    /**
+     * Appends {@code record} to the tail of this list.
+     *
+     * @param  record the record to append.
+     * @return {@code true}.
+     * @throws IllegalStateException if this list is freed.
+     */
+    public boolean add(R record) {
+        checkNotFreed();
+        
+        if (tail.size == degree) {
+            linkNode(tail, new Node(arena.allocate()));
+        }
+        
+        codec.write(record, tail.slab, tail.size++ * recordSize);
+        ++size;
+        ++modCount;
+        return true;
+    }
+    
+    /**
+     * Inserts {@code record} between the records with indices
+     * {@code index - 1} and {@code index}.
+     *
+     * @param index  the insertion index.
+     * @param record the record to insert.
+     * @throws IndexOutOfBoundsException if the index is invalid.
+     * @throws IllegalStateException if this list is freed.
+     */
+    public void add(int index, R record) {
+        checkNotFreed();
+        checkIndexForAddition(index);
+        
+        if (index == size) {
+            add(record);
+            return;
+        }
+        
+        searchElement(index);
+        Node node = searchNode;
+        int localIndex = searchLocalIndex;
+        
+        if (node.size == degree) {
+            // Split the node in halves.
+            Node newnode = new Node(arena.allocate());
+            int half = degree >>> 1;
+            newnode.size = degree - half;
+            copyRecords(node, half, newnode, 0, newnode.size);
+            node.size = half;
+            linkNode(node, newnode);
+            
+            if (localIndex > half) {
+                node = newnode;
+                localIndex -= half;
+            }
+        }
+        
+        moveBytes(node.slab,
+                  localIndex * recordSize,
+                  (localIndex + 1) * recordSize,
+                  (node.size - localIndex) * recordSize);
+        codec.write(record, node.slab, localIndex * recordSize);
+        ++node.size;
+        ++size;
+        ++modCount;
+        finger = null;
+    }
+    
+    /**
+     * Checks that this list maintains the invariants of the node chain.
+     *
+     * @throws IllegalStateException if this list is not healthy or is freed.
+     */
+    public void checkHealth() {
+        checkNotFreed();
+        
+        if (head.prev != null || tail.next != null) {
+            throw new IllegalStateException("Broken end nodes.");
+        }
+        
+        int s = 0;
+        
+        for (Node node = head; node != null; node = node.next) {
+            if (node.next != null && node.next.prev != node) {
+                throw new IllegalStateException("Broken node links.");
+            }
+            
+            if (node.slab == null) {
+                throw new IllegalStateException("Freed node encountered.");
+            }
+            
+            if (node.size == 0 && head != tail) {
+                throw new IllegalStateException("Empty node encountered.");
+            }
+            
+            if (node != head && node != tail && node.size < degree / 2) {
+                throw new IllegalStateException(
+                        "Underfull node encountered: " + node.size +
+                        " elements, degree " + degree + ".");
+            }
+            
+            s += node.size;
+        }
+        
+        if (size != s) {
+            throw new IllegalStateException("Wrong accumulated size: " +
+                    s + "; list reports containing " + size + " elements.");
+        }
+    }
+    
+    /**
+     * Makes this list empty, returning all but one of its slabs to the arena.
+     *
+     * @throws IllegalStateException if this list is freed.
+     */
+    public void clear() {
+        checkNotFreed();
+        
+        for (Node node = head.next; node != null; node = node.next) {
+            arena.free(node.slab);
+            node.slab = null;
+        }
+        
+        head.next = null;
+        head.size = 0;
+        tail = head;
+        size = 0;
+        ++modCount;
+        finger = null;
+    }
+    
+    /**
+     * Passes a {@link RecordView} pointing to each record of this list to
+     * {@code action} in order. The same view is moved from record to record,
+     * so no record is materialized. Moving the view within {@code action}
+     * does not affect the iteration.
+     *
+     * @param action the action to perform.
+     * @throws ConcurrentModificationException if {@code action} modifies this
+     *         list.
+     * @throws IllegalStateException if this list is freed.
+     */
+    public void forEach(Consumer<? super RecordView> action) {
+        Objects.requireNonNull(action, "The action is null.");
+        checkNotFreed();
+        RecordView view = new RecordView();
+        view.expectedModCount = modCount;
+        int index = 0;
+        
+        for (Node node = head; node != null; node = node.next) {
+            for (int i = 0; i < node.size; ++i) {
+                // Reset the whole view, since 'action' may move it.
+                view.node = node;
+                view.offset = i * recordSize;
+                view.index = index++;
+                action.accept(view);
+                view.checkForConcurrentModification();
+            }
+        }
+    }
+    
+    /**
+     * Returns all the slabs of this list to the arena, including the slab of
+     * the head node. This list becomes empty and unusable: the subsequent
+     * calls to the methods accessing the records throw an
+     * {@link IllegalStateException}. Freeing a freed list does nothing.
+     */
+    public void free() {
+        if (head == null) {
+            return;
+        }
+        
+        for (Node node = head; node != null; node = node.next) {
+            arena.free(node.slab);
+            node.slab = null;
+        }
+        
+        head = null;
+        tail = null;
+        size = 0;
+        ++modCount;
+        finger = null;
+    }
+    
+    /**
+     * Reads the record at index {@code index}.
+     *
+     * @param  index the index of the record.
+     * @return the record.
+     * @throws IndexOutOfBoundsException if the index is invalid.
+     * @throws IllegalStateException if this list is freed.
+     */
+    public R get(int index) {
+        checkNotFreed();
+        checkIndexForAccess(index);
+        searchElement(index);
+        return codec.read(searchNode.slab, searchLocalIndex * recordSize);
+    }
+    
+    /**
+     * Returns the arena providing the slabs of this list.
+     *
+     * @return the arena.
+     */
+    public SlabArena getArena() {
+        return arena;
+    }
+    
+    /**
+     * Returns the degree of the nodes of this list.
+     *
+     * @return the degree.
+     */
+    public int getDegree() {
+        return degree;
+    }
+    
+    /**
+     * Returns {@code true} if this list is empty.
+     *
+     * @return {@code true} if this list is empty.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+    
+    /**
+     * Removes the record at index {@code index}.
+     *
+     * @param  index the index of the record to remove.
+     * @return the removed record.
+     * @throws IndexOutOfBoundsException if the index is invalid.
+     * @throws IllegalStateException if this list is freed.
+     */
+    public R removeAt(int index) {
+        checkNotFreed();
+        checkIndexForAccess(index);
+        searchElement(index);
+        Node node = searchNode;
+        int localIndex = searchLocalIndex;
+        R ret = codec.read(node.slab, localIndex * recordSize);
+        moveBytes(node.slab,
+                  (localIndex + 1) * recordSize,
+                  localIndex * recordSize,
+                  (node.size - localIndex - 1) * recordSize);
+        --node.size;
+        --size;
+        ++modCount;
+        finger = null;
+        rebalance(node);
+        return ret;
+    }
+    
+    /**
+     * Replaces the record at index {@code index}.
+     *
+     * @param  index  the index of the record to replace.
+     * @param  record the new record.
+     * @return the old record.
+     * @throws IndexOutOfBoundsException if the index is invalid.
+     * @throws IllegalStateException if this list is freed.
+     */
+    public R set(int index, R record) {
+        checkNotFreed();
+        checkIndexForAccess(index);
+        searchElement(index);
+        int offset = searchLocalIndex * recordSize;
+        R ret = codec.read(searchNode.slab, offset);
+        codec.write(record, searchNode.slab, offset);
+        return ret;
+    }
+    
+    /**
+     * Returns the amount of records in this list.
+     *
+     * @return the size of this list.
+     */
+    public int size() {
+        return size;
+    }
+    
+    /**
+     * Returns a new view pointing to the record at index {@code index}.
+     *
+     * @param  index the index of the record.
+     * @return a view.
+     * @throws IndexOutOfBoundsException if the index is invalid.
+     * @throws IllegalStateException if this list is freed.
+     */
+    public RecordView view(int index) {
+        return new RecordView().moveTo(index);
+    }
+    
+    private static int checkSlabSize(RecordCodec<?> codec, int degree) {
+        long slabSize = (long) codec.recordSize() * degree;
+        
+        if (slabSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(
+                    "The slab size is too large: " + slabSize + " bytes.");
+        }
+        
+        return (int) slabSize;
+    }
+    
+    /**
+     * Moves {@code length} bytes of {@code slab} from {@code fromOffset} to
+     * {@code toOffset}. The ranges may overlap.
+     *
+     * @param slab       the slab.
+     * @param fromOffset the offset of the first byte to move.
+     * @param toOffset   the offset of the first target byte.
+     * @param length     the amount of bytes to move.
+     */
+    static void moveBytes(ByteBuffer slab,
+                          int fromOffset,
+                          int toOffset,
+                          int length) {
+        if (toOffset < fromOffset) {
+            int i = 0;
+            
+            for (; i + 8 <= length; i += 8) {
+                slab.putLong(toOffset + i, slab.getLong(fromOffset + i));
+            }
+            
+            for (; i < length; ++i) {
+                slab.put(toOffset + i, slab.get(fromOffset + i));
+            }
+        } else {
+            // Move back to front so that no byte is overwritten before it is
+            // read.
+            int i = length;
+            
+            for (; i >= 8; i -= 8) {
+                slab.putLong(toOffset + i - 8,
+                             slab.getLong(fromOffset + i - 8));
+            }
+            
+            for (; i > 0; --i) {
+                slab.put(toOffset + i - 1, slab.get(fromOffset + i - 1));
+            }
+        }
+    }
+    
+    /**
+     * Copies {@code count} records from {@code source} to {@code target}.
+     * The nodes must be distinct.
+     *
+     * @param source      the source node.
+     * @param sourceIndex the local index of the first record to copy.
+     * @param target      the target node.
+     * @param targetIndex the local index of the first target record.
+     * @param count       the amount of records to copy.
+     */
+    private void copyRecords(Node source,
+                             int sourceIndex,
+                             Node target,
+                             int targetIndex,
+                             int count) {
+        ByteBuffer from = source.slab.duplicate();
+        from.limit((sourceIndex + count) * recordSize);
+        from.position(sourceIndex * recordSize);
+        ByteBuffer to = target.slab.duplicate();
+        to.position(targetIndex * recordSize);
+        to.put(from);
+    }
+    
+    private void checkNotFreed() {
+        if (head == null) {
+            throw new IllegalStateException("The list is freed.");
+        }
+    }
+    
+    private void checkIndexForAccess(int index) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException(
+                    "The index is negative: " + index);
+        }
+        
+        if (index >= size) {
+            throw new IndexOutOfBoundsException(
+                    "The index is too large: " + index + ". " +
+                    "The size of this list is " + size + ".");
+        }
+    }
+    
+    private void checkIndexForAddition(int index) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException(
+                    "The index is negative: " + index);
+        }
+        
+        if (index > size) {
+            throw new IndexOutOfBoundsException(
+                    "The index is too large: " + index + ". " +
+                    "The size of this list is " + size + ".");
+        }
+    }
+    
+    /**
+     * Loads the node and local index of the record at global index
+     * {@code index}, starting from the nearest of the head node, the tail
+     * node and the finger.
+     *
+     * @param index the global index of the record.
+     */
+    private void searchElement(int index) {
+        Node node;
+        int offset;
+        int tailOffset = size - tail.size;
+        
+        if (index >= tailOffset) {
+            node = tail;
+            offset = tailOffset;
+        } else if (finger != null && Math.abs(index - fingerOffset)
+                                     < Math.min(index, tailOffset - index)) {
+            node = finger;
+            offset = fingerOffset;
+        } else if (index < tailOffset - index) {
+            node = head;
+            offset = 0;
+        } else {
+            node = tail;
+            offset = tailOffset;
+        }
+        
+        while (index >= offset + node.size) {
+            offset += node.size;
+            node = node.next;
+        }
+        
+        while (index < offset) {
+            node = node.prev;
+            offset -= node.size;
+        }
+        
+        searchNode = node;
+        searchLocalIndex = index - offset;
+        finger = node;
+        fingerOffset = offset;
+    }
+    
+    /**
+     * Restores the node invariants for {@code node} after a removal. An empty
+     * node is unlinked. An underfull node is merged with a neighbor if they
+     * fit in one node, and otherwise borrows records from its successor.
+     *
+     * @param node the node to rebalance.
+     */
+    private void rebalance(Node node) {
+        Node prev = node.prev;
+        Node next = node.next;
+        
+        if (node.size == 0) {
+            if (prev != null || next != null) {
+                unlinkNode(node);
+            }
+            
+            return;
+        }
+        
+        if (prev == null || next == null || node.size >= degree / 2) {
+            return;
+        }
+        
+        boolean prevFits = prev.size + node.size <= degree;
+        boolean nextFits = next.size + node.size <= degree;
+        
+        if (prevFits && (!nextFits || prev.size <= next.size)) {
+            copyRecords(node, 0, prev, prev.size, node.size);
+            prev.size += node.size;
+            unlinkNode(node);
+        } else if (nextFits) {
+            copyRecords(next, 0, node, node.size, next.size);
+            node.size += next.size;
+            unlinkNode(next);
+        } else {
+            // Both neighbors are more than half full. Even out with 'next'.
+            int count = (next.size - node.size) / 2;
+            copyRecords(next, 0, node, node.size, count);
+            moveBytes(next.slab,
+                      count * recordSize,
+                      0,
+                      (next.size - count) * recordSize);
+            node.size += count;
+            next.size -= count;
+        }
+    }
+    
+    private void linkNode(Node predecessor, Node node) {
+        node.prev = predecessor;
+        node.next = predecessor.next;
+        predecessor.next = node;
+        
+        if (node.next != null) {
+            node.next.prev = node;
+        } else {
+            tail = node;
+        }
+    }
+    
+    /**
+     * Unlinks {@code node} from the chain and returns its slab to the arena.
+     *
+     * @param node the node to unlink.
+     */
+    private void unlinkNode(Node node) {
+        if (node.prev == null) {
+            head = node.next;
+        } else {
+            node.prev.next = node.next;
+        }
+        
+        if (node.next == null) {
+            tail = node.prev;
+        } else {
+            node.next.prev = node.prev;
+        }
+        
+        arena.free(node.slab);
+        node.slab = null;
+    }
+    
+    /**
+     * This class implements a movable flyweight over the records of this
+     * list. The accessors read the fields of the current record straight
+     * from its slab; the field offsets are relative to the first byte of the
+     * record. A view goes stale once the list is structurally modified, and
+     * must be moved again before further use.
+     */
+    public final class RecordView {
+        
+        /**
+         * The node holding the current record.
+         */
+        private Node node;
+        
+        /**
+         * The offset of the current record in the slab of {@code node}.
+         */
+        private int offset;
+        
+        /**
+         * The index of the current record.
+         */
+        private int index;
+        
+        /**
+         * The expected mod count.
+         */
+        private int expectedModCount;
+        
+        private RecordView() {}
+        
+        /**
+         * Moves this view to the record at index {@code index}.
+         *
+         * @param  index the index of the record.
+         * @return this view.
+         * @throws IndexOutOfBoundsException if the index is invalid.
+         * @throws IllegalStateException if the list is freed.
+         */
+        public RecordView moveTo(int index) {
+            checkNotFreed();
+            checkIndexForAccess(index);
+            searchElement(index);
+            node = searchNode;
+            offset = searchLocalIndex * recordSize;
+            this.index = index;
+            expectedModCount = modCount;
+            return this;
+        }
+        
+        /**
+         * Returns the index of the current record.
+         *
+         * @return the index.
+         */
+        public int index() {
+            return index;
+        }
+        
+        /**
+         * Reads the current record.
+         *
+         * @return the record.
+         * @throws ConcurrentModificationException if this view is stale.
+         */
+        public R get() {
+            checkForConcurrentModification();
+            return codec.read(node.slab, offset);
+        }
+        
+        /**
+         * Reads the {@code byte} field of the current record.
+         *
+         * @param  fieldOffset the offset of the field within the record.
+         * @return the field value.
+         * @throws ConcurrentModificationException if this view is stale.
+         */
+        public byte getByte(int fieldOffset) {
+            checkForConcurrentModification();
+            return node.slab.get(offset + fieldOffset);
+        }
+        
+        /**
+         * Reads the {@code double} field of the current record.
+         *
+         * @param  fieldOffset the offset of the field within the record.
+         * @return the field value.
+         * @throws ConcurrentModificationException if this view is stale.
+         */
+        public double getDouble(int fieldOffset) {
+            checkForConcurrentModification();
+            return node.slab.getDouble(offset + fieldOffset);
+        }
+        
+        /**
+         * Reads the {@code float} field of the current record.
+         *
+         * @param  fieldOffset the offset of the field within the record.
+         * @return the field value.
+         * @throws ConcurrentModificationException if this view is stale.
+         */
+        public float getFloat(int fieldOffset) {
+            checkForConcurrentModification();
+            return node.slab.getFloat(offset + fieldOffset);
+        }
+        
+        /**
+         * Reads the {@code int} field of the current record.
+         *
+         * @param  fieldOffset the offset of the field within the record.
+         * @return the field value.
+         * @throws ConcurrentModificationException if this view is stale.
+         */
+        public int getInt(int fieldOffset) {
+            checkForConcurrentModification();
+            return node.slab.getInt(offset + fieldOffset);
+        }
+        
+        /**
+         * Reads the {@code long} field of the current record.
+         *
+         * @param  fieldOffset the offset of the field within the record.
+         * @return the field value.
+         * @throws ConcurrentModificationException if this view is stale.
+         */
+        public long getLong(int fieldOffset) {
+            checkForConcurrentModification();
+            return node.slab.getLong(offset + fieldOffset);
+        }
+        
+        /**
+         * Reads the {@code short} field of the current record.
+         *
+         * @param  fieldOffset the offset of the field within the record.
+         * @return the field value.
+         * @throws ConcurrentModificationException if this view is stale.
+         */
+        public short getShort(int fieldOffset) {
+            checkForConcurrentModification();
+            return node.slab.getShort(offset + fieldOffset);
+        }
+        
+        private void checkForConcurrentModification() {
+            if (expectedModCount != modCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+}
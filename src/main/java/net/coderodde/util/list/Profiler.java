@@ -1,5 +1,7 @@
 package net.coderodde.util.list;
 
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Deque;
@@ -26,6 +28,17 @@ public class Profiler {
     private static final int DEQUE_N = 2000;
     private static final int REMOVE_INT_N = 1000;
     private static final int CONTAINS_ALL_N = 1000;
+    private static final int LOCALITY_LIST_N = 1000000;
+    private static final int LOCALITY_GET_N = 20000;
+    private static final int[] SKIP_LIST_SIZES = { 1000000, 
+                                                   10000000, 
+                                                   100000000 };
+    private static final int SKIP_GET_N = 2000;
+    private static final int SKIP_ADD_INT_N = 200;
+    private static final int POOL_QUEUE_LENGTH = 10000;
+    private static final int POOL_OPERATIONS_N = 20000000;
+    private static final int POOL_CAPACITY = 16;
+    private static final int PRIMITIVE_N = 5000000;
     
     public static void main(String[] args) {
         List<Integer> list1 = new ArrayList<>();
@@ -33,6 +46,8 @@ public class Profiler {
         List<Integer> list3 = 
                 new LinkedArrayList<>(128, LinkedArrayList.NodeType.TRIVIAL);
         List<Integer> list4 = new EnemyTreeList<>();
+        List<Integer> list5 = 
+                new LinkedArrayList<>(1024, LinkedArrayList.NodeType.TIERED);
         
         long seed = System.currentTimeMillis();
         
@@ -42,13 +57,245 @@ public class Profiler {
         profile(list2, seed);
         profile(list3, seed);
         profile(list4, seed);
+        profile(list5, seed);
         
         title("End of profiling");
         
         System.out.println("Lists have same content: " + equals(list1,
                                                                 list2,
                                                                 list3,
-                                                                list4));
+                                                                list4,
+                                                                list5));
+        
+        profileLocality(seed);
+        profileSkip(seed);
+        profileNodePool();
+        profilePrimitiveList();
+    }
+    
+    /**
+     * Compares a {@code LinkedArrayList<Long>} against a 
+     * {@code LongLinkedArrayList} holding the same values: the bytes 
+     * allocated while building the list, and the time of summing the values.
+     * The values are large enough not to hit the cache of boxed values.
+     */
+    private static void profilePrimitiveList() {
+        title("Boxed versus primitive long list");
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        
+        long bytesBefore = getAllocatedBytes(bean);
+        LinkedArrayList<Long> boxed = new LinkedArrayList<>(128);
+        
+        for (int i = 0; i < PRIMITIVE_N; ++i) {
+            boxed.add(1000L + i);
+        }
+        
+        long bytesBoxed = getAllocatedBytes(bean) - bytesBefore;
+        bytesBefore = getAllocatedBytes(bean);
+        LongLinkedArrayList primitive = new LongLinkedArrayList(128);
+        
+        for (int i = 0; i < PRIMITIVE_N; ++i) {
+            primitive.add(1000L + i);
+        }
+        
+        long bytesPrimitive = getAllocatedBytes(bean) - bytesBefore;
+        
+        long ta = System.currentTimeMillis();
+        long sumBoxed = 0L;
+        
+        for (Long value : boxed) {
+            sumBoxed += value;
+        }
+        
+        long tb = System.currentTimeMillis();
+        long sumPrimitive = primitive.stream().sum();
+        long tc = System.currentTimeMillis();
+        
+        System.out.println("LinkedArrayList<Long>: allocated " + 
+                           (bytesBefore < 0 ? "n/a" : bytesBoxed + " bytes") +
+                           ", sum in " + (tb - ta) + " ms.");
+        System.out.println("LongLinkedArrayList: allocated " + 
+                           (bytesBefore < 0 ? 
+                                "n/a" : 
+                                bytesPrimitive + " bytes") +
+                           ", sum in " + (tc - tb) + " ms.");
+        System.out.println("Same sums: " + (sumBoxed == sumPrimitive));
+    }
+    
+    /**
+     * Compares a {@code LinkedArrayList} used as a FIFO queue with and without
+     * the node pool. The allocated bytes are reported where the JVM supports
+     * measuring them.
+     */
+    private static void profileNodePool() {
+        title("Node pool, FIFO queue");
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        
+        for (int capacity : new int[]{ 0, POOL_CAPACITY }) {
+            LinkedArrayList<Integer> list = 
+                    new LinkedArrayList<>(128, LinkedArrayList.NodeType.TRIVIAL);
+            list.setNodePoolCapacity(capacity);
+            
+            for (int i = 0; i < POOL_QUEUE_LENGTH; ++i) {
+                list.offerLast(i & 0x7f);
+            }
+            
+            long bytesBefore = getAllocatedBytes(bean);
+            long ta = System.currentTimeMillis();
+            
+            for (int i = 0; i < POOL_OPERATIONS_N; ++i) {
+                list.offerLast(list.pollFirst());
+            }
+            
+            long tb = System.currentTimeMillis();
+            long bytesAfter = getAllocatedBytes(bean);
+            
+            System.out.println("Pool capacity " + capacity + ": " + 
+                               (tb - ta) + " ms, allocated " + 
+                               (bytesBefore < 0 ? 
+                                    "n/a" : 
+                                    (bytesAfter - bytesBefore) + " bytes") +
+                               ", pool hits " + list.getNodePoolHits() + 
+                               ", misses " + list.getNodePoolMisses() + ".");
+        }
+    }
+    
+    /**
+     * Returns the amount of bytes allocated by the current thread so far, or
+     * -1 if the JVM does not support measuring it.
+     * 
+     * @param  bean the thread management bean.
+     * @return the amount of allocated bytes or -1.
+     */
+    private static long getAllocatedBytes(ThreadMXBean bean) {
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) bean)
+                    .getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        
+        return -1L;
+    }
+    
+    /**
+     * Compares the positional access of the {@code SKIP} node type against 
+     * the {@code ADVANCED} node type at growing list sizes. The sizes that do
+     * not fit in the heap are skipped. Small integers are stored so that the
+     * lists share the cached boxed values.
+     * 
+     * @param seed the random seed.
+     */
+    private static void profileSkip(long seed) {
+        for (int listSize : SKIP_LIST_SIZES) {
+            // Roughly two references per element, with a safety margin.
+            if (16L * listSize > Runtime.getRuntime().maxMemory()) {
+                title("Skip list, " + listSize + " elements: " + 
+                      "skipped, not enough heap");
+                continue;
+            }
+            
+            title("Skip list, " + listSize + " elements");
+            
+            for (LinkedArrayList.NodeType nodeType : 
+                    new LinkedArrayList.NodeType[]{ 
+                        LinkedArrayList.NodeType.ADVANCED,
+                        LinkedArrayList.NodeType.SKIP 
+                    }) {
+                Random random = new Random(seed);
+                LinkedArrayList<Integer> list = 
+                        new LinkedArrayList<>(128, nodeType);
+                
+                for (int i = 0; i < listSize; ++i) {
+                    list.add(i & 0x7f);
+                }
+                
+                int[] indices = new int[SKIP_GET_N];
+                
+                for (int i = 0; i < indices.length; ++i) {
+                    indices[i] = random.nextInt(listSize);
+                }
+                
+                System.out.println(nodeType + ":");
+                profileGet(list, "uniform", indices);
+                
+                long ta = System.currentTimeMillis();
+                
+                for (int i = 0; i < SKIP_ADD_INT_N; ++i) {
+                    list.add(random.nextInt(list.size()), i & 0x7f);
+                }
+                
+                long tb = System.currentTimeMillis();
+                
+                System.out.println("add(int, E) in " + (tb - ta) + " ms.");
+            }
+        }
+    }
+    
+    /**
+     * Compares the random access of a {@code LinkedArrayList} with and without
+     * fingers on uniform, clustered and Zipfian index streams.
+     * 
+     * @param seed the random seed.
+     */
+    private static void profileLocality(long seed) {
+        title("Locality of random access");
+        Random random = new Random(seed);
+        LinkedArrayList<Integer> list = 
+                new LinkedArrayList<>(128, LinkedArrayList.NodeType.TRIVIAL);
+        
+        for (int i = 0; i < LOCALITY_LIST_N; ++i) {
+            list.add(i);
+        }
+        
+        int[] uniform = new int[LOCALITY_GET_N];
+        int[] clustered = new int[LOCALITY_GET_N];
+        int[] zipfian = new int[LOCALITY_GET_N];
+        int current = random.nextInt(LOCALITY_LIST_N);
+        
+        for (int i = 0; i < LOCALITY_GET_N; ++i) {
+            uniform[i] = random.nextInt(LOCALITY_LIST_N);
+            
+            // Mostly small steps around the previous index, rare long jumps.
+            if (random.nextInt(100) == 0) {
+                current = random.nextInt(LOCALITY_LIST_N);
+            } else {
+                current += random.nextInt(17) - 8;
+                current = Math.max(0, Math.min(LOCALITY_LIST_N - 1, current));
+            }
+            
+            clustered[i] = current;
+            
+            // Zipf-like ranks (P(rank) ~ 1 / rank), scattered over the list.
+            long rank = (long) Math.pow(LOCALITY_LIST_N, random.nextDouble());
+            zipfian[i] = (int)((rank * 2654435761L) % LOCALITY_LIST_N);
+        }
+        
+        for (int fingerCount : new int[]{ 0, 
+                                          LinkedArrayList.DEFAULT_FINGER_COUNT 
+                                        }) {
+            list.setFingerCount(fingerCount);
+            System.out.println("Fingers: " + fingerCount);
+            profileGet(list, "uniform", uniform);
+            profileGet(list, "clustered", clustered);
+            profileGet(list, "Zipfian", zipfian);
+        }
+    }
+    
+    private static final long profileGet(List<Integer> list,
+                                         String streamName,
+                                         int[] indices) {
+        long sum = 0L;
+        long ta = System.currentTimeMillis();
+        
+        for (int index : indices) {
+            sum += list.get(index);
+        }
+        
+        long tb = System.currentTimeMillis();
+        
+        System.out.println("get(int), " + streamName + " stream, in " + 
+                           (tb - ta) + " ms. Checksum: " + sum);
+        
+        return tb - ta;
     }
     
     private static void profile(List<Integer> list, long seed) {
@@ -56,7 +303,8 @@ public class Profiler {
         
         if (list instanceof LinkedArrayList) {
             title(list.getClass().getSimpleName() + ", degree " +
-                  ((LinkedArrayList) list).getDegree());
+                  ((LinkedArrayList) list).getDegree() + ", " + 
+                  ((LinkedArrayList) list).getNodeType());
         } else {
             title(list.getClass().getSimpleName());
         }
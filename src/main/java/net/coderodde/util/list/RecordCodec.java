@@ -0,0 +1,43 @@
+package net.coderodde.util.list;
+
+import java.nio.ByteBuffer;
+
+/**
+ * This interface defines how an {@link OffHeapRecordList} lays out its
+ * records. Every record takes exactly {@link #recordSize()} bytes. The codec
+ * reads and writes a record using the absolute accessors of the buffer, and
+ * must not touch the position or the limit of the buffer.
+ *
+ * @author    Rodion "rodde" Efremov
+ * @version   1.6
+ * @param <R> the record type.
+ */
+public interface RecordCodec<R> {
+    
+    /**
+     * Returns the amount of bytes a record takes.
+     *
+     * @return the record size in bytes.
+     */
+    int recordSize();
+    
+    /**
+     * Writes {@code record} into {@code buffer} starting from the byte
+     * {@code offset}.
+     *
+     * @param record the record to write.
+     * @param buffer the buffer to write to.
+     * @param offset the offset of the first byte of the record.
+     */
+    void write(R record, ByteBuffer buffer, int offset);
+    
+    /**
+     * Reads the record starting from the byte {@code offset} of
+     * {@code buffer}.
+     *
+     * @param  buffer the buffer to read from.
+     * @param  offset the offset of the first byte of the record.
+     * @return the record read.
+     */
+    R read(ByteBuffer buffer, int offset);
+}
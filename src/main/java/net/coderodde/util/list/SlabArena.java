@@ -0,0 +1,167 @@
+package net.coderodde.util.list;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * This class implements a pool of equally sized slabs of off-heap memory.
+ * The slabs are carved out of direct {@link java.nio.ByteBuffer} chunks
+ * holding several slabs each, so that allocating a slab rarely allocates a
+ * direct buffer. The slabs released via {@link #free(ByteBuffer)} are reused
+ * before carving new ones. The memory of a chunk is returned to the system
+ * only when the arena itself becomes unreachable.
+ * <p>
+ * An arena may be shared by several {@link OffHeapRecordList}s having the
+ * same slab size. This class is not thread-safe.
+ *
+ * @author  Rodion "rodde" Efremov
+ * @version 1.6
+ */
+public final class SlabArena {
+    
+    /**
+     * The default amount of slabs in a chunk.
+     */
+    static final int DEFAULT_SLABS_PER_CHUNK = 64;
+    
+    /**
+     * The amount of bytes in a slab.
+     */
+    private final int slabSize;
+    
+    /**
+     * The amount of slabs in a chunk.
+     */
+    private final int slabsPerChunk;
+    
+    /**
+     * The released slabs.
+     */
+    private final Deque<ByteBuffer> freeSlabs = new ArrayDeque<>();
+    
+    /**
+     * The chunk new slabs are carved from, or {@code null} if there is none.
+     */
+    private ByteBuffer chunk;
+    
+    /**
+     * The amount of slabs carved from {@code chunk}.
+     */
+    private int carvedFromChunk;
+    
+    /**
+     * The amount of slabs carved from all chunks.
+     */
+    private int slabCount;
+    
+    /**
+     * Constructs a new arena.
+     *
+     * @param slabSize      the amount of bytes in a slab.
+     * @param slabsPerChunk the amount of slabs allocated at a time.
+     * @throws IllegalArgumentException if either argument is not positive, or
+     *         a chunk would exceed {@link Integer#MAX_VALUE} bytes.
+     */
+    public SlabArena(int slabSize, int slabsPerChunk) {
+        if (slabSize < 1) {
+            throw new IllegalArgumentException(
+                    "The slab size is not positive: " + slabSize);
+        }
+        
+        if (slabsPerChunk < 1) {
+            throw new IllegalArgumentException(
+                    "The amount of slabs per chunk is not positive: " +
+                    slabsPerChunk);
+        }
+        
+        if ((long) slabSize * slabsPerChunk > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(
+                    "The chunk size is too large: " +
+                    (long) slabSize * slabsPerChunk + " bytes.");
+        }
+        
+        this.slabSize = slabSize;
+        this.slabsPerChunk = slabsPerChunk;
+    }
+    
+    /**
+     * Constructs a new arena with default amount of slabs per chunk.
+     *
+     * @param slabSize the amount of bytes in a slab.
+     */
+    public SlabArena(int slabSize) {
+        this(slabSize, DEFAULT_SLABS_PER_CHUNK);
+    }
+    
+    /**
+     * Returns a slab. The contents of the slab are unspecified, and its byte
+     * order is the native one.
+     *
+     * @return a slab of {@link #getSlabSize()} bytes.
+     */
+    public ByteBuffer allocate() {
+        ByteBuffer slab = freeSlabs.pollFirst();
+        
+        if (slab != null) {
+            return slab;
+        }
+        
+        if (chunk == null || carvedFromChunk == slabsPerChunk) {
+            chunk = ByteBuffer.allocateDirect(slabSize * slabsPerChunk);
+            carvedFromChunk = 0;
+        }
+        
+        ByteBuffer view = chunk.duplicate();
+        view.position(carvedFromChunk * slabSize);
+        view.limit(view.position() + slabSize);
+        ++carvedFromChunk;
+        ++slabCount;
+        return view.slice().order(ByteOrder.nativeOrder());
+    }
+    
+    /**
+     * Returns {@code slab} to this arena for reuse. The caller must not access
+     * {@code slab} afterwards.
+     *
+     * @param slab the slab to release.
+     * @throws IllegalArgumentException if {@code slab} has a wrong size.
+     */
+    public void free(ByteBuffer slab) {
+        if (slab.capacity() != slabSize) {
+            throw new IllegalArgumentException(
+                    "The slab size is wrong: " + slab.capacity() +
+                    ". Should be " + slabSize + ".");
+        }
+        
+        freeSlabs.addFirst(slab);
+    }
+    
+    /**
+     * Returns the amount of released slabs waiting for reuse.
+     *
+     * @return the amount of free slabs.
+     */
+    public int getFreeSlabCount() {
+        return freeSlabs.size();
+    }
+    
+    /**
+     * Returns the amount of slabs carved out of the chunks so far.
+     *
+     * @return the amount of slabs.
+     */
+    public int getSlabCount() {
+        return slabCount;
+    }
+    
+    /**
+     * Returns the amount of bytes in a slab.
+     *
+     * @return the slab size.
+     */
+    public int getSlabSize() {
+        return slabSize;
+    }
+}
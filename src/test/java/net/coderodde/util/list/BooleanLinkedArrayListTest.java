@@ -0,0 +1,194 @@
+package net.coderodde.util.list;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class BooleanLinkedArrayListTest {
+    
+    @Test
+    public void testBruteForce() {
+        long seed = System.currentTimeMillis();
+        System.out.println("BooleanLinkedArrayListTest.testBruteForce: " +
+                           "seed = " + seed);
+        Random random = new Random(seed);
+        
+        for (int degree : new int[]{ 2, 3, 5, 63, 64, 65, 130, 200 }) {
+            BooleanLinkedArrayList list = new BooleanLinkedArrayList(degree);
+            List<Boolean> test = new ArrayList<>();
+            
+            for (int op = 0; op < 4000; ++op) {
+                boolean value = random.nextInt(3) == 0;
+                
+                switch (random.nextInt(8)) {
+                    case 0:
+                    case 1:
+                        assertTrue(list.add(value));
+                        test.add(value);
+                        break;
+                    
+                    case 2:
+                    case 3: {
+                        int index = random.nextInt(test.size() + 1);
+                        list.add(index, value);
+                        test.add(index, value);
+                        break;
+                    }
+                    
+                    case 4:
+                    case 5:
+                        if (!test.isEmpty()) {
+                            int index = random.nextInt(test.size());
+                            assertEquals(test.remove(index),
+                                         list.removeAt(index));
+                        }
+                        
+                        break;
+                    
+                    case 6:
+                        if (!test.isEmpty()) {
+                            int index = random.nextInt(test.size());
+                            assertEquals(test.set(index, value),
+                                         list.set(index, value));
+                        }
+                        
+                        break;
+                    
+                    case 7: {
+                        int index = random.nextInt(test.size() + 1);
+                        assertEquals(rank(test, index), list.rank(index));
+                        
+                        if (list.countOnes() > 0) {
+                            int k = random.nextInt(list.countOnes());
+                            assertEquals(select(test, k), list.select(k));
+                        }
+                        
+                        break;
+                    }
+                }
+                
+                list.checkHealth();
+                assertEquals(test.size(), list.size());
+                assertEquals(rank(test, test.size()), list.countOnes());
+                
+                if (!test.isEmpty()) {
+                    int index = random.nextInt(test.size());
+                    assertEquals(test.get(index), list.get(index));
+                }
+            }
+            
+            assertEquals(test, list.asList());
+            assertEquals(test.hashCode(), list.hashCode());
+            assertEquals(test.toString(), list.toString());
+        }
+    }
+    
+    @Test
+    public void testRankAndSelect() {
+        BooleanLinkedArrayList list = new BooleanLinkedArrayList(100);
+        
+        for (int i = 0; i < 1000; ++i) {
+            list.add(i % 3 == 0);
+        }
+        
+        assertEquals(334, list.countOnes());
+        assertEquals(0, list.rank(0));
+        assertEquals(1, list.rank(1));
+        assertEquals(334, list.rank(1000));
+        
+        for (int k = 0; k < list.countOnes(); ++k) {
+            assertEquals(3 * k, list.select(k));
+            assertEquals(k, list.rank(list.select(k)));
+        }
+    }
+    
+    @Test
+    public void testBoxedView() {
+        BooleanLinkedArrayList list = new BooleanLinkedArrayList(64);
+        List<Boolean> view = list.asList();
+        
+        for (int i = 0; i < 200; ++i) {
+            view.add(i % 2 == 0);
+        }
+        
+        view.add(0, false);
+        assertEquals(201, list.size());
+        assertFalse(list.get(0));
+        assertEquals(Boolean.TRUE, view.remove(1));
+        
+        Iterator<Boolean> iterator = view.iterator();
+        
+        while (iterator.hasNext()) {
+            if (!iterator.next()) {
+                iterator.remove();
+            }
+        }
+        
+        list.checkHealth();
+        assertEquals(99, list.size());
+        assertEquals(99, list.countOnes());
+        view.subList(0, 50).clear();
+        list.checkHealth();
+        assertEquals(49, list.size());
+        
+        BooleanLinkedArrayList other = new BooleanLinkedArrayList(3);
+        
+        for (int i = 0; i < 49; ++i) {
+            other.add(true);
+        }
+        
+        assertEquals(list, other);
+        other.set(10, false);
+        assertFalse(list.equals(other));
+    }
+    
+    @Test(expected = ConcurrentModificationException.class)
+    public void testIteratorIsFailFast() {
+        BooleanLinkedArrayList list = new BooleanLinkedArrayList();
+        list.add(true);
+        list.add(false);
+        Iterator<Boolean> iterator = list.asList().iterator();
+        iterator.next();
+        list.add(true);
+        iterator.next();
+    }
+    
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testSelectThrowsOnMissingValue() {
+        BooleanLinkedArrayList list = new BooleanLinkedArrayList();
+        list.add(true);
+        list.add(false);
+        list.select(1);
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void testThrowsOnSmallDegree() {
+        new BooleanLinkedArrayList(1);
+    }
+    
+    private static int rank(List<Boolean> list, int index) {
+        int ret = 0;
+        
+        for (int i = 0; i < index; ++i) {
+            if (list.get(i)) {
+                ++ret;
+            }
+        }
+        
+        return ret;
+    }
+    
+    private static int select(List<Boolean> list, int k) {
+        for (int i = 0; i < list.size(); ++i) {
+            if (list.get(i) && k-- == 0) {
+                return i;
+            }
+        }
+        
+        return -1;
+    }
+}
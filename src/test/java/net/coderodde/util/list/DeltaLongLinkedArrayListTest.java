@@ -0,0 +1,206 @@
+package net.coderodde.util.list;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class DeltaLongLinkedArrayListTest {
+    
+    @Test
+    public void testBruteForce() {
+        long seed = System.currentTimeMillis();
+        System.out.println("DeltaLongLinkedArrayListTest.testBruteForce: " +
+                           "seed = " + seed);
+        Random random = new Random(seed);
+        
+        for (int degree = 2; degree < 10; ++degree) {
+            DeltaLongLinkedArrayList list =
+                    new DeltaLongLinkedArrayList(degree);
+            List<Long> test = new ArrayList<>();
+            
+            for (int op = 0; op < 3000; ++op) {
+                long value = random.nextBoolean() ?
+                             random.nextInt(1000) :
+                             random.nextLong();
+                
+                switch (random.nextInt(8)) {
+                    case 0:
+                    case 1:
+                        assertTrue(list.add(value));
+                        test.add(value);
+                        break;
+                    
+                    case 2:
+                    case 3: {
+                        int index = random.nextInt(test.size() + 1);
+                        list.add(index, value);
+                        test.add(index, value);
+                        break;
+                    }
+                    
+                    case 4:
+                        if (!test.isEmpty()) {
+                            int index = random.nextInt(test.size());
+                            assertEquals((long) test.remove(index),
+                                         list.removeAt(index));
+                        }
+                        
+                        break;
+                    
+                    case 5:
+                        if (!test.isEmpty()) {
+                            int index = random.nextInt(test.size());
+                            assertEquals((long) test.set(index, value),
+                                         list.set(index, value));
+                        }
+                        
+                        break;
+                    
+                    case 6: {
+                        PrimitiveIterator.OfLong iterator = list.iterator();
+                        Iterator<Long> testIterator = test.iterator();
+                        
+                        while (testIterator.hasNext()) {
+                            assertEquals((long) testIterator.next(),
+                                         iterator.nextLong());
+                            
+                            switch (random.nextInt(4)) {
+                                case 0:
+                                    iterator.remove();
+                                    testIterator.remove();
+                                    break;
+                                    
+                                case 1: {
+                                    // Re-encodes a node, maybe the current.
+                                    int index = random.nextInt(test.size());
+                                    long newValue = random.nextLong();
+                                    assertEquals((long) test.set(index,
+                                                                 newValue),
+                                                 list.set(index, newValue));
+                                    break;
+                                }
+                            }
+                        }
+                        
+                        assertFalse(iterator.hasNext());
+                        break;
+                    }
+                    
+                    case 7:
+                        for (int i = 0; i < test.size(); ++i) {
+                            assertEquals((long) test.get(i), list.get(i));
+                        }
+                        
+                        break;
+                }
+                
+                list.checkHealth();
+                assertEquals(test.size(), list.size());
+                
+                if (!test.isEmpty()) {
+                    int index = random.nextInt(test.size());
+                    assertEquals((long) test.get(index), list.get(index));
+                }
+            }
+            
+            assertEquals(test, list.asList());
+            assertEquals(test.hashCode(), list.hashCode());
+            assertEquals(test.toString(), list.toString());
+        }
+    }
+    
+    @Test
+    public void testSortedIdsCompress() {
+        DeltaLongLinkedArrayList list = new DeltaLongLinkedArrayList();
+        long[] ids = new long[10000];
+        long id = 1L << 40;
+        
+        for (int i = 0; i < ids.length; ++i) {
+            id += 1 + i % 50;
+            ids[i] = id;
+        }
+        
+        assertTrue(list.addAll(ids));
+        list.checkHealth();
+        assertArrayEquals(ids, list.toArray());
+        // Each delta is below 64, so its zig-zag code fits in one byte.
+        int nodes = (ids.length + list.getDegree() - 1) / list.getDegree();
+        assertEquals(ids.length - nodes, list.encodedLength());
+        assertEquals(sum(ids), list.stream().sum());
+        assertEquals(ids.length - 1, list.indexOf(id));
+        assertFalse(list.contains(0L));
+        
+        DeltaLongLinkedArrayList other = new DeltaLongLinkedArrayList(5);
+        other.addAll(ids);
+        assertEquals(list, other);
+        other.set(500, 0L);
+        assertFalse(list.equals(other));
+    }
+    
+    @Test
+    public void testSetDuringIteration() {
+        DeltaLongLinkedArrayList list = new DeltaLongLinkedArrayList(8);
+        
+        for (long i = 0; i < 8; ++i) {
+            list.add(i);
+        }
+        
+        PrimitiveIterator.OfLong iterator = list.iterator();
+        assertEquals(0L, iterator.nextLong());
+        assertEquals(1L, iterator.nextLong());
+        assertEquals(2L, iterator.nextLong());
+        list.set(1, 1_000_000_000_000L);
+        
+        for (long i = 3; i < 8; ++i) {
+            assertEquals(i, iterator.nextLong());
+        }
+        
+        assertFalse(iterator.hasNext());
+        
+        List<Long> seen = new ArrayList<>();
+        list.forEach(value -> {
+            seen.add(value);
+            list.set(7, -1L);
+        });
+        
+        assertEquals(-1L, (long) seen.get(7));
+        assertEquals(1_000_000_000_000L, (long) seen.get(1));
+    }
+    
+    @Test(expected = ConcurrentModificationException.class)
+    public void testIteratorIsFailFast() {
+        DeltaLongLinkedArrayList list = new DeltaLongLinkedArrayList();
+        list.addAll(1L, 2L, 3L);
+        PrimitiveIterator.OfLong iterator = list.iterator();
+        iterator.nextLong();
+        list.add(4L);
+        iterator.nextLong();
+    }
+    
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetThrowsOnBadIndex() {
+        DeltaLongLinkedArrayList list = new DeltaLongLinkedArrayList();
+        list.add(1L);
+        list.get(1);
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void testThrowsOnSmallDegree() {
+        new DeltaLongLinkedArrayList(1);
+    }
+    
+    private static long sum(long[] values) {
+        long ret = 0L;
+        
+        for (long value : values) {
+            ret += value;
+        }
+        
+        return ret;
+    }
+}
@@ -0,0 +1,48 @@
+package net.coderodde.util.list;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class DoubleLinkedArrayListTest {
+    
+    @Test
+    public void testBruteForce() {
+        long seed = System.currentTimeMillis();
+        System.out.println("DoubleLinkedArrayListTest.testBruteForce: " + 
+                           "seed = " + seed);
+        Random random = new Random(seed);
+        DoubleLinkedArrayList list = new DoubleLinkedArrayList(5);
+        List<Double> test = new ArrayList<>();
+        
+        for (int op = 0; op < 5000; ++op) {
+            double value = random.nextInt(30) / 4.0;
+            int index = random.nextInt(test.size() + 1);
+            
+            if (random.nextBoolean()) {
+                list.add(index, value);
+                test.add(index, value);
+            } else {
+                assertEquals(test.remove((Double) value), 
+                             list.removeValue(value));
+            }
+            
+            list.checkHealth();
+        }
+        
+        assertEquals(test, list.asList());
+        assertEquals(test.hashCode(), list.hashCode());
+    }
+    
+    @Test
+    public void testEqualityFollowsBoxedValues() {
+        DoubleLinkedArrayList list = new DoubleLinkedArrayList();
+        list.addAll(Double.NaN, 0.0);
+        // As with Double.equals, NaN equals NaN and -0.0 differs from 0.0.
+        assertEquals(0, list.indexOf(Double.NaN));
+        assertEquals(-1, list.indexOf(-0.0));
+        assertTrue(list.asList().contains(Double.NaN));
+    }
+}
@@ -0,0 +1,223 @@
+package net.coderodde.util.list;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class IntLinkedArrayListTest {
+    
+    @Test
+    public void testBruteForce() {
+        long seed = System.currentTimeMillis();
+        System.out.println("IntLinkedArrayListTest.testBruteForce: seed = " + 
+                           seed);
+        Random random = new Random(seed);
+        
+        for (int degree = 2; degree < 10; ++degree) {
+            IntLinkedArrayList list = new IntLinkedArrayList(degree);
+            List<Integer> test = new ArrayList<>();
+            
+            for (int op = 0; op < 3000; ++op) {
+                int value = random.nextInt(50);
+                
+                switch (random.nextInt(9)) {
+                    case 0:
+                    case 1:
+                        assertTrue(list.add(value));
+                        test.add(value);
+                        break;
+                        
+                    case 2:
+                    case 3: {
+                        int index = random.nextInt(test.size() + 1);
+                        list.add(index, value);
+                        test.add(index, value);
+                        break;
+                    }
+                    
+                    case 4:
+                        if (!test.isEmpty()) {
+                            int index = random.nextInt(test.size());
+                            assertEquals((int) test.remove(index), 
+                                         list.removeAt(index));
+                        }
+                        
+                        break;
+                        
+                    case 5:
+                        assertEquals(test.remove((Integer) value), 
+                                     list.removeValue(value));
+                        break;
+                        
+                    case 6:
+                        if (!test.isEmpty()) {
+                            int index = random.nextInt(test.size());
+                            assertEquals((int) test.set(index, value), 
+                                         list.set(index, value));
+                        }
+                        
+                        break;
+                        
+                    case 7: {
+                        PrimitiveIterator.OfInt iterator = list.iterator();
+                        Iterator<Integer> testIterator = test.iterator();
+                        
+                        while (testIterator.hasNext()) {
+                            assertEquals((int) testIterator.next(), 
+                                         iterator.nextInt());
+                            
+                            if (random.nextInt(3) == 0) {
+                                iterator.remove();
+                                testIterator.remove();
+                            }
+                        }
+                        
+                        assertFalse(iterator.hasNext());
+                        break;
+                    }
+                    
+                    case 8:
+                        assertEquals(test.indexOf(value), list.indexOf(value));
+                        assertEquals(test.lastIndexOf(value), 
+                                     list.lastIndexOf(value));
+                        break;
+                }
+                
+                list.checkHealth();
+                assertEquals(test.size(), list.size());
+                
+                if (!test.isEmpty()) {
+                    int index = random.nextInt(test.size());
+                    assertEquals((int) test.get(index), list.get(index));
+                }
+            }
+            
+            assertEquals(test, list.asList());
+            assertEquals(test.hashCode(), list.hashCode());
+            assertEquals(test.toString(), list.toString());
+        }
+    }
+    
+    @Test
+    public void testBulkOperations() {
+        IntLinkedArrayList list = new IntLinkedArrayList(8);
+        int[] values = new int[100];
+        
+        for (int i = 0; i < values.length; ++i) {
+            values[i] = i;
+        }
+        
+        assertFalse(list.addAll());
+        assertTrue(list.addAll(values));
+        list.checkHealth();
+        assertArrayEquals(values, list.toArray());
+        assertEquals(4950, list.stream().sum());
+        
+        int[] sum = new int[1];
+        list.forEach(value -> sum[0] += value);
+        assertEquals(4950, sum[0]);
+        
+        IntLinkedArrayList other = new IntLinkedArrayList(3);
+        other.addAll(values);
+        assertEquals(list, other);
+        other.set(50, -1);
+        assertFalse(list.equals(other));
+        
+        list.clear();
+        list.checkHealth();
+        assertTrue(list.isEmpty());
+        assertEquals(0, list.toArray().length);
+    }
+    
+    @Test
+    public void testSpliterator() {
+        for (int size : new int[]{ 0, 1, 7, 100, 1001 }) {
+            IntLinkedArrayList list = new IntLinkedArrayList(8);
+            
+            for (int i = 0; i < size; ++i) {
+                list.add(i);
+            }
+            
+            List<Integer> collected = new ArrayList<>();
+            split(list.spliterator(), collected);
+            assertEquals(list.asList(), collected);
+            assertEquals(list.asList(), 
+                         list.stream()
+                             .parallel()
+                             .boxed()
+                             .collect(Collectors.toList()));
+            
+            Spliterator.OfInt spliterator = list.spliterator();
+            assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+            assertEquals(size, spliterator.getExactSizeIfKnown());
+        }
+    }
+    
+    private static void split(Spliterator.OfInt spliterator, 
+                              List<Integer> collected) {
+        long size = spliterator.estimateSize();
+        Spliterator.OfInt prefix = spliterator.trySplit();
+        
+        if (prefix == null) {
+            spliterator.forEachRemaining((int value) -> collected.add(value));
+            return;
+        }
+        
+        assertEquals(size, prefix.estimateSize() + spliterator.estimateSize());
+        assertTrue(prefix.estimateSize() > 0);
+        assertTrue(spliterator.estimateSize() > 0);
+        split(prefix, collected);
+        split(spliterator, collected);
+    }
+    
+    @Test
+    public void testBoxedView() {
+        IntLinkedArrayList list = new IntLinkedArrayList(4);
+        List<Integer> view = list.asList();
+        
+        for (int i = 0; i < 20; ++i) {
+            view.add(i);
+        }
+        
+        view.add(0, -1);
+        assertEquals(21, list.size());
+        assertEquals(-1, list.get(0));
+        assertEquals(Integer.valueOf(19), view.remove(20));
+        assertEquals(5, view.indexOf(4));
+        assertEquals(-1, view.indexOf("4"));
+        assertTrue(view.contains(10));
+        view.subList(0, 10).clear();
+        list.checkHealth();
+        assertEquals(10, list.size());
+        assertEquals(9, list.get(0));
+    }
+    
+    @Test(expected = ConcurrentModificationException.class)
+    public void testIteratorIsFailFast() {
+        IntLinkedArrayList list = new IntLinkedArrayList();
+        list.addAll(1, 2, 3);
+        PrimitiveIterator.OfInt iterator = list.iterator();
+        iterator.nextInt();
+        list.add(4);
+        iterator.nextInt();
+    }
+    
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetThrowsOnBadIndex() {
+        IntLinkedArrayList list = new IntLinkedArrayList();
+        list.add(1);
+        list.get(1);
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void testThrowsOnSmallDegree() {
+        new IntLinkedArrayList(1);
+    }
+}
@@ -1,8 +1,10 @@
 package net.coderodde.util.list;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.ConcurrentModificationException;
 import java.util.Deque;
 import java.util.HashSet;
@@ -13,7 +15,10 @@ import java.util.ListIterator;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Random;
+import java.util.Set;
+import java.util.Spliterator;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 import org.junit.Test;
 import static org.junit.Assert.*;
 import org.junit.Before;
@@ -85,6 +90,460 @@ public class LinkedArrayListTest {
         assertEquals(new Integer(13), list.get(3));
     }
 
+    @Test
+    public void testAdaptiveDegree() {
+        LinkedArrayList<Integer> list = 
+                new LinkedArrayList<>(4, 256, LinkedArrayList.NodeType.TRIVIAL);
+        assertTrue(list.isAdaptive());
+        assertEquals(4, list.getDegree());
+        
+        for (int i = 0; i < 100000; ++i) {
+            list.add(i);
+        }
+        
+        list.checkHealth();
+        assertEquals(256, list.getDegree());
+        assertTrue(list.getNodeCount() < 100000 / 64);
+        
+        // Middle insertions grow the small nodes instead of splitting them.
+        int nodeCount = list.getNodeCount();
+        
+        for (int i = 0; i < 100; ++i) {
+            list.add(5, i);
+        }
+        
+        assertEquals(nodeCount, list.getNodeCount());
+        list.checkHealth();
+        
+        // Shrink the list; the nodes touched by removals are re-chunked.
+        while (list.size() > 100) {
+            list.remove(list.size() / 2);
+        }
+        
+        list.checkHealth();
+        assertEquals(8, list.getDegree());
+        
+        list.clear();
+        assertEquals(4, list.getDegree());
+        assertFalse(new LinkedArrayList<>(4, 4, 
+                        LinkedArrayList.NodeType.TRIVIAL).isAdaptive());
+    }
+    
+    @Test
+    public void testAdaptiveDegreeBruteForce() {
+        long seed = System.currentTimeMillis();
+        System.out.println("testAdaptiveDegreeBruteForce: seed = " + seed);
+        Random random = new Random(seed);
+        
+        for (LinkedArrayList.SplitPolicy policy : 
+                LinkedArrayList.SplitPolicy.values()) {
+            LinkedArrayList<Integer> list = 
+                    new LinkedArrayList<>(2, 16, 
+                                          LinkedArrayList.NodeType.TRIVIAL);
+            list.setSplitPolicy(policy);
+            
+            for (int i = 0; i < 300; ++i) {
+                list.add(random.nextInt(50));
+            }
+            
+            bruteForce(list, random, 3000);
+        }
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void testAdaptiveDegreeThrowsOnBadRange() {
+        new LinkedArrayList<>(8, 4, LinkedArrayList.NodeType.TRIVIAL);
+    }    
+    
+    @Test
+    public void testTiered() {
+        LinkedArrayList<Integer> list =
+                new LinkedArrayList<>(5, LinkedArrayList.NodeType.TIERED);
+        List<Integer> test = new ArrayList<>();
+        // The degree is rounded up to a power of two.
+        assertEquals(8, list.getDegree());
+        
+        for (int i = 0; i < 100; ++i) {
+            list.add(i / 2, i);
+            test.add(i / 2, i);
+            list.addFirst(-i);
+            test.add(0, -i);
+        }
+        
+        list.checkHealth();
+        assertEquals(test, list);
+        assertEquals(200 / 8, list.getNodeCount());
+        
+        for (int i = 0; i < 50; ++i) {
+            assertEquals(test.remove(i), list.remove(i));
+        }
+        
+        list.checkHealth();
+        assertEquals(test, list);
+        
+        for (int i = 0; i < test.size(); ++i) {
+            assertEquals(test.get(i), list.get(i));
+        }
+    }
+    
+    @Test
+    public void testTieredBruteForce() {
+        long seed = System.currentTimeMillis();
+        System.out.println("testTieredBruteForce: seed = " + seed);
+        Random random = new Random(seed);
+        
+        for (int degree = 2; degree <= 8; degree *= 2) {
+            bruteForce(new LinkedArrayList<>(degree,
+                                             LinkedArrayList.NodeType.TIERED),
+                       random,
+                       3000);
+        }
+    }
+    
+    @Test
+    public void testGapBruteForce() {
+        long seed = System.currentTimeMillis();
+        System.out.println("testGapBruteForce: seed = " + seed);
+        Random random = new Random(seed);
+        
+        for (int degree = 2; degree < 7; ++degree) {
+            bruteForce(new LinkedArrayList<>(degree,
+                                             LinkedArrayList.NodeType.GAP),
+                       random,
+                       2000);
+        }
+    }
+    
+    @Test
+    public void testBulkMovesBruteForce() {
+        long seed = System.currentTimeMillis();
+        System.out.println("testBulkMovesBruteForce: seed = " + seed);
+        Random random = new Random(seed);
+        
+        // Larger degrees make the ring and gap moves span wrapping ranges.
+        for (LinkedArrayList.NodeType nodeType :
+                LinkedArrayList.NodeType.values()) {
+            for (int degree : new int[]{ 16, 64 }) {
+                bruteForce(new LinkedArrayList<>(degree, nodeType),
+                           random,
+                           2000);
+            }
+        }
+    }
+    
+    @Test
+    public void testSpliceAddAllBruteForce() {
+        long seed = System.currentTimeMillis();
+        System.out.println("testSpliceAddAllBruteForce: seed = " + seed);
+        Random random = new Random(seed);
+        
+        for (LinkedArrayList.NodeType nodeType :
+                LinkedArrayList.NodeType.values()) {
+            for (int degree : new int[]{ 2, 5, 16 }) {
+                LinkedArrayList<Integer> list = 
+                        new LinkedArrayList<>(degree, nodeType);
+                List<Integer> test = new ArrayList<>();
+                
+                for (int op = 0; op < 100; ++op) {
+                    // Inserts spanning from a single node to several nodes.
+                    List<Integer> toAdd = new ArrayList<>();
+                    
+                    for (int i = random.nextInt(5 * degree) + 1; i > 0; --i) {
+                        toAdd.add(random.nextInt(1000));
+                    }
+                    
+                    int index = random.nextInt(test.size() + 1);
+                    assertTrue(list.addAll(index, toAdd));
+                    test.addAll(index, toAdd);
+                    list.checkHealth();
+                    assertEquals(test, list);
+                    
+                    if (random.nextBoolean() && !test.isEmpty()) {
+                        int fromIndex = random.nextInt(test.size());
+                        int toIndex = fromIndex + 
+                                random.nextInt(test.size() - fromIndex + 1);
+                        list.removeRange(fromIndex, toIndex);
+                        test.subList(fromIndex, toIndex).clear();
+                        list.checkHealth();
+                    }
+                }
+                
+                assertFalse(list.addAll(0, new ArrayList<Integer>()));
+                bruteForce(list, random, 200);
+            }
+        }
+    }
+    
+    @Test
+    public void testTransferBruteForce() {
+        long seed = System.currentTimeMillis();
+        System.out.println("testTransferBruteForce: seed = " + seed);
+        Random random = new Random(seed);
+        
+        for (LinkedArrayList.NodeType nodeType :
+                LinkedArrayList.NodeType.values()) {
+            List<List<LinkedArrayList<Integer>>> pairs = new ArrayList<>();
+            pairs.add(Arrays.asList(new LinkedArrayList<>(4, nodeType),
+                                    new LinkedArrayList<>(4, nodeType)));
+            // Incompatible lists fall back to copying.
+            pairs.add(Arrays.asList(new LinkedArrayList<>(4, nodeType),
+                                    new LinkedArrayList<>(16, nodeType)));
+            pairs.add(Arrays.asList(new LinkedArrayList<>(8, nodeType, true),
+                                    new LinkedArrayList<>(8, nodeType)));
+            
+            if (nodeType != LinkedArrayList.NodeType.TIERED) {
+                pairs.add(Arrays.asList(
+                        new LinkedArrayList<>(2, 32, nodeType),
+                        new LinkedArrayList<>(4, 16, nodeType)));
+            }
+            
+            for (List<LinkedArrayList<Integer>> pair : pairs) {
+                List<List<Integer>> tests = Arrays.asList(new ArrayList<>(),
+                                                          new ArrayList<>());
+                
+                for (int op = 0; op < 300; ++op) {
+                    int src = random.nextInt(2);
+                    LinkedArrayList<Integer> list = pair.get(src);
+                    LinkedArrayList<Integer> other = pair.get(1 - src);
+                    List<Integer> test = tests.get(src);
+                    List<Integer> otherTest = tests.get(1 - src);
+                    
+                    switch (random.nextInt(5)) {
+                        case 0:
+                        case 1:
+                            for (int i = random.nextInt(40); i > 0; --i) {
+                                Integer element = random.nextInt(100);
+                                int index = random.nextInt(test.size() + 1);
+                                list.add(index, element);
+                                test.add(index, element);
+                            }
+                            
+                            break;
+                            
+                        case 2: {
+                            int fromIndex = random.nextInt(test.size() + 1);
+                            int toIndex = fromIndex + 
+                                    random.nextInt(test.size() - fromIndex + 1);
+                            list.transferTo(other, fromIndex, toIndex);
+                            List<Integer> range = 
+                                    test.subList(fromIndex, toIndex);
+                            otherTest.addAll(range);
+                            range.clear();
+                            break;
+                        }
+                        
+                        case 3:
+                            list.append(other);
+                            test.addAll(otherTest);
+                            otherTest.clear();
+                            break;
+                            
+                        case 4: {
+                            int index = random.nextInt(test.size() + 1);
+                            LinkedArrayList<Integer> suffix = 
+                                    list.splitAt(index);
+                            List<Integer> range = 
+                                    test.subList(index, test.size());
+                            assertEquals(range, suffix);
+                            assertEquals(list.getNodeType(), 
+                                         suffix.getNodeType());
+                            assertEquals(list.isIndexed(), 
+                                         suffix.isIndexed());
+                            suffix.checkHealth();
+                            list.checkHealth();
+                            assertEquals(index, list.size());
+                            // Put the suffix back.
+                            list.append(suffix);
+                            assertTrue(suffix.isEmpty());
+                            suffix.checkHealth();
+                            break;
+                        }
+                    }
+                    
+                    list.checkHealth();
+                    other.checkHealth();
+                    assertEquals(test, list);
+                    assertEquals(otherTest, other);
+                }
+            }
+        }
+    }
+    
+    @Test(expected = IllegalArgumentException.class) 
+    public void testTransferToSelfThrows() {
+        LinkedArrayList<Integer> list = new LinkedArrayList<>();
+        list.add(1);
+        list.append(list);
+    }
+    
+    @Test
+    public void testCloneCopiesStructure() {
+        long seed = System.currentTimeMillis();
+        System.out.println("testCloneCopiesStructure: seed = " + seed);
+        Random random = new Random(seed);
+        List<LinkedArrayList<Integer>> lists = new ArrayList<>();
+        
+        for (LinkedArrayList.NodeType nodeType :
+                LinkedArrayList.NodeType.values()) {
+            lists.add(new LinkedArrayList<>(8, nodeType));
+            lists.add(new LinkedArrayList<>(8, nodeType, true));
+            
+            if (nodeType != LinkedArrayList.NodeType.TIERED) {
+                lists.add(new LinkedArrayList<>(2, 32, nodeType));
+            }
+        }
+        
+        for (LinkedArrayList<Integer> list : lists) {
+            bruteForce(list, random, 500);
+            LinkedArrayList<Integer> copy = 
+                    (LinkedArrayList<Integer>) list.clone();
+            copy.checkHealth();
+            assertEquals(list, copy);
+            assertEquals(list.getNodeType(), copy.getNodeType());
+            assertEquals(list.isIndexed(), copy.isIndexed());
+            assertEquals(list.isAdaptive(), copy.isAdaptive());
+            // The chunks reflect the node shapes and the ring offsets.
+            assertEquals(chunkShapes(list), chunkShapes(copy));
+            
+            // The copy is independent of the original.
+            List<Integer> test = new ArrayList<>(list);
+            bruteForce(copy, random, 200);
+            assertEquals(test, list);
+            
+            copy = new LinkedArrayList<>(copy.getDegree(), 
+                                         copy.getNodeType());
+            copy.add(-1);
+            assertEquals(!list.isEmpty(), copy.addAll(list));
+            test.add(0, -1);
+            copy.checkHealth();
+            assertEquals(test, copy);
+        }
+        
+        LinkedArrayList<Integer> list = new LinkedArrayList<>();
+        
+        for (int i = 0; i < 1000; ++i) {
+            list.add(i);
+        }
+        
+        LinkedArrayList<Integer> copy = new LinkedArrayList<>(list);
+        assertEquals(chunkShapes(list), chunkShapes(copy));
+        assertTrue(list.addAll(list));
+        list.checkHealth();
+        assertEquals(2000, list.size());
+        assertEquals(copy, list.subList(1000, 2000));
+        assertTrue(new LinkedArrayList<>().clone() instanceof LinkedArrayList);
+    }
+    
+    private static List<Integer> chunkShapes(LinkedArrayList<?> list) {
+        List<Integer> shapes = new ArrayList<>();
+        list.forEachChunk((array, offset, length) -> {
+            shapes.add(offset);
+            shapes.add(length);
+        });
+        return shapes;
+    }
+    
+    @Test
+    public void testSkipBruteForce() {
+        long seed = System.currentTimeMillis();
+        System.out.println("testSkipBruteForce: seed = " + seed);
+        Random random = new Random(seed);
+        
+        for (int degree = 2; degree < 7; ++degree) {
+            LinkedArrayList<Integer> list =
+                    new LinkedArrayList<>(degree,
+                                          LinkedArrayList.NodeType.SKIP);
+            assertTrue(list.isIndexed());
+            bruteForce(list, random, 2000);
+        }
+        
+        bruteForce(new LinkedArrayList<>(2, 16, LinkedArrayList.NodeType.SKIP),
+                   random,
+                   2000);
+    }
+    
+    @Test
+    public void testSkipLargeList() {
+        LinkedArrayList<Integer> list =
+                new LinkedArrayList<>(4, LinkedArrayList.NodeType.SKIP);
+        
+        for (int i = 0; i < 100000; ++i) {
+            list.add(i);
+        }
+        
+        list.checkHealth();
+        
+        for (int i = 0; i < 100000; i += 997) {
+            assertEquals(Integer.valueOf(i), list.get(i));
+        }
+        
+        list.removeRange(10, 99990);
+        list.checkHealth();
+        assertEquals(20, list.size());
+        assertEquals(Integer.valueOf(99990), list.get(10));
+    }
+    
+    @Test
+    public void testListIteratorEditingBruteForce() {
+        long seed = System.currentTimeMillis();
+        System.out.println("testListIteratorEditingBruteForce: seed = " +
+                           seed);
+        Random random = new Random(seed);
+        
+        for (LinkedArrayList.NodeType nodeType :
+                LinkedArrayList.NodeType.values()) {
+            LinkedArrayList<Integer> list = new LinkedArrayList<>(4, nodeType);
+            List<Integer> test = new ArrayList<>();
+            ListIterator<Integer> listIter = list.listIterator();
+            ListIterator<Integer> testIter = test.listIterator();
+            // Whether 'remove' and 'set' are allowed.
+            boolean current = false;
+            
+            for (int op = 0; op < 3000; ++op) {
+                int coin = random.nextInt(10);
+                
+                if (coin < 4) {
+                    // Bursts of insertions at the cursor.
+                    listIter.add(op);
+                    testIter.add(op);
+                    current = false;
+                } else if (coin < 6) {
+                    assertEquals(testIter.hasNext(), listIter.hasNext());
+                    
+                    if (testIter.hasNext()) {
+                        assertEquals(testIter.next(), listIter.next());
+                        current = true;
+                    }
+                } else if (coin < 8) {
+                    assertEquals(testIter.hasPrevious(),
+                                 listIter.hasPrevious());
+                    
+                    if (testIter.hasPrevious()) {
+                        assertEquals(testIter.previous(), listIter.previous());
+                        current = true;
+                    }
+                } else if (coin == 8 && current) {
+                    testIter.remove();
+                    listIter.remove();
+                    current = false;
+                } else if (current) {
+                    testIter.set(-op);
+                    listIter.set(-op);
+                }
+                
+                assertEquals(testIter.nextIndex(), listIter.nextIndex());
+            }
+            
+            list.checkHealth();
+            assertEquals(test, list);
+        }
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void testTieredThrowsOnAdaptiveDegree() {
+        new LinkedArrayList<>(4, 64, LinkedArrayList.NodeType.TIERED);
+    }
+
     @Test
     public void testAddAll_int_Collection() {
         for (int i = 0; i < 20; ++i) {
@@ -264,6 +723,111 @@ public class LinkedArrayListTest {
         
         eq(list, clone);
     }
+
+    @Test
+    public void testBulkLoad() {
+        List<Integer> test = new ArrayList<>();
+        
+        for (int i = 0; i < 1000; ++i) {
+            test.add(i);
+        }
+        
+        LinkedArrayList<Integer> loaded = new LinkedArrayList<>(test);
+        loaded.checkHealth();
+        assertEquals(test, loaded);
+        // ceil(1000 / 16) nodes.
+        assertEquals(63, loaded.getNodeCount());
+        
+        loaded = new LinkedArrayList<>(test.toArray(), 10, 42);
+        loaded.checkHealth();
+        assertEquals(test.subList(10, 42), loaded);
+        assertTrue(new LinkedArrayList<>(test.toArray(), 5, 5).isEmpty());
+        
+        for (LinkedArrayList.NodeType nodeType :
+                LinkedArrayList.NodeType.values()) {
+            loaded = LinkedArrayList.fromArray(test.toArray(new Integer[0]),
+                                               8,
+                                               nodeType);
+            loaded.checkHealth();
+            assertEquals(test, loaded);
+            assertEquals(125, loaded.getNodeCount());
+            
+            // The loaded list must remain fully functional.
+            loaded.add(500, -1);
+            loaded.remove(0);
+            loaded.checkHealth();
+            assertEquals(Integer.valueOf(-1), loaded.get(499));
+        }
+    }
+    
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testBulkLoadThrowsOnBadRange() {
+        new LinkedArrayList<>(new Object[3], 1, 4);
+    }
+    
+    @Test
+    public void testNodePool() {
+        List<LinkedArrayList<Integer>> lists = new ArrayList<>();
+        
+        for (LinkedArrayList.NodeType nodeType :
+                LinkedArrayList.NodeType.values()) {
+            lists.add(new LinkedArrayList<Integer>(4, nodeType));
+        }
+        
+        lists.add(new LinkedArrayList<Integer>(
+                4, 64, LinkedArrayList.NodeType.ADVANCED));
+        
+        for (LinkedArrayList<Integer> pooled : lists) {
+            pooled.setNodePoolCapacity(3);
+            assertEquals(3, pooled.getNodePoolCapacity());
+            ArrayDeque<Integer> queue = new ArrayDeque<>();
+            
+            for (int i = 0; i < 1000; ++i) {
+                pooled.offerLast(i);
+                queue.offerLast(i);
+                
+                if (i % 3 != 0) {
+                    assertEquals(queue.pollFirst(), pooled.pollFirst());
+                }
+                
+                assertTrue(pooled.getNodePoolSize() <= 3);
+            }
+            
+            pooled.checkHealth();
+            assertEquals(new ArrayList<>(queue), pooled);
+            assertTrue(pooled.getNodePoolHits() > 0);
+            
+            // Random edits must keep working with recycled nodes.
+            Random random = new Random(13L);
+            List<Integer> test = new ArrayList<>(pooled);
+            
+            for (int i = 0; i < 2000; ++i) {
+                if (random.nextBoolean() || test.isEmpty()) {
+                    int index = random.nextInt(test.size() + 1);
+                    test.add(index, i);
+                    pooled.add(index, i);
+                } else {
+                    int index = random.nextInt(test.size());
+                    assertEquals(test.remove(index), pooled.remove(index));
+                }
+            }
+            
+            pooled.checkHealth();
+            assertEquals(test, pooled);
+            
+            pooled.subList(10, pooled.size() - 10).clear();
+            pooled.checkHealth();
+            assertEquals(20, pooled.size());
+            
+            pooled.setNodePoolCapacity(0);
+            assertEquals(0, pooled.getNodePoolSize());
+        }
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void testNodePoolThrowsOnNegativeCapacity() {
+        list.setNodePoolCapacity(-1);
+    }
     
     @Test
     public void testContains() {
@@ -323,6 +887,56 @@ public class LinkedArrayListTest {
         assertTrue(test.containsAll(col));
     }
     
+    @Test
+    public void testContainsAllBruteForce() {
+        Random random = new Random(5L);
+        
+        for (int i = 0; i < 500; ++i) {
+            int value = random.nextInt(1000);
+            list.add(value);
+            test.add(value);
+        }
+        
+        list.add(null);
+        test.add(null);
+        
+        // Exercise the linear, probe-hashing and list-hashing strategies.
+        for (int probeCount : new int[]{ 0, 3, 50, 2000 }) {
+            for (int round = 0; round < 20; ++round) {
+                List<Integer> probes = new ArrayList<>();
+                
+                for (int i = 0; i < probeCount; ++i) {
+                    if (round < 10) {
+                        probes.add(test.get(random.nextInt(test.size())));
+                    } else {
+                        probes.add(random.nextInt(1200));
+                    }
+                }
+                
+                assertEquals(test.containsAll(probes), 
+                             list.containsAll(probes));
+            }
+        }
+    }
+    
+    @Test
+    public void testIndexOfAll() {
+        for (int i = 0; i < 100; ++i) {
+            list.add(i % 40);
+        }
+        
+        List<Integer> probes = Arrays.asList(5, 39, 40, 5, null, 0, 39);
+        assertTrue(Arrays.equals(new int[]{ 5, 39, -1, 5, -1, 0, 39 }, 
+                                 list.indexOfAll(probes)));
+        assertTrue(Arrays.equals(new boolean[]{ true, true, false, true, 
+                                                false, true, true },
+                                 list.containsEach(probes)));
+        assertEquals(0, list.indexOfAll(new ArrayList<>()).length);
+        
+        list.add(null);
+        assertEquals(100, list.indexOfAll(probes)[4]);
+    }
+    
     @Test
     public void testDequeAddFirst() {
         List<Integer> deque = new LinkedList<>();
@@ -1139,21 +1753,438 @@ public class LinkedArrayListTest {
         
         assertFalse(list.isEmpty());
         
-        list.add(9);
+        list.add(9);
+        
+        assertFalse(list.isEmpty());
+        
+        list.remove(new Integer(9));
+        
+        assertFalse(list.isEmpty());
+        
+        list.remove(new Integer(3));
+        
+        assertFalse(list.isEmpty());
+        
+        list.remove(new Integer(1));
+        
+        assertTrue(list.isEmpty());
+    }
+    
+    @Test
+    public void testSpliterator() {
+        List<Integer> test = new ArrayList<>();
+        
+        for (int i = 0; i < 5000; ++i) {
+            test.add(i);
+        }
+        
+        List<LinkedArrayList<Integer>> lists = new ArrayList<>();
+        
+        for (LinkedArrayList.NodeType nodeType :
+                LinkedArrayList.NodeType.values()) {
+            lists.add(new LinkedArrayList<Integer>(8, nodeType));
+        }
+        
+        lists.add(new LinkedArrayList<Integer>(
+                8, LinkedArrayList.NodeType.ADVANCED, true));
+        
+        for (LinkedArrayList<Integer> l : lists) {
+            assertFalse(l.spliterator().tryAdvance(x -> fail()));
+            
+            // Build the list with insertions so that the nodes are not full.
+            Random random = new Random(7L);
+            
+            for (int i = 0; i < test.size(); ++i) {
+                l.add(random.nextInt(l.size() + 1), 0);
+            }
+            
+            for (int i = 0; i < test.size(); ++i) {
+                l.set(i, i);
+            }
+            
+            Spliterator<Integer> spliterator = l.spliterator();
+            assertTrue(spliterator.hasCharacteristics(Spliterator.SUBSIZED));
+            assertEquals(test.size(), spliterator.getExactSizeIfKnown());
+            
+            List<Integer> result = new ArrayList<>();
+            split(spliterator, result, random);
+            assertEquals(test, result);
+            
+            assertEquals(test.stream().mapToLong(x -> x).sum(),
+                         l.parallelStream().mapToLong(x -> x).sum());
+            assertEquals(test, 
+                         l.parallelStream().collect(Collectors.toList()));
+            
+            try {
+                l.spliterator().forEachRemaining(x -> l.add(x));
+                fail("A concurrent modification should be detected.");
+            } catch (ConcurrentModificationException ex) {
+                
+            }
+        }
+    }
+    
+    @Test
+    public void testTrySplitAfterAdvancingToNodeEnd() {
+        List<LinkedArrayList<Integer>> lists = new ArrayList<>();
+        
+        for (LinkedArrayList.NodeType nodeType :
+                LinkedArrayList.NodeType.values()) {
+            lists.add(new LinkedArrayList<Integer>(4, nodeType));
+        }
+        
+        lists.add(new LinkedArrayList<Integer>(
+                4, LinkedArrayList.NodeType.TRIVIAL, true));
+        
+        for (LinkedArrayList<Integer> l : lists) {
+            for (int i = 0; i < 12; ++i) {
+                l.add(i);
+            }
+            
+            for (int advanced = 0; advanced <= l.size(); ++advanced) {
+                Spliterator<Integer> spliterator = l.spliterator();
+                List<Integer> result = new ArrayList<>();
+                
+                for (int i = 0; i < advanced; ++i) {
+                    assertTrue(spliterator.tryAdvance(result::add));
+                }
+                
+                // The spliterator may now sit at the end of a node.
+                long size = spliterator.estimateSize();
+                Spliterator<Integer> prefix = spliterator.trySplit();
+                
+                if (prefix == null) {
+                    assertTrue(size < 2);
+                } else {
+                    assertTrue(prefix.estimateSize() > 0);
+                    assertTrue(spliterator.estimateSize() > 0);
+                    prefix.forEachRemaining(result::add);
+                }
+                
+                spliterator.forEachRemaining(result::add);
+                assertEquals(l, result);
+            }
+        }
+    }
+    
+    @Test
+    public void testConcurrentTrySplit() throws InterruptedException {
+        long seed = System.currentTimeMillis();
+        System.out.println("testConcurrentTrySplit: seed = " + seed);
+        List<LinkedArrayList<Integer>> lists = new ArrayList<>();
+        lists.add(new LinkedArrayList<Integer>(
+                4, LinkedArrayList.NodeType.SKIP));
+        lists.add(new LinkedArrayList<Integer>(
+                4, LinkedArrayList.NodeType.TRIVIAL, true));
+        
+        for (LinkedArrayList<Integer> l : lists) {
+            long expectedSum = 0;
+            
+            for (int i = 0; i < 5000; ++i) {
+                l.add(i);
+                expectedSum += i;
+            }
+            
+            long sum = expectedSum;
+            List<Throwable> errors = Collections.synchronizedList(
+                    new ArrayList<Throwable>());
+            Thread[] threads = new Thread[8];
+            
+            for (int t = 0; t < threads.length; ++t) {
+                Random random = new Random(seed + t);
+                threads[t] = new Thread(() -> {
+                    try {
+                        for (int round = 0; round < 1000; ++round) {
+                            List<Integer> result = new ArrayList<>();
+                            split(l.spliterator(), result, random);
+                            long actualSum = 0;
+                            
+                            for (int x : result) {
+                                actualSum += x;
+                            }
+                            
+                            assertEquals(sum, actualSum);
+                            assertEquals(l, result);
+                        }
+                    } catch (Throwable ex) {
+                        errors.add(ex);
+                    }
+                });
+            }
+            
+            for (Thread thread : threads) {
+                thread.start();
+            }
+            
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            
+            assertEquals(Collections.emptyList(), errors);
+        }
+    }
+    
+    /**
+     * Recursively splits {@code spliterator}, checking the reported sizes, and
+     * appends the elements of the leaves to {@code result} in order.
+     */
+    private static void split(Spliterator<Integer> spliterator, 
+                              List<Integer> result,
+                              Random random) {
+        long size = spliterator.estimateSize();
+        Spliterator<Integer> prefix = spliterator.trySplit();
+        
+        if (prefix == null) {
+            assertTrue(size < 2);
+        } else {
+            assertTrue(prefix.estimateSize() > 0);
+            assertTrue(spliterator.estimateSize() > 0);
+            assertEquals(size, 
+                         prefix.estimateSize() + spliterator.estimateSize());
+            
+            if (random.nextInt(4) != 0) {
+                split(prefix, result, random);
+                split(spliterator, result, random);
+                return;
+            }
+            
+            prefix.forEachRemaining(result::add);
+        }
+        
+        // Mix single steps with the bulk traversal.
+        if (spliterator.tryAdvance(result::add)) {
+            spliterator.forEachRemaining(result::add);
+        }
+        
+        assertFalse(spliterator.tryAdvance(result::add));
+    }
+    
+    @Test
+    public void testCursorBruteForce() {
+        long seed = System.currentTimeMillis();
+        System.out.println("testCursorBruteForce: seed = " + seed);
+        Random random = new Random(seed);
+        
+        for (LinkedArrayList.NodeType nodeType :
+                LinkedArrayList.NodeType.values()) {
+            for (int degree : new int[]{ 2, 5, 16 }) {
+                LinkedArrayList<Integer> list = 
+                        new LinkedArrayList<>(degree, nodeType);
+                List<Integer> test = new ArrayList<>();
+                LinkedArrayList<Integer>.Cursor cursor = list.cursor();
+                int index = 0;
+                
+                for (int op = 0; op < 3000; ++op) {
+                    switch (random.nextInt(6)) {
+                        case 0:
+                            index = random.nextInt(test.size() + 1);
+                            assertSame(cursor, cursor.seek(index));
+                            break;
+                            
+                        case 1: {
+                            int target = random.nextInt(test.size() + 1);
+                            cursor.move(target - index);
+                            index = target;
+                            break;
+                        }
+                        
+                        case 2:
+                        case 3: {
+                            Integer element = random.nextInt(100);
+                            cursor.insert(element);
+                            test.add(index, element);
+                            break;
+                        }
+                        
+                        case 4:
+                            if (index < test.size()) {
+                                assertEquals(test.remove(index), 
+                                             cursor.remove());
+                            }
+                            
+                            break;
+                            
+                        case 5:
+                            if (index < test.size()) {
+                                Integer element = random.nextInt(100);
+                                assertEquals(test.set(index, element),
+                                             cursor.set(element));
+                            }
+                            
+                            break;
+                    }
+                    
+                    list.checkHealth();
+                    assertEquals(index, cursor.index());
+                    assertEquals(index < test.size(), cursor.hasElement());
+                    
+                    if (index < test.size()) {
+                        assertEquals(test.get(index), cursor.get());
+                    }
+                }
+                
+                assertEquals(test, list);
+            }
+        }
+    }
+    
+    @Test
+    public void testCursor() {
+        LinkedArrayList<Integer> list = new LinkedArrayList<>(4);
+        LinkedArrayList<Integer>.Cursor cursor = list.cursor();
+        assertFalse(cursor.hasElement());
+        
+        try {
+            cursor.get();
+            fail("The cursor should be at the end.");
+        } catch (NoSuchElementException ex) {
+            
+        }
         
-        assertFalse(list.isEmpty());
+        for (int i = 0; i < 100; ++i) {
+            list.add(i);
+        }
         
-        list.remove(new Integer(9));
+        cursor.reset();
+        assertEquals(Integer.valueOf(37), cursor.move(37).get());
+        assertEquals(Integer.valueOf(99), cursor.move(62).get());
+        assertFalse(cursor.move(1).hasElement());
+        assertEquals(Integer.valueOf(0), cursor.move(-100).get());
         
-        assertFalse(list.isEmpty());
+        try {
+            cursor.move(-1);
+            fail("The cursor should not move before the beginning.");
+        } catch (IndexOutOfBoundsException ex) {
+            
+        }
         
-        list.remove(new Integer(3));
+        try {
+            cursor.seek(101);
+            fail("The cursor should not move past the end.");
+        } catch (IndexOutOfBoundsException ex) {
+            
+        }
         
-        assertFalse(list.isEmpty());
+        list.add(100);
         
-        list.remove(new Integer(1));
+        try {
+            cursor.get();
+            fail("The cursor should detect the concurrent modification.");
+        } catch (ConcurrentModificationException ex) {
+            
+        }
         
-        assertTrue(list.isEmpty());
+        assertEquals(Integer.valueOf(0), cursor.reset().get());
+        assertEquals(Integer.valueOf(50), list.cursor(50).get());
+    }
+    
+    @Test
+    public void testListIteratorPositioning() {
+        for (LinkedArrayList.NodeType nodeType :
+                LinkedArrayList.NodeType.values()) {
+            LinkedArrayList<Integer> list = new LinkedArrayList<>(8, nodeType);
+            
+            for (int i = 0; i < 1000; ++i) {
+                list.add(i);
+            }
+            
+            for (int index = 0; index <= 1000; index += 7) {
+                ListIterator<Integer> iterator = list.listIterator(index);
+                assertEquals(index, iterator.nextIndex());
+                
+                if (index < 1000) {
+                    assertEquals(Integer.valueOf(index), iterator.next());
+                }
+                
+                if (index > 0) {
+                    iterator = list.listIterator(index);
+                    assertEquals(Integer.valueOf(index - 1), 
+                                 iterator.previous());
+                }
+            }
+            
+            try {
+                list.listIterator(1001);
+                fail("The index should be out of bounds.");
+            } catch (IndexOutOfBoundsException ex) {
+                
+            }
+        }
+    }
+    
+    @Test
+    public void testChunks() {
+        for (LinkedArrayList.NodeType nodeType :
+                LinkedArrayList.NodeType.values()) {
+            LinkedArrayList<Integer> l = new LinkedArrayList<>(8, nodeType);
+            List<Object> chunked = new ArrayList<>();
+            l.forEachChunk((array, offset, length) -> fail());
+            assertFalse(l.chunkIterator().next());
+            
+            Random random = new Random(17L);
+            
+            // Random edits at both ends and in the middle make the ring and
+            // gap nodes split their elements in two chunks.
+            for (int i = 0; i < 2000; ++i) {
+                switch (random.nextInt(4)) {
+                    case 0:
+                        l.addFirst(i);
+                        break;
+                        
+                    case 1:
+                        l.add(random.nextInt(l.size() + 1), i);
+                        break;
+                        
+                    case 2:
+                        l.addLast(i);
+                        break;
+                        
+                    default:
+                        if (!l.isEmpty()) {
+                            l.remove(random.nextInt(l.size()));
+                        }
+                }
+            }
+            
+            l.forEachChunk((array, offset, length) -> {
+                assertTrue(length > 0);
+                chunked.addAll(Arrays.asList(array).subList(offset, 
+                                                            offset + length));
+            });
+            
+            assertEquals(l, chunked);
+            
+            chunked.clear();
+            LinkedArrayList<Integer>.ChunkIterator iterator = 
+                    l.chunkIterator();
+            
+            while (iterator.next()) {
+                chunked.addAll(Arrays.asList(iterator.array())
+                                     .subList(iterator.offset(), 
+                                              iterator.offset() + 
+                                              iterator.length()));
+            }
+            
+            assertEquals(l, chunked);
+            assertFalse(iterator.next());
+            
+            try {
+                iterator.length();
+                fail("There should be no current chunk.");
+            } catch (IllegalStateException ex) {
+                
+            }
+            
+            iterator = l.chunkIterator();
+            l.add(0);
+            
+            try {
+                iterator.next();
+                fail("A concurrent modification should be detected.");
+            } catch (ConcurrentModificationException ex) {
+                
+            }
+        }
     }
     
     @Test
@@ -1201,6 +2232,143 @@ public class LinkedArrayListTest {
         eq();
     }
     
+    @Test
+    public void testFillFactorAfterMassRemoval() {
+        long seed = System.currentTimeMillis();
+        System.out.println("testFillFactorAfterMassRemoval: seed = " + seed);
+        Random random = new Random(seed);
+        LinkedArrayList<Integer> list = 
+                new LinkedArrayList<>(16, LinkedArrayList.NodeType.TRIVIAL);
+        List<Integer> test = new ArrayList<>();
+        
+        for (int i = 0; i < 2000; ++i) {
+            list.add(i);
+            test.add(i);
+        }
+        
+        // remove(int)
+        for (int i = 0; i < 500; ++i) {
+            int index = random.nextInt(test.size());
+            assertEquals(test.remove(index), list.remove(index));
+        }
+        
+        list.checkHealth();
+        eq(list, test);
+        
+        // Iterator.remove()
+        Iterator<Integer> listIterator = list.iterator();
+        Iterator<Integer> testIterator = test.iterator();
+        
+        while (testIterator.hasNext()) {
+            assertEquals(testIterator.next(), listIterator.next());
+            
+            if (random.nextInt(3) != 0) {
+                listIterator.remove();
+                testIterator.remove();
+            }
+        }
+        
+        list.checkHealth();
+        eq(list, test);
+        
+        // ListIterator.remove()
+        ListIterator<Integer> listListIterator = list.listIterator(list.size());
+        ListIterator<Integer> testListIterator = test.listIterator(test.size());
+        
+        while (testListIterator.hasPrevious()) {
+            assertEquals(testListIterator.previous(), 
+                         listListIterator.previous());
+            
+            if (random.nextBoolean()) {
+                listListIterator.remove();
+                testListIterator.remove();
+            }
+        }
+        
+        list.checkHealth();
+        eq(list, test);
+        
+        // removeAll(Collection)
+        Set<Integer> toRemove = new HashSet<>();
+        
+        for (Integer i : test) {
+            if (random.nextBoolean()) {
+                toRemove.add(i);
+            }
+        }
+        
+        assertEquals(test.removeAll(toRemove), list.removeAll(toRemove));
+        list.checkHealth();
+        eq(list, test);
+    }
+    
+    @Test
+    public void testFingersOnClusteredAccess() {
+        long seed = System.currentTimeMillis();
+        System.out.println("testFingersOnClusteredAccess: seed = " + seed);
+        Random random = new Random(seed);
+        
+        for (boolean indexed : new boolean[]{ false, true }) {
+            LinkedArrayList<Integer> list = 
+                    new LinkedArrayList<>(4, 
+                                          LinkedArrayList.NodeType.TRIVIAL, 
+                                          indexed);
+            List<Integer> test = new ArrayList<>();
+            
+            for (int i = 0; i < 500; ++i) {
+                list.add(i);
+                test.add(i);
+            }
+            
+            int cursor = 250;
+            
+            for (int op = 0; op < 5000; ++op) {
+                cursor += random.nextInt(9) - 4;
+                cursor = Math.max(0, Math.min(test.size() - 1, cursor));
+                
+                switch (random.nextInt(6)) {
+                    case 0:
+                        list.add(cursor, op);
+                        test.add(cursor, op);
+                        break;
+                        
+                    case 1:
+                        assertEquals(test.remove(cursor), list.remove(cursor));
+                        break;
+                        
+                    case 2:
+                        list.add(op);
+                        test.add(op);
+                        break;
+                        
+                    default:
+                        assertEquals(test.get(cursor), list.get(cursor));
+                }
+            }
+            
+            list.checkHealth();
+            eq(list, test);
+        }
+    }
+    
+    @Test
+    public void testIndexedListBruteForce() {
+        long seed = System.currentTimeMillis();
+        System.out.println("testIndexedListBruteForce: seed = " + seed);
+        Random random = new Random(seed);
+        
+        for (int degree = 2; degree < 7; ++degree) {
+            LinkedArrayList<Integer> indexedList = 
+                    new LinkedArrayList<>(degree, 
+                                          LinkedArrayList.NodeType.TRIVIAL,
+                                          true);
+            assertTrue(indexedList.isIndexed());
+            bruteForce(indexedList, random, 2000);
+        }
+        
+        assertFalse(list.isIndexed());
+    }
+    
     @Test
     public void testIteratorBruteForce() {
         final long mySeed = 0L;
@@ -2412,6 +3580,162 @@ public class LinkedArrayListTest {
         eq();
     }
     
+    @Test
+    public void testInternalIterationBruteForce() {
+        List<LinkedArrayList<Integer>> lists = new ArrayList<>();
+        
+        for (LinkedArrayList.NodeType nodeType :
+                LinkedArrayList.NodeType.values()) {
+            lists.add(new LinkedArrayList<Integer>(8, nodeType));
+        }
+        
+        lists.add(new LinkedArrayList<Integer>(
+                4, 64, LinkedArrayList.NodeType.GAP));
+        
+        for (LinkedArrayList<Integer> l : lists) {
+            Random random = new Random(11L);
+            List<Integer> test = new ArrayList<>();
+            
+            for (int round = 0; round < 30; ++round) {
+                // Grow with random insertions so that the node layouts vary.
+                for (int i = 0; i < 200; ++i) {
+                    int index = random.nextInt(test.size() + 1);
+                    int value = random.nextInt(1000);
+                    test.add(index, value);
+                    l.add(index, value);
+                }
+                
+                List<Integer> visited = new ArrayList<>();
+                l.forEach(visited::add);
+                assertEquals(test, visited);
+                
+                int delta = random.nextInt(10);
+                test.replaceAll(x -> x + delta);
+                l.replaceAll(x -> x + delta);
+                assertEquals(test, l);
+                
+                int modulus = 2 + random.nextInt(4);
+                assertEquals(test.removeIf(x -> x % modulus == 0),
+                             l.removeIf(x -> x % modulus == 0));
+                l.checkHealth();
+                assertEquals(test, l);
+                
+                // Mix stepping with the bulk traversal of the iterators.
+                int skip = random.nextInt(test.size() + 1);
+                Iterator<Integer> iterator = l.iterator();
+                ListIterator<Integer> listIterator = l.listIterator();
+                visited.clear();
+                
+                for (int i = 0; i < skip; ++i) {
+                    visited.add(iterator.next());
+                    listIterator.next();
+                }
+                
+                iterator.forEachRemaining(visited::add);
+                assertEquals(test, visited);
+                
+                visited.clear();
+                listIterator.forEachRemaining(visited::add);
+                assertEquals(test.subList(skip, test.size()), visited);
+                
+                if (!test.isEmpty()) {
+                    // The last traversed element remains the current one.
+                    listIterator.remove();
+                    test.remove(test.size() - 1);
+                    l.checkHealth();
+                    assertEquals(test, l);
+                }
+            }
+        }
+    }
+    
+    @Test
+    public void testBulkRemovalPacksNodes() {
+        for (LinkedArrayList.NodeType nodeType :
+                LinkedArrayList.NodeType.values()) {
+            for (boolean indexed : new boolean[]{ false, true }) {
+                if (nodeType == LinkedArrayList.NodeType.SKIP && !indexed) {
+                    continue;
+                }
+                
+                LinkedArrayList<Integer> l = 
+                        new LinkedArrayList<>(8, nodeType, indexed);
+                List<Integer> test = new ArrayList<>();
+                Random random = new Random(3L);
+                
+                for (int i = 0; i < 3000; ++i) {
+                    int index = random.nextInt(test.size() + 1);
+                    test.add(index, i);
+                    l.add(index, i);
+                }
+                
+                Set<Integer> removed = new HashSet<>();
+                
+                for (int i = 0; i < 3000; ++i) {
+                    if (i % 10 != 0) {
+                        removed.add(i);
+                    }
+                }
+                
+                assertTrue(l.removeAll(removed));
+                test.removeAll(removed);
+                l.checkHealth();
+                assertEquals(test, l);
+                // All the nodes but the last one are full.
+                assertEquals(38, l.getNodeCount());
+                
+                List<Integer> kept = new ArrayList<>(test.subList(100, 200));
+                assertFalse(l.retainAll(test));
+                assertTrue(l.retainAll(kept));
+                test.retainAll(kept);
+                l.checkHealth();
+                assertEquals(test, l);
+                assertEquals(13, l.getNodeCount());
+                
+                assertTrue(l.removeIf(x -> true));
+                l.checkHealth();
+                assertTrue(l.isEmpty());
+                assertEquals(1, l.getNodeCount());
+            }
+        }
+    }
+    
+    @Test
+    public void testRemoveIfWithThrowingFilter() {
+        for (int i = 0; i < 100; ++i) {
+            list.add(i);
+        }
+        
+        try {
+            list.removeIf(x -> {
+                if (x == 50) {
+                    throw new IllegalStateException();
+                }
+                
+                return x % 2 == 0;
+            });
+            
+            fail("The filter should throw.");
+        } catch (IllegalStateException ex) {
+            
+        }
+        
+        list.checkHealth();
+        assertEquals(75, list.size());
+        assertEquals(Integer.valueOf(49), list.get(24));
+        assertEquals(Integer.valueOf(50), list.get(25));
+        assertEquals(Integer.valueOf(99), list.get(74));
+    }
+    
+    @Test(expected = ConcurrentModificationException.class)
+    public void testForEachDetectsConcurrentModification() {
+        for (int i = 0; i < 100; ++i) {
+            list.add(i);
+        }
+        
+        list.forEach(x -> list.add(x));
+    }
+    
     @Test
     public void testRemoveAll() {
         for (int i = 0; i < 20; ++i) {
@@ -5207,6 +6531,48 @@ public class LinkedArrayListTest {
         eq();
     }
 
+    @Test
+    public void testSplitPoliciesBruteForce() {
+        long seed = System.currentTimeMillis();
+        System.out.println("testSplitPoliciesBruteForce: seed = " + seed);
+        Random random = new Random(seed);
+        
+        for (LinkedArrayList.SplitPolicy policy : 
+                LinkedArrayList.SplitPolicy.values()) {
+            for (int degree = 2; degree < 7; ++degree) {
+                LinkedArrayList<Integer> list = 
+                        new LinkedArrayList<>(degree, 
+                                              LinkedArrayList.NodeType.TRIVIAL);
+                list.setSplitPolicy(policy);
+                assertEquals(policy, list.getSplitPolicy());
+                bruteForce(list, random, 1000);
+            }
+        }
+    }
+    
+    @Test
+    public void testRedistributeRaisesFillFactor() {
+        Random random = new Random(13L);
+        int[] nodeCounts = new int[LinkedArrayList.SplitPolicy.values().length];
+        
+        for (LinkedArrayList.SplitPolicy policy : 
+                LinkedArrayList.SplitPolicy.values()) {
+            LinkedArrayList<Integer> list = 
+                    new LinkedArrayList<>(16, LinkedArrayList.NodeType.TRIVIAL);
+            list.setSplitPolicy(policy);
+            
+            for (int i = 0; i < 5000; ++i) {
+                list.add(random.nextInt(list.size() + 1), i);
+            }
+            
+            list.checkHealth();
+            nodeCounts[policy.ordinal()] = list.getNodeCount();
+        }
+        
+        assertTrue(nodeCounts[LinkedArrayList.SplitPolicy.REDISTRIBUTE.ordinal()]
+                 < nodeCounts[LinkedArrayList.SplitPolicy.HALF_SPLIT.ordinal()]);
+    }
+    
     @Test
     public void testToArray_0args() {
         for (int i = 0; i < 20; ++i) {
@@ -5319,6 +6685,131 @@ public class LinkedArrayListTest {
         list.checkHealth();
     }
     
+    /**
+     * Applies {@code operations} random operations to both {@code list} and
+     * an {@code ArrayList}, checking that they agree and that {@code list} 
+     * stays healthy.
+     */
+    private void bruteForce(LinkedArrayList<Integer> list, 
+                            Random random, 
+                            int operations) {
+        List<Integer> test = new ArrayList<>(list);
+        
+        for (int op = 0; op < operations; ++op) {
+            int coin = random.nextInt(14);
+            Integer element = random.nextInt(50);
+            
+            switch (coin) {
+                case 0:
+                case 1:
+                    list.add(element);
+                    test.add(element);
+                    break;
+                    
+                case 2:
+                case 3: {
+                    int index = random.nextInt(test.size() + 1);
+                    list.add(index, element);
+                    test.add(index, element);
+                    break;
+                }
+                
+                case 4: {
+                    List<Integer> toAdd = new ArrayList<>();
+                    
+                    for (int i = random.nextInt(15); i > 0; --i) {
+                        toAdd.add(random.nextInt(50));
+                    }
+                    
+                    int index = random.nextInt(test.size() + 1);
+                    assertEquals(test.addAll(index, toAdd), 
+                                 list.addAll(index, toAdd));
+                    break;
+                }
+                
+                case 5:
+                    list.addFirst(element);
+                    test.add(0, element);
+                    break;
+                    
+                case 6:
+                    assertEquals(test.isEmpty() ? null : test.remove(0),
+                                 list.pollFirst());
+                    break;
+                    
+                case 7:
+                    assertEquals(test.isEmpty() ? 
+                                 null : 
+                                 test.remove(test.size() - 1),
+                                 list.pollLast());
+                    break;
+                    
+                case 8:
+                case 9:
+                    if (!test.isEmpty()) {
+                        int index = random.nextInt(test.size());
+                        assertEquals(test.remove(index), list.remove(index));
+                    }
+                    
+                    break;
+                    
+                case 10:
+                    assertEquals(test.remove(element), list.remove(element));
+                    break;
+                    
+                case 11:
+                    if (!test.isEmpty()) {
+                        int fromIndex = random.nextInt(test.size());
+                        int toIndex = fromIndex + 
+                                random.nextInt(Math.min(20, test.size() 
+                                                            - fromIndex) + 1);
+                        list.removeRange(fromIndex, toIndex);
+                        test.subList(fromIndex, toIndex).clear();
+                    }
+                    
+                    break;
+                    
+                case 12: {
+                    Iterator<Integer> listIterator = list.iterator();
+                    Iterator<Integer> testIterator = test.iterator();
+                    
+                    while (testIterator.hasNext()) {
+                        assertEquals(testIterator.next(), listIterator.next());
+                        
+                        if (random.nextInt(4) == 0) {
+                            listIterator.remove();
+                            testIterator.remove();
+                        }
+                    }
+                    
+                    break;
+                }
+                
+                case 13:
+                    if (!test.isEmpty()) {
+                        int index = random.nextInt(test.size());
+                        assertEquals(test.set(index, element), 
+                                     list.set(index, element));
+                    }
+                    
+                    break;
+            }
+            
+            list.checkHealth();
+            assertEquals(test.size(), list.size());
+            
+            if (!test.isEmpty()) {
+                int index = random.nextInt(test.size());
+                assertEquals(test.get(index), list.get(index));
+            }
+        }
+        
+        eq(list, test);
+        list.clear();
+        list.checkHealth();
+        assertTrue(list.isEmpty());
+    }
+    
     private void eq(List<Integer> list, List<Integer> test) {
         assertEquals(list.size(), test.size());
         
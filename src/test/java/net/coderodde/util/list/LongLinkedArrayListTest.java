@@ -0,0 +1,41 @@
+package net.coderodde.util.list;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class LongLinkedArrayListTest {
+    
+    @Test
+    public void testBruteForce() {
+        long seed = System.currentTimeMillis();
+        System.out.println("LongLinkedArrayListTest.testBruteForce: seed = " + 
+                           seed);
+        Random random = new Random(seed);
+        LongLinkedArrayList list = new LongLinkedArrayList(4);
+        List<Long> test = new ArrayList<>();
+        
+        for (int op = 0; op < 5000; ++op) {
+            long value = Long.MAX_VALUE - random.nextInt(30);
+            int index = random.nextInt(test.size() + 1);
+            
+            if (random.nextBoolean()) {
+                list.add(index, value);
+                test.add(index, value);
+            } else if (index < test.size()) {
+                assertEquals((long) test.remove(index), list.removeAt(index));
+            }
+            
+            list.checkHealth();
+        }
+        
+        assertEquals(test, list.asList());
+        assertEquals(test.hashCode(), list.hashCode());
+        assertEquals(test.stream().mapToLong(Long::longValue).sum(), 
+                     list.stream().sum());
+        assertEquals(test.indexOf(Long.MAX_VALUE), 
+                     list.indexOf(Long.MAX_VALUE));
+    }
+}
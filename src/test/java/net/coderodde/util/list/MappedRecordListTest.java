@@ -0,0 +1,207 @@
+package net.coderodde.util.list;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class MappedRecordListTest {
+    
+    /**
+     * Lays out a {@code long[]} pair as two longs.
+     */
+    private static final RecordCodec<long[]> CODEC =
+            new RecordCodec<long[]>() {
+        
+        @Override
+        public int recordSize() {
+            return 16;
+        }
+        
+        @Override
+        public void write(long[] record, ByteBuffer buffer, int offset) {
+            buffer.putLong(offset, record[0]);
+            buffer.putLong(offset + 8, record[1]);
+        }
+        
+        @Override
+        public long[] read(ByteBuffer buffer, int offset) {
+            return new long[]{ buffer.getLong(offset),
+                               buffer.getLong(offset + 8) };
+        }
+    };
+    
+    private Path file;
+    
+    @Before
+    public void before() throws IOException {
+        file = Files.createTempFile("MappedRecordListTest", ".bin");
+    }
+    
+    @After
+    public void after() throws IOException {
+        Files.deleteIfExists(file);
+    }
+    
+    @Test
+    public void testBruteForce() throws IOException {
+        long seed = System.currentTimeMillis();
+        System.out.println("MappedRecordListTest.testBruteForce: seed = " +
+                           seed);
+        Random random = new Random(seed);
+        List<Long> test = new ArrayList<>();
+        
+        // 64-byte pages hold 3 records, 128-byte pages 7 records. The small
+        // segments make the pages span many of them.
+        for (int[] sizes : new int[][]{ { 64, 1024 },
+                                        { 128, MappedRecordList.SEGMENT_SIZE },
+                                        { 128, 200 } }) {
+            int pageSize = sizes[0];
+            int segmentSize = sizes[1];
+            Files.deleteIfExists(file);
+            test.clear();
+            MappedRecordList<long[]> list =
+                    new MappedRecordList<>(file, CODEC, pageSize, segmentSize);
+            
+            for (int op = 0; op < 3000; ++op) {
+                long value = random.nextLong();
+                
+                switch (random.nextInt(7)) {
+                    case 0:
+                    case 1:
+                        assertTrue(list.add(record(value)));
+                        test.add(value);
+                        break;
+                    
+                    case 2:
+                    case 3: {
+                        int index = random.nextInt(test.size() + 1);
+                        list.add(index, record(value));
+                        test.add(index, value);
+                        break;
+                    }
+                    
+                    case 4:
+                        if (!test.isEmpty()) {
+                            int index = random.nextInt(test.size());
+                            assertEquals((long) test.remove(index),
+                                         list.removeAt(index)[0]);
+                        }
+                        
+                        break;
+                    
+                    case 5:
+                        if (!test.isEmpty()) {
+                            int index = random.nextInt(test.size());
+                            assertEquals((long) test.set(index, value),
+                                         list.set(index, record(value))[0]);
+                        }
+                        
+                        break;
+                    
+                    case 6:
+                        if (random.nextInt(20) == 0) {
+                            // Reopen the file.
+                            list.close();
+                            list = new MappedRecordList<>(file,
+                                                          CODEC,
+                                                          pageSize,
+                                                          segmentSize);
+                        }
+                        
+                        break;
+                }
+                
+                list.checkHealth();
+                assertEquals(test.size(), list.size());
+                
+                if (!test.isEmpty()) {
+                    int index = random.nextInt(test.size());
+                    long[] record = list.get(index);
+                    assertEquals((long) test.get(index), record[0]);
+                    assertEquals(~record[0], record[1]);
+                }
+            }
+            
+            list.close();
+            list = new MappedRecordList<>(file, CODEC, pageSize, segmentSize);
+            list.checkHealth();
+            assertEquals(test.size(), list.size());
+            
+            for (int i = 0; i < test.size(); ++i) {
+                assertEquals((long) test.get(i), list.get(i)[0]);
+            }
+            
+            list.close();
+        }
+    }
+    
+    @Test
+    public void testReusesFreePages() throws IOException {
+        try (MappedRecordList<long[]> list =
+                new MappedRecordList<>(file, CODEC, 64)) {
+            for (int i = 0; i < 300; ++i) {
+                list.add(record(i));
+            }
+            
+            int pageCount = list.getPageCount();
+            list.clear();
+            list.checkHealth();
+            assertTrue(list.isEmpty());
+            
+            for (int i = 0; i < 300; ++i) {
+                list.add(record(i));
+            }
+            
+            list.force();
+            list.checkHealth();
+            assertEquals(pageCount, list.getPageCount());
+            // The segment is mapped only as far as the pages reach.
+            assertTrue(Files.size(file) <= 2L * 64 * pageCount);
+            assertEquals(299L, list.get(299)[0]);
+        }
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void testThrowsOnMismatchingPageSize() throws IOException {
+        new MappedRecordList<>(file, CODEC, 128).close();
+        new MappedRecordList<>(file, CODEC, 256);
+    }
+    
+    @Test(expected = IOException.class)
+    public void testThrowsOnForeignFile() throws IOException {
+        Files.write(file, new byte[4096]);
+        new MappedRecordList<>(file, CODEC);
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void testThrowsOnSmallPage() throws IOException {
+        // The 48 bytes after the page header hold only one 40-byte record.
+        new MappedRecordList<>(file, new RecordCodec<long[]>() {
+            
+            @Override
+            public int recordSize() {
+                return 40;
+            }
+            
+            @Override
+            public void write(long[] record, ByteBuffer buffer, int offset) {}
+            
+            @Override
+            public long[] read(ByteBuffer buffer, int offset) {
+                return null;
+            }
+        }, 64);
+    }
+    
+    private static long[] record(long value) {
+        return new long[]{ value, ~value };
+    }
+}
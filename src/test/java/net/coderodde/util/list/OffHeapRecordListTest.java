@@ -0,0 +1,269 @@
+package net.coderodde.util.list;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class OffHeapRecordListTest {
+    
+    private static final class Sample {
+        
+        final long timestamp;
+        final int id;
+        final double value;
+        
+        Sample(long timestamp, int id, double value) {
+            this.timestamp = timestamp;
+            this.id = id;
+            this.value = value;
+        }
+        
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Sample)) {
+                return false;
+            }
+            
+            Sample other = (Sample) o;
+            return timestamp == other.timestamp
+                    && id == other.id
+                    && Double.compare(value, other.value) == 0;
+        }
+        
+        @Override
+        public int hashCode() {
+            return Objects.hash(timestamp, id, value);
+        }
+        
+        @Override
+        public String toString() {
+            return "(" + timestamp + ", " + id + ", " + value + ")";
+        }
+    }
+    
+    private static final int TIMESTAMP = 0;
+    private static final int ID = 8;
+    private static final int VALUE = 12;
+    
+    private static final RecordCodec<Sample> CODEC =
+            new RecordCodec<Sample>() {
+        
+        @Override
+        public int recordSize() {
+            return 20;
+        }
+        
+        @Override
+        public void write(Sample record, ByteBuffer buffer, int offset) {
+            buffer.putLong(offset + TIMESTAMP, record.timestamp);
+            buffer.putInt(offset + ID, record.id);
+            buffer.putDouble(offset + VALUE, record.value);
+        }
+        
+        @Override
+        public Sample read(ByteBuffer buffer, int offset) {
+            return new Sample(buffer.getLong(offset + TIMESTAMP),
+                              buffer.getInt(offset + ID),
+                              buffer.getDouble(offset + VALUE));
+        }
+    };
+    
+    @Test
+    public void testBruteForce() {
+        long seed = System.currentTimeMillis();
+        System.out.println("OffHeapRecordListTest.testBruteForce: seed = " +
+                           seed);
+        Random random = new Random(seed);
+        
+        for (int degree = 2; degree < 10; ++degree) {
+            OffHeapRecordList<Sample> list =
+                    new OffHeapRecordList<>(CODEC, degree);
+            List<Sample> test = new ArrayList<>();
+            
+            for (int op = 0; op < 3000; ++op) {
+                Sample sample = new Sample(random.nextLong(),
+                                           random.nextInt(),
+                                           random.nextDouble());
+                
+                switch (random.nextInt(6)) {
+                    case 0:
+                    case 1:
+                        assertTrue(list.add(sample));
+                        test.add(sample);
+                        break;
+                    
+                    case 2:
+                    case 3: {
+                        int index = random.nextInt(test.size() + 1);
+                        list.add(index, sample);
+                        test.add(index, sample);
+                        break;
+                    }
+                    
+                    case 4:
+                        if (!test.isEmpty()) {
+                            int index = random.nextInt(test.size());
+                            assertEquals(test.remove(index),
+                                         list.removeAt(index));
+                        }
+                        
+                        break;
+                    
+                    case 5:
+                        if (!test.isEmpty()) {
+                            int index = random.nextInt(test.size());
+                            assertEquals(test.set(index, sample),
+                                         list.set(index, sample));
+                        }
+                        
+                        break;
+                }
+                
+                list.checkHealth();
+                assertEquals(test.size(), list.size());
+                
+                if (!test.isEmpty()) {
+                    int index = random.nextInt(test.size());
+                    assertEquals(test.get(index), list.get(index));
+                }
+            }
+            
+            List<Sample> collected = new ArrayList<>();
+            list.forEach(view -> collected.add(view.get()));
+            assertEquals(test, collected);
+            
+            // Every slab is either owned by a node or back in the arena.
+            SlabArena arena = list.getArena();
+            int nodes = (test.size() + degree - 1) / degree;
+            assertTrue(arena.getSlabCount() - arena.getFreeSlabCount()
+                       >= Math.max(1, nodes));
+            list.clear();
+            list.checkHealth();
+            assertEquals(1, arena.getSlabCount() - arena.getFreeSlabCount());
+        }
+    }
+    
+    @Test
+    public void testRecordView() {
+        OffHeapRecordList<Sample> list = new OffHeapRecordList<>(CODEC, 4);
+        
+        for (int i = 0; i < 100; ++i) {
+            list.add(new Sample(1000L * i, i, i / 2.0));
+        }
+        
+        OffHeapRecordList<Sample>.RecordView view = list.view(0);
+        
+        for (int i = 0; i < list.size(); ++i) {
+            view.moveTo(i);
+            assertEquals(i, view.index());
+            assertEquals(1000L * i, view.getLong(TIMESTAMP));
+            assertEquals(i, view.getInt(ID));
+            assertEquals(i / 2.0, view.getDouble(VALUE), 0.0);
+        }
+        
+        long[] sum = new long[1];
+        list.forEach(v -> sum[0] += v.getInt(ID));
+        assertEquals(4950L, sum[0]);
+    }
+    
+    @Test
+    public void testForEachWithMovingAction() {
+        OffHeapRecordList<Sample> list = new OffHeapRecordList<>(CODEC, 4);
+        
+        for (int i = 0; i < 20; ++i) {
+            list.add(new Sample(i, i, i));
+        }
+        
+        List<Integer> ids = new ArrayList<>();
+        
+        list.forEach(v -> {
+            assertEquals(v.index(), v.getInt(ID));
+            ids.add(v.getInt(ID));
+            v.moveTo(17);
+        });
+        
+        assertEquals(20, ids.size());
+        
+        for (int i = 0; i < ids.size(); ++i) {
+            assertEquals(i, (int) ids.get(i));
+        }
+    }
+    
+    @Test(expected = ConcurrentModificationException.class)
+    public void testViewGoesStale() {
+        OffHeapRecordList<Sample> list = new OffHeapRecordList<>(CODEC);
+        list.add(new Sample(1L, 2, 3.0));
+        OffHeapRecordList<Sample>.RecordView view = list.view(0);
+        list.removeAt(0);
+        view.getLong(TIMESTAMP);
+    }
+    
+    @Test
+    public void testSharedArenaReusesSlabs() {
+        SlabArena arena = new SlabArena(4 * CODEC.recordSize(), 8);
+        OffHeapRecordList<Sample> a = new OffHeapRecordList<>(CODEC, 4, arena);
+        OffHeapRecordList<Sample> b = new OffHeapRecordList<>(CODEC, 4, arena);
+        
+        for (int i = 0; i < 40; ++i) {
+            a.add(new Sample(i, i, i));
+        }
+        
+        // Ten slabs for 'a' and one for the head node of 'b'.
+        int slabCount = arena.getSlabCount();
+        assertEquals(11, slabCount);
+        a.clear();
+        assertEquals(9, arena.getFreeSlabCount());
+        
+        for (int i = 0; i < 40; ++i) {
+            b.add(new Sample(i, i, i));
+        }
+        
+        assertEquals(slabCount, arena.getSlabCount());
+        assertEquals(0, arena.getFreeSlabCount());
+        b.checkHealth();
+        assertEquals(new Sample(39, 39, 39), b.get(39));
+    }
+    
+    @Test
+    public void testFreeReturnsAllSlabs() {
+        SlabArena arena = new SlabArena(4 * CODEC.recordSize(), 8);
+        OffHeapRecordList<Sample> a = new OffHeapRecordList<>(CODEC, 4, arena);
+        OffHeapRecordList<Sample> b = new OffHeapRecordList<>(CODEC, 4, arena);
+        
+        for (int i = 0; i < 40; ++i) {
+            a.add(new Sample(i, i, i));
+            b.add(new Sample(i, i, i));
+        }
+        
+        a.free();
+        b.free();
+        b.free();
+        assertTrue(a.isEmpty());
+        assertEquals(arena.getSlabCount(), arena.getFreeSlabCount());
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void testThrowsOnUseAfterFree() {
+        OffHeapRecordList<Sample> list = new OffHeapRecordList<>(CODEC);
+        list.add(new Sample(1, 1, 1));
+        list.free();
+        list.add(new Sample(2, 2, 2));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void testThrowsOnMismatchingArena() {
+        new OffHeapRecordList<>(CODEC, 4, new SlabArena(64));
+    }
+    
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetThrowsOnBadIndex() {
+        OffHeapRecordList<Sample> list = new OffHeapRecordList<>(CODEC);
+        list.add(new Sample(1L, 2, 3.0));
+        list.get(1);
+    }
+}